@@ -0,0 +1,73 @@
+package jgraph.benchmarks;
+
+import jgraph.AllPairsShortestPaths;
+import jgraph.Graph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Вимірювання алгоритму Флойда-Воршелла.
+ * Через кубічну складність використовуються менші графи, ніж в інших вимірюваннях
+ */
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AllPairsBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SmallGraphState {
+
+        @Param({"128", "512"})
+        public int size;
+
+        @Param({"4", "16"})
+        public int degree;
+
+        @Param({"ERDOS_RENYI", "GRID"})
+        public Topology topology;
+
+        @Param({"true", "false"})
+        public boolean directed;
+
+        @Param({"CSR", "DENSE"})
+        public StorageKind storage;
+
+        public Graph graph;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            graph = GraphGenerators.generate(topology, size, degree, directed, storage, GraphState.SEED);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            GraphState.close(graph);
+        }
+    }
+
+    @Benchmark
+    public double[][] floydWarshall(SmallGraphState state) {
+        return state.graph.floydWarshall();
+    }
+
+    @Benchmark
+    public AllPairsShortestPaths floydWarshallWithPaths(SmallGraphState state) {
+        return state.graph.floydWarshall(true);
+    }
+}
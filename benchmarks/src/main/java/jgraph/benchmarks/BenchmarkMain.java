@@ -0,0 +1,35 @@
+package jgraph.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Точка входу зібраного {@code benchmarks.jar}.
+ * Приймає ті ж аргументи, що й стандартний запуск JMH, і завжди додає профілювальник
+ * {@code gc}, тому звіт містить пропускну здатність, середній час виконання
+ * та швидкість виділення пам'яті. Результати записуються у {@code jmh-result.json},
+ * щоб їх можна було порівнювати між версіями:
+ * <pre>
+ * mvn -B package
+ * java -jar benchmarks/target/benchmarks.jar ShortestPath -p size=4096
+ * </pre>
+ */
+
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .build();
+        new Runner(options).run();
+    }
+}
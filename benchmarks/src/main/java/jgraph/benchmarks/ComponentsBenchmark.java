@@ -0,0 +1,79 @@
+package jgraph.benchmarks;
+
+import jgraph.NonOrderedGraph;
+import jgraph.OrderedGraph;
+import jgraph.SpanningTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Вимірювання пошуку компонент зв'язності та мінімального кістякового дерева.
+ * Для орієнтованих графів шукаються компоненти сильної та слабкої зв'язності,
+ * для неорієнтованих - компоненти зв'язності та кістякове дерево
+ */
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComponentsBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class UndirectedState {
+
+        @Param({"1024", "4096"})
+        public int size;
+
+        @Param({"4", "16"})
+        public int degree;
+
+        @Param({"ERDOS_RENYI", "RMAT", "GRID"})
+        public Topology topology;
+
+        @Param({"CSR", "DENSE"})
+        public StorageKind storage;
+
+        public NonOrderedGraph graph;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            graph = (NonOrderedGraph) GraphGenerators.generate(topology, size, degree, false, storage, GraphState.SEED);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            GraphState.close(graph);
+        }
+    }
+
+    @Benchmark
+    public void components(GraphState state, Blackhole blackhole) {
+        if (state.graph instanceof OrderedGraph) {
+            OrderedGraph graph = (OrderedGraph) state.graph;
+            blackhole.consume(graph.stronglyConnectedComponents());
+            blackhole.consume(graph.weaklyConnectedComponents());
+        } else {
+            blackhole.consume(((NonOrderedGraph) state.graph).connectedComponents());
+        }
+    }
+
+    @Benchmark
+    public SpanningTree minimumSpanningTree(UndirectedState state) {
+        return state.graph.minimumSpanningEdges();
+    }
+}
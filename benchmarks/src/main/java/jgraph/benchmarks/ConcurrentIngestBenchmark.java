@@ -0,0 +1,92 @@
+package jgraph.benchmarks;
+
+import jgraph.ConcurrentNonOrderedGraph;
+import jgraph.ConcurrentOrderedGraph;
+import jgraph.Graph;
+import jgraph.NonOrderedGraph;
+import jgraph.OrderedGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Вимірювання одночасного додавання ребер з кількох потоків.
+ * Конкурентні графи порівнюються зі звичайним графом за одним спільним блокуванням.
+ * Кількість потоків задається параметром JMH {@code -t}:
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar ConcurrentIngest -t 8
+ * </pre>
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentIngestBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class IngestState {
+
+        @Param({"65536"})
+        public int size;
+
+        @Param({"true", "false"})
+        public boolean directed;
+
+        @Param({"true", "false"})
+        public boolean concurrent;
+
+        public Graph graph;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            if (concurrent) {
+                graph = directed ? new ConcurrentOrderedGraph(size) : new ConcurrentNonOrderedGraph(size);
+            } else {
+                graph = directed ? new OrderedGraph(StorageKind.CSR.create(size))
+                        : new NonOrderedGraph(StorageKind.CSR.create(size));
+            }
+            graph.getCache().setBudget(0);
+            for (int v = 0; v < size; v++) {
+                graph.addVertex((char) v);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class WriterState {
+        public SplittableRandom random;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            random = new SplittableRandom(GraphState.SEED + Thread.currentThread().threadId());
+        }
+    }
+
+    @Benchmark
+    public void addEdge(IngestState state, WriterState writer) {
+        int start = writer.random.nextInt(state.size);
+        int end = writer.random.nextInt(state.size);
+        double weight = 1 + writer.random.nextInt(GraphGenerators.MAX_WEIGHT);
+        if (state.concurrent) {
+            state.graph.addEdge(start, end, weight);
+        } else {
+            synchronized (state.graph) {
+                state.graph.addEdge(start, end, weight);
+            }
+        }
+    }
+}
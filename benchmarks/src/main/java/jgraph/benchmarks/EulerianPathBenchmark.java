@@ -0,0 +1,98 @@
+package jgraph.benchmarks;
+
+import jgraph.Graph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Вимірювання пошуку ейлерового та гамільтонового шляхів на циркулянтних графах,
+ * які гарантовано містять обидва шляхи
+ */
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EulerianPathBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class EulerianState {
+
+        @Param({"1024", "4096"})
+        public int size;
+
+        @Param({"4", "16"})
+        public int degree;
+
+        @Param({"true", "false"})
+        public boolean directed;
+
+        @Param({"CSR", "DENSE"})
+        public StorageKind storage;
+
+        public Graph graph;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            graph = GraphGenerators.eulerian(size, degree, directed, storage, GraphState.SEED);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            GraphState.close(graph);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class HamiltonianState {
+
+        @Param({"16", "20", "256"})
+        public int size;
+
+        @Param({"4"})
+        public int degree;
+
+        @Param({"true", "false"})
+        public boolean directed;
+
+        @Param({"CSR"})
+        public StorageKind storage;
+
+        public Graph graph;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            graph = GraphGenerators.eulerian(size, degree, directed, storage, GraphState.SEED);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            GraphState.close(graph);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> getEulerianPath(EulerianState state) {
+        return state.graph.getEulerianPath();
+    }
+
+    @Benchmark
+    public List<Integer> getHamiltonPath(HamiltonianState state) {
+        return state.graph.getHamiltonPath();
+    }
+}
@@ -0,0 +1,180 @@
+package jgraph.benchmarks;
+
+import jgraph.Graph;
+import jgraph.GraphStorage;
+import jgraph.NonOrderedGraph;
+import jgraph.OrderedGraph;
+
+import java.util.SplittableRandom;
+
+/**
+ * Детерміновані генератори синтетичних графів для вимірювань.
+ * Однакові параметри та зерно завжди дають однаковий граф,
+ * тому результати різних версій бібліотеки можна порівнювати між собою.
+ * Ваги ребер - цілі числа від 1 до {@link #MAX_WEIGHT}.
+ * Кеш згенерованих графів вимкнено, щоб повторні запити вимірювали самі алгоритми
+ */
+
+public final class GraphGenerators {
+
+    /**
+     * Найбільша вага згенерованого ребра
+     */
+
+    public static final int MAX_WEIGHT = 100;
+
+    private GraphGenerators() {
+    }
+
+    /**
+     * Створює граф заданої моделі
+     * @param topology модель графа
+     * @param n кількість вершин
+     * @param degree кількість випадкових ребер на вершину (не використовується для решітки)
+     * @param directed {@code true} для {@link OrderedGraph}, {@code false} для {@link NonOrderedGraph}
+     * @param storage вид сховища ребер
+     * @param seed зерно генератора випадкових чисел
+     * @return згенерований граф
+     */
+
+    public static Graph generate(Topology topology, int n, int degree, boolean directed,
+                                 StorageKind storage, long seed) {
+        Graph graph = emptyGraph(n, directed, storage);
+        SplittableRandom random = new SplittableRandom(seed);
+        switch (topology) {
+            case ERDOS_RENYI:
+                erdosRenyi(graph, n, degree, random);
+                break;
+            case RMAT:
+                rmat(graph, n, degree, random);
+                break;
+            case GRID:
+                grid(graph, n, random);
+                break;
+            case DAG:
+                dag(graph, n, degree, random);
+                break;
+        }
+
+        return graph;
+    }
+
+    /**
+     * Створює циркулянтний граф, у якому вершина {@code v} з'єднана з вершинами
+     * {@code v + 1, ..., v + k} за модулем {@code n}, де {@code k = max(1, degree / 2)},
+     * а номери вершин випадково переставлені. Такий граф завжди ейлерів
+     * і містить гамільтонів цикл
+     * @param n кількість вершин
+     * @param degree середній степінь вершини
+     * @param directed {@code true} для {@link OrderedGraph}, {@code false} для {@link NonOrderedGraph}
+     * @param storage вид сховища ребер
+     * @param seed зерно генератора випадкових чисел
+     * @return згенерований граф
+     */
+
+    public static Graph eulerian(int n, int degree, boolean directed, StorageKind storage, long seed) {
+        Graph graph = emptyGraph(n, directed, storage);
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] label = permutation(n, random);
+        int k = Math.max(1, Math.min(degree / 2, (n - 1) / 2));
+        for (int v = 0; v < n; v++) {
+            for (int step = 1; step <= k; step++) {
+                graph.addEdge(label[v], label[(v + step) % n], weight(random));
+            }
+        }
+
+        return graph;
+    }
+
+    private static Graph emptyGraph(int n, boolean directed, StorageKind storage) {
+        GraphStorage edges = storage.create(n);
+        Graph graph = directed ? new OrderedGraph(edges) : new NonOrderedGraph(edges);
+        graph.getCache().setBudget(0);
+        for (int v = 0; v < n; v++) {
+            graph.addVertex((char) v);
+        }
+
+        return graph;
+    }
+
+    private static void erdosRenyi(Graph graph, int n, int degree, SplittableRandom random) {
+        long edges = (long) n * degree;
+        for (long i = 0; i < edges; i++) {
+            int start = random.nextInt(n);
+            int end = random.nextInt(n);
+            if (start != end) {
+                graph.addEdge(start, end, weight(random));
+            }
+        }
+    }
+
+    private static void rmat(Graph graph, int n, int degree, SplittableRandom random) {
+        int scale = 32 - Integer.numberOfLeadingZeros(Math.max(1, n - 1));
+        long edges = (long) n * degree;
+        for (long i = 0; i < edges; i++) {
+            int start = 0;
+            int end = 0;
+            for (int bit = 0; bit < scale; bit++) {
+                double p = random.nextDouble();
+                start <<= 1;
+                end <<= 1;
+                if (p < 0.57) {
+                    continue;
+                } else if (p < 0.76) {
+                    end |= 1;
+                } else if (p < 0.95) {
+                    start |= 1;
+                } else {
+                    start |= 1;
+                    end |= 1;
+                }
+            }
+            if (start < n && end < n && start != end) {
+                graph.addEdge(start, end, weight(random));
+            }
+        }
+    }
+
+    private static void grid(Graph graph, int n, SplittableRandom random) {
+        int side = (int) Math.ceil(Math.sqrt(n));
+        for (int v = 0; v < n; v++) {
+            if ((v + 1) % side != 0 && v + 1 < n) {
+                graph.addEdge(v, v + 1, weight(random));
+            }
+            if (v + side < n) {
+                graph.addEdge(v, v + side, weight(random));
+            }
+        }
+    }
+
+    private static void dag(Graph graph, int n, int degree, SplittableRandom random) {
+        if (n < 2) return;
+        int[] order = permutation(n, random);
+        long edges = (long) n * degree;
+        for (long i = 0; i < edges; i++) {
+            int a = random.nextInt(n);
+            int b = random.nextInt(n);
+            if (a == b) continue;
+            graph.addEdge(order[Math.min(a, b)], order[Math.max(a, b)], weight(random));
+        }
+    }
+
+    private static int[] permutation(int n, SplittableRandom random) {
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = order[i];
+            order[i] = order[j];
+            order[j] = t;
+        }
+
+        return order;
+    }
+
+    private static double weight(SplittableRandom random) {
+        return 1 + random.nextInt(MAX_WEIGHT);
+    }
+}
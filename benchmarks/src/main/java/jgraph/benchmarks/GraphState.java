@@ -0,0 +1,64 @@
+package jgraph.benchmarks;
+
+import jgraph.Graph;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Спільний для всіх потоків граф, згенерований один раз на запуск вимірювання.
+ * Параметри можна перевизначити з командного рядка, наприклад {@code -p size=100000}
+ */
+
+@State(Scope.Benchmark)
+public class GraphState {
+
+    /**
+     * Зерно генератора, однакове для всіх запусків
+     */
+
+    public static final long SEED = 20240229L;
+
+    @Param({"1024", "4096"})
+    public int size;
+
+    @Param({"4", "16"})
+    public int degree;
+
+    @Param({"ERDOS_RENYI", "RMAT", "GRID", "DAG"})
+    public Topology topology;
+
+    @Param({"true", "false"})
+    public boolean directed;
+
+    @Param({"CSR", "DENSE"})
+    public StorageKind storage;
+
+    public Graph graph;
+    public int source;
+    public int target;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        graph = GraphGenerators.generate(topology, size, degree, directed, storage, SEED);
+        source = 0;
+        target = size - 1;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        close(graph);
+    }
+
+    /**
+     * Звільняє пам'ять сховища, якщо воно розміщене поза купою
+     * @param graph граф
+     */
+
+    static void close(Graph graph) {
+        graph.close();
+    }
+}
@@ -0,0 +1,35 @@
+package jgraph.benchmarks;
+
+import jgraph.ShortestPathTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Вимірювання алгоритму Дейкстри для однієї пари вершин та для дерева найкоротших шляхів
+ */
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShortestPathBenchmark {
+
+    @Benchmark
+    public List<Integer> dijkstra(GraphState state) {
+        return state.graph.dijkstra(state.source, state.target);
+    }
+
+    @Benchmark
+    public ShortestPathTree dijkstraTree(GraphState state) {
+        return state.graph.dijkstra(state.source);
+    }
+}
@@ -0,0 +1,37 @@
+package jgraph.benchmarks;
+
+import jgraph.BitMatrixGraphStorage;
+import jgraph.CsrGraphStorage;
+import jgraph.DenseGraphStorage;
+import jgraph.GraphStorage;
+import jgraph.OffHeapGraphStorage;
+
+/**
+ * Види сховищ ребер, на яких запускаються вимірювання
+ */
+
+public enum StorageKind {
+    DENSE,
+    CSR,
+    BIT_MATRIX,
+    OFF_HEAP;
+
+    /**
+     * Створює порожнє сховище цього виду
+     * @param capacity початкова місткість
+     * @return нове сховище
+     */
+
+    public GraphStorage create(int capacity) {
+        switch (this) {
+            case DENSE:
+                return new DenseGraphStorage(capacity);
+            case CSR:
+                return new CsrGraphStorage(capacity);
+            case BIT_MATRIX:
+                return new BitMatrixGraphStorage(capacity);
+            default:
+                return new OffHeapGraphStorage(capacity);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package jgraph.benchmarks;
+
+import jgraph.Graph;
+import jgraph.OrderedGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Вимірювання топологічного сортування на випадковому ациклічному графі
+ */
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TopologicalSortBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class DagState {
+
+        @Param({"1024", "4096"})
+        public int size;
+
+        @Param({"4", "16"})
+        public int degree;
+
+        @Param({"CSR", "DENSE"})
+        public StorageKind storage;
+
+        public OrderedGraph graph;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            graph = (OrderedGraph) GraphGenerators.generate(Topology.DAG, size, degree, true, storage, GraphState.SEED);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            GraphState.close(graph);
+        }
+    }
+
+    @Benchmark
+    public Graph.Vertex[] topologicalSort(DagState state) {
+        return state.graph.topologicalSort();
+    }
+
+    @Benchmark
+    public int[][] topologicalLayers(DagState state) {
+        return state.graph.topologicalLayers();
+    }
+}
@@ -0,0 +1,32 @@
+package jgraph.benchmarks;
+
+/**
+ * Моделі випадкових графів, які будує {@link GraphGenerators}
+ */
+
+public enum Topology {
+
+    /**
+     * Граф Ердеша-Реньї G(n, m): ребра обираються рівномірно серед усіх пар вершин
+     */
+
+    ERDOS_RENYI,
+
+    /**
+     * Граф R-MAT зі степеневим розподілом степенів (a = 0.57, b = c = 0.19)
+     */
+
+    RMAT,
+
+    /**
+     * Квадратна решітка, кожна вершина з'єднана з правою та нижньою сусідками
+     */
+
+    GRID,
+
+    /**
+     * Ациклічний граф: ребра ведуть лише вперед у випадковій перестановці вершин
+     */
+
+    DAG
+}
@@ -0,0 +1,45 @@
+package jgraph.benchmarks;
+
+import jgraph.BfsResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Вимірювання обходів графа в глибину та в ширину
+ */
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TraversalBenchmark {
+
+    @Benchmark
+    public List<Integer> dfs(GraphState state) {
+        return state.graph.dfs(state.source);
+    }
+
+    @Benchmark
+    public List<Integer> bfs(GraphState state) {
+        return state.graph.bfs(state.source);
+    }
+
+    @Benchmark
+    public long bfsStream(GraphState state) {
+        return state.graph.bfsStream(state.source).count();
+    }
+
+    @Benchmark
+    public BfsResult parallelBfs(GraphState state) {
+        return state.graph.parallelBfs(state.source);
+    }
+}
@@ -0,0 +1,101 @@
+package jgraph;
+
+import java.util.Arrays;
+
+/**
+ * Список суміжності графа на основі масивів цілих чисел.
+ * Кожен рядок зберігає номери суміжних вершин у порядку додавання
+ */
+
+public class AdjacencyList {
+
+    private static final int MIN_ROW_CAPACITY = 4;
+
+    private final int[][] rows;
+    private final int[] sizes;
+
+    /**
+     * Створює список суміжності за вихідними ребрами сховища
+     * @param storage сховище ребер
+     * @param verticesCount кількість вершин
+     */
+
+    public AdjacencyList(GraphStorage storage, int verticesCount) {
+        rows = new int[verticesCount][];
+        sizes = new int[verticesCount];
+        for (int v = 0; v < verticesCount; v++) {
+            int[] row = new int[storage.outDegree(v)];
+            int size = 0;
+            for (int e = storage.firstEdge(v); e != GraphStorage.NO_EDGE; e = storage.nextEdge(v, e)) {
+                row[size++] = storage.edgeTarget(v, e);
+            }
+            rows[v] = row;
+            sizes[v] = size;
+        }
+    }
+
+    /**
+     * Повертає кількість вершин, суміжних із заданою
+     * @param v номер вершини
+     * @return кількість суміжних вершин
+     */
+
+    public int size(int v) {
+        return sizes[v];
+    }
+
+    /**
+     * Повертає суміжну вершину за її позицією в рядку
+     * @param v номер вершини
+     * @param i позиція в рядку
+     * @return номер суміжної вершини
+     */
+
+    public int get(int v, int i) {
+        return rows[v][i];
+    }
+
+    /**
+     * Повертає останню суміжну вершину в рядку
+     * @param v номер вершини
+     * @return номер останньої суміжної вершини
+     */
+
+    public int getLast(int v) {
+        return rows[v][sizes[v] - 1];
+    }
+
+    /**
+     * Додає суміжну вершину в кінець рядка
+     * @param v номер вершини
+     * @param target номер суміжної вершини
+     */
+
+    public void add(int v, int target) {
+        int[] row = rows[v];
+        if (sizes[v] == row.length) {
+            row = Arrays.copyOf(row, Math.max(MIN_ROW_CAPACITY, row.length * 2));
+            rows[v] = row;
+        }
+        row[sizes[v]++] = target;
+    }
+
+    /**
+     * Видаляє перше входження суміжної вершини з рядка,
+     * зберігаючи порядок решти вершин
+     * @param v номер вершини
+     * @param target номер суміжної вершини
+     */
+
+    public void remove(int v, int target) {
+        int[] row = rows[v];
+        int size = sizes[v];
+        for (int i = 0; i < size; i++) {
+            if (row[i] == target) {
+                System.arraycopy(row, i + 1, row, i, size - i - 1);
+                sizes[v]--;
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package jgraph;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Подія JDK Flight Recorder, що записується після кожного алгоритму графа.
+ * Подія створюється лише під час активного запису, наприклад
+ * {@code -XX:StartFlightRecording}, і вимикається в налаштуваннях запису
+ * як {@code jgraph.Algorithm#enabled=false}
+ */
+
+@Name(AlgorithmEvent.NAME)
+@Label("Graph Algorithm")
+@Category("JGraph")
+@Description("Показники виконання алгоритму графа")
+final class AlgorithmEvent extends Event {
+
+    static final String NAME = "jgraph.Algorithm";
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Vertices")
+    int verticesCount;
+
+    @Label("Vertices Settled")
+    long verticesSettled;
+
+    @Label("Edges Relaxed")
+    long edgesRelaxed;
+
+    @Label("Heap Operations")
+    long heapOperations;
+
+    @Label("Max Recursion Depth")
+    int maxRecursionDepth;
+
+    @Label("Backtracks")
+    long backtracks;
+}
@@ -0,0 +1,19 @@
+package jgraph;
+
+/**
+ * Слухач, який отримує показники кожного завершеного алгоритму графа.
+ * Встановлюється методом {@link Graph#setAlgorithmListener(AlgorithmListener)}.
+ * Показники передаються один раз після завершення алгоритму в потоці,
+ * який його викликав, тому слухач не впливає на внутрішні цикли алгоритму
+ */
+
+@FunctionalInterface
+public interface AlgorithmListener {
+
+    /**
+     * Викликається після завершення алгоритму
+     * @param metrics показники виконання алгоритму
+     */
+
+    void onCompleted(AlgorithmMetrics metrics);
+}
@@ -0,0 +1,114 @@
+package jgraph;
+
+/**
+ * Показники одного виконання алгоритму графа.
+ * Показники, які не мають сенсу для алгоритму, дорівнюють нулю
+ */
+
+public final class AlgorithmMetrics {
+
+    private final String algorithm;
+    private final int verticesCount;
+    private final long verticesSettled;
+    private final long edgesRelaxed;
+    private final long heapOperations;
+    private final int maxRecursionDepth;
+    private final long backtracks;
+    private final long wallTimeNanos;
+
+    AlgorithmMetrics(String algorithm, int verticesCount, long verticesSettled, long edgesRelaxed,
+                     long heapOperations, int maxRecursionDepth, long backtracks, long wallTimeNanos) {
+        this.algorithm = algorithm;
+        this.verticesCount = verticesCount;
+        this.verticesSettled = verticesSettled;
+        this.edgesRelaxed = edgesRelaxed;
+        this.heapOperations = heapOperations;
+        this.maxRecursionDepth = maxRecursionDepth;
+        this.backtracks = backtracks;
+        this.wallTimeNanos = wallTimeNanos;
+    }
+
+    /**
+     * Повертає назву алгоритму
+     * @return назва алгоритму, наприклад {@code "dijkstra"}
+     */
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Повертає кількість вершин графа на момент запуску
+     * @return кількість вершин
+     */
+
+    public int getVerticesCount() {
+        return verticesCount;
+    }
+
+    /**
+     * Повертає кількість опрацьованих вершин: вершин, вилучених з купи,
+     * вершин, доданих до шляху, або станів динамічного програмування
+     * @return кількість опрацьованих вершин
+     */
+
+    public long getVerticesSettled() {
+        return verticesSettled;
+    }
+
+    /**
+     * Повертає кількість переглянутих або релаксованих ребер
+     * @return кількість ребер
+     */
+
+    public long getEdgesRelaxed() {
+        return edgesRelaxed;
+    }
+
+    /**
+     * Повертає кількість операцій вставки, зменшення ключа та вилучення з купи
+     * @return кількість операцій з купою
+     */
+
+    public long getHeapOperations() {
+        return heapOperations;
+    }
+
+    /**
+     * Повертає найбільшу глибину рекурсії або стеку пошуку
+     * @return найбільша глибина
+     */
+
+    public int getMaxRecursionDepth() {
+        return maxRecursionDepth;
+    }
+
+    /**
+     * Повертає кількість повернень пошуку з перебором
+     * @return кількість повернень
+     */
+
+    public long getBacktracks() {
+        return backtracks;
+    }
+
+    /**
+     * Повертає час виконання алгоритму
+     * @return час виконання в наносекундах
+     */
+
+    public long getWallTimeNanos() {
+        return wallTimeNanos;
+    }
+
+    @Override
+    public String toString() {
+        return algorithm + "{vertices=" + verticesCount
+                + ", settled=" + verticesSettled
+                + ", relaxed=" + edgesRelaxed
+                + ", heapOps=" + heapOperations
+                + ", maxDepth=" + maxRecursionDepth
+                + ", backtracks=" + backtracks
+                + ", wallTimeNanos=" + wallTimeNanos + "}";
+    }
+}
@@ -0,0 +1,94 @@
+package jgraph;
+
+import jdk.jfr.EventType;
+
+/**
+ * Збирає показники одного виконання алгоритму та передає їх
+ * слухачу і події JDK Flight Recorder.
+ * Проба створюється лише тоді, коли встановлено слухача або ввімкнено подію,
+ * інакше {@link #start} повертає {@code null}, нічого не виділяючи:
+ * стан події перевіряється через її тип, а не через новий екземпляр.
+ * Алгоритми накопичують лічильники в локальних змінних і звертаються
+ * до проби один раз після завершення, тому вимкнене вимірювання
+ * не додає роботи у внутрішніх циклах
+ */
+
+final class AlgorithmProbe {
+
+    private static final EventType EVENT_TYPE = EventType.getEventType(AlgorithmEvent.class);
+
+    private final String algorithm;
+    private final int verticesCount;
+    private final AlgorithmListener listener;
+    private final AlgorithmEvent event;
+    private final long startNanos;
+
+    private long verticesSettled;
+    private long edgesRelaxed;
+    private long heapOperations;
+    private int maxRecursionDepth;
+    private long backtracks;
+
+    private AlgorithmProbe(String algorithm, int verticesCount, AlgorithmListener listener, AlgorithmEvent event) {
+        this.algorithm = algorithm;
+        this.verticesCount = verticesCount;
+        this.listener = listener;
+        this.event = event;
+        if (event != null) event.begin();
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Починає вимірювання алгоритму
+     * @param algorithm назва алгоритму
+     * @param verticesCount кількість вершин графа
+     * @param listener слухач, або {@code null}
+     * @return проба, або {@code null} якщо слухача немає і подія вимкнена
+     */
+
+    static AlgorithmProbe start(String algorithm, int verticesCount, AlgorithmListener listener) {
+        boolean recorded = EVENT_TYPE.isEnabled();
+        if (!recorded && listener == null) return null;
+
+        return new AlgorithmProbe(algorithm, verticesCount, listener, recorded ? new AlgorithmEvent() : null);
+    }
+
+    /**
+     * Додає лічильники частини алгоритму. Може викликатися з різних потоків
+     */
+
+    synchronized void add(long settled, long relaxed, long heapOps, int depth, long backtracked) {
+        verticesSettled += settled;
+        edgesRelaxed += relaxed;
+        heapOperations += heapOps;
+        maxRecursionDepth = Math.max(maxRecursionDepth, depth);
+        backtracks += backtracked;
+    }
+
+    /**
+     * Завершує вимірювання, записує подію та сповіщає слухача
+     */
+
+    void finish() {
+        long wallTime = System.nanoTime() - startNanos;
+        AlgorithmMetrics metrics;
+        synchronized (this) {
+            metrics = new AlgorithmMetrics(algorithm, verticesCount, verticesSettled, edgesRelaxed,
+                    heapOperations, maxRecursionDepth, backtracks, wallTime);
+        }
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.algorithm = algorithm;
+                event.verticesCount = verticesCount;
+                event.verticesSettled = metrics.getVerticesSettled();
+                event.edgesRelaxed = metrics.getEdgesRelaxed();
+                event.heapOperations = metrics.getHeapOperations();
+                event.maxRecursionDepth = metrics.getMaxRecursionDepth();
+                event.backtracks = metrics.getBacktracks();
+                event.commit();
+            }
+        }
+        if (listener != null) listener.onCompleted(metrics);
+    }
+}
@@ -0,0 +1,146 @@
+package jgraph;
+
+import java.util.LinkedList;
+
+/**
+ * Найкоротші шляхи між усіма парами вершин графа.
+ * Довжини шляхів зберігаються в одновимірному масиві по рядках,
+ * а за наявності матриці наступних вершин можна відновити самі шляхи
+ */
+
+public class AllPairsShortestPaths {
+
+    /**
+     * Позначка відсутності наступної вершини
+     */
+
+    public static final int NO_VERTEX = -1;
+
+    static final int MAX_MATRIX_LENGTH = Integer.MAX_VALUE - 8;
+
+    private final int verticesCount;
+    private final double[] distances;
+    private final int[] next;
+
+    /**
+     * Створює результат пошуку найкоротших шляхів
+     * @param verticesCount кількість вершин
+     * @param distances довжини шляхів, де довжина шляху з {@code i} в {@code j}
+     * знаходиться за індексом {@code i * verticesCount + j}
+     * @param next наступні вершини на шляхах у тому ж порядку, або {@code null}
+     */
+
+    public AllPairsShortestPaths(int verticesCount, double[] distances, int[] next) {
+        this.verticesCount = verticesCount;
+        this.distances = distances;
+        this.next = next;
+    }
+
+    /**
+     * Обчислює кількість елементів матриці відстаней, що зберігається по рядках
+     * в одновимірному масиві
+     * @param verticesCount кількість вершин
+     * @return кількість елементів матриці
+     * @throws IllegalArgumentException якщо матриця не вміщується в масив
+     */
+
+    static int matrixLength(int verticesCount) {
+        long length = (long) verticesCount * verticesCount;
+        if (length > MAX_MATRIX_LENGTH) {
+            throw new IllegalArgumentException("Матриця відстаней для " + verticesCount
+                    + " вершин не вміщується в масив");
+        }
+
+        return (int) length;
+    }
+
+    /**
+     * Повертає кількість вершин
+     * @return кількість вершин
+     */
+
+    public int getVerticesCount() {
+        return verticesCount;
+    }
+
+    /**
+     * Повертає довжину найкоротшого шляху між двома вершинами.
+     * Для однакових вершин повертається довжина найкоротшого циклу через вершину
+     * @param start номер початкової вершини
+     * @param end номер кінцевої вершини
+     * @return довжина шляху, або {@link Double#POSITIVE_INFINITY} якщо шляху немає
+     */
+
+    public double getDistance(int start, int end) {
+        return distances[start * verticesCount + end];
+    }
+
+    /**
+     * Перевіряє чи можна відновити шляхи
+     * @return {@code true} якщо збережено матрицю наступних вершин
+     */
+
+    public boolean hasPaths() {
+        return next != null;
+    }
+
+    /**
+     * Повертає наступну вершину на найкоротшому шляху
+     * @param start номер початкової вершини
+     * @param end номер кінцевої вершини
+     * @return номер вершини, що йде за {@code start}, або {@link #NO_VERTEX}
+     * @throws IllegalStateException якщо матрицю наступних вершин не збережено
+     */
+
+    public int getNext(int start, int end) {
+        checkPaths();
+        return next[start * verticesCount + end];
+    }
+
+    /**
+     * Відновлює найкоротший шлях між двома вершинами
+     * @param start номер початкової вершини
+     * @param end номер кінцевої вершини
+     * @return список всіх вершин шляху, або порожній список якщо шляху немає
+     * @throws IllegalStateException якщо матрицю наступних вершин не збережено
+     * або граф містить цикл від'ємної ваги
+     */
+
+    public LinkedList<Integer> getPath(int start, int end) {
+        checkPaths();
+        LinkedList<Integer> result = new LinkedList<>();
+        if (next[start * verticesCount + end] == NO_VERTEX) return result;
+        result.add(start);
+        int v = start;
+        do {
+            v = next[v * verticesCount + end];
+            result.add(v);
+            if (result.size() > verticesCount + 1) {
+                throw new IllegalStateException("Граф містить цикл від'ємної ваги");
+            }
+        } while (v != end);
+
+        return result;
+    }
+
+    /**
+     * Повертає довжини шляхів у вигляді квадратної матриці
+     * @return матриця довжин найкоротших шляхів
+     */
+
+    public double[][] toMatrix() {
+        int n = verticesCount;
+        double[][] w = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(distances, i * n, w[i], 0, n);
+        }
+
+        return w;
+    }
+
+    private void checkPaths() {
+        if (next == null) {
+            throw new IllegalStateException("Матрицю наступних вершин не було збережено");
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package jgraph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Виконує пакети запитів найкоротших шляхів і досяжності паралельно
+ * над незмінним знімком графа, зробленим при створенні виконавця.
+ * Запити групуються за початковою вершиною, тому для кожної початкової вершини
+ * виконується один пошук, який зупиняється, щойно знайдено всі кінцеві вершини групи.
+ * Групи розподіляються між потоками {@link ForkJoinPool}, а кожен потік повторно
+ * використовує свої робочі масиви з {@link SearchSpace} та {@link VisitedSet}.
+ * Методи виконавця можна викликати одночасно з різних потоків, зокрема віртуальних.
+ * Зміни графа після створення виконавця не впливають на результати запитів
+ */
+
+public final class BatchQueryExecutor implements AutoCloseable {
+
+    private static final int GROUPS_PER_TASK = 4;
+
+    private final GraphStorage storage;
+    private final int n;
+    private final ForkJoinPool pool;
+    private final boolean ownsStorage;
+
+    BatchQueryExecutor(GraphStorage storage, int n, ForkJoinPool pool, boolean ownsStorage) {
+        this.storage = storage;
+        this.n = n;
+        this.pool = pool;
+        this.ownsStorage = ownsStorage;
+    }
+
+    /**
+     * Повертає кількість вершин знімка графа
+     * @return кількість вершин
+     */
+
+    public int getVerticesCount() {
+        return n;
+    }
+
+    /**
+     * Знаходить довжини найкоротших шляхів для пакету запитів
+     * @param sources номери початкових вершин запитів
+     * @param targets номери кінцевих вершин запитів
+     * @return довжини шляхів у порядку запитів,
+     * або {@link Double#POSITIVE_INFINITY} для недосяжних вершин
+     * @throws IllegalArgumentException якщо масиви мають різну довжину
+     */
+
+    public double[] distances(int[] sources, int[] targets) {
+        double[] result = new double[checkLengths(sources, targets)];
+        run(sources, (source, keys, lo, hi) -> dijkstra(source, targets, keys, lo, hi, result, null));
+
+        return result;
+    }
+
+    /**
+     * Знаходить найкоротші шляхи для пакету запитів
+     * @param sources номери початкових вершин запитів
+     * @param targets номери кінцевих вершин запитів
+     * @return номери вершин шляхів у порядку запитів,
+     * або порожні масиви для недосяжних вершин
+     * @throws IllegalArgumentException якщо масиви мають різну довжину
+     */
+
+    public int[][] paths(int[] sources, int[] targets) {
+        int[][] result = new int[checkLengths(sources, targets)][];
+        double[] distances = new double[result.length];
+        run(sources, (source, keys, lo, hi) -> dijkstra(source, targets, keys, lo, hi, distances, result));
+
+        return result;
+    }
+
+    /**
+     * Знаходить кількість ребер на найкоротших за кількістю ребер шляхах
+     * для пакету запитів обходом у ширину
+     * @param sources номери початкових вершин запитів
+     * @param targets номери кінцевих вершин запитів
+     * @return кількість ребер у порядку запитів, або {@link BfsResult#UNREACHABLE}
+     * @throws IllegalArgumentException якщо масиви мають різну довжину
+     */
+
+    public int[] hops(int[] sources, int[] targets) {
+        int[] result = new int[checkLengths(sources, targets)];
+        run(sources, (source, keys, lo, hi) -> bfs(source, targets, keys, lo, hi, result));
+
+        return result;
+    }
+
+    /**
+     * Перевіряє досяжність для пакету запитів
+     * @param sources номери початкових вершин запитів
+     * @param targets номери кінцевих вершин запитів
+     * @return {@code true} у порядку запитів для досяжних кінцевих вершин
+     * @throws IllegalArgumentException якщо масиви мають різну довжину
+     */
+
+    public boolean[] reachable(int[] sources, int[] targets) {
+        int[] hops = hops(sources, targets);
+        boolean[] result = new boolean[hops.length];
+        for (int i = 0; i < hops.length; i++) {
+            result[i] = hops[i] != BfsResult.UNREACHABLE;
+        }
+
+        return result;
+    }
+
+    /**
+     * Будує дерева найкоротших шляхів для пакету початкових вершин.
+     * Однакові початкові вершини отримують один і той самий об'єкт дерева
+     * @param sources номери початкових вершин
+     * @return дерева найкоротших шляхів у порядку запитів
+     */
+
+    public ShortestPathTree[] shortestPathTrees(int[] sources) {
+        ShortestPathTree[] result = new ShortestPathTree[sources.length];
+        run(sources, (source, keys, lo, hi) -> {
+            ShortestPathTree tree = tree(source);
+            for (int k = lo; k < hi; k++) {
+                result[(int) keys[k]] = tree;
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Звільняє знімок графа, якщо він є копією поза купою
+     */
+
+    @Override
+    public void close() {
+        if (ownsStorage && storage instanceof OffHeapGraphStorage) {
+            ((OffHeapGraphStorage) storage).close();
+        }
+    }
+
+    private static int checkLengths(int[] sources, int[] targets) {
+        if (sources.length != targets.length) {
+            throw new IllegalArgumentException("Кількість початкових і кінцевих вершин різна: "
+                    + sources.length + " і " + targets.length);
+        }
+
+        return sources.length;
+    }
+
+    /**
+     * Сортує запити за початковою вершиною і виконує дію для кожної групи
+     * запитів з однаковою початковою вершиною в пулі потоків.
+     * Ключ запиту містить початкову вершину в старших 32 бітах і номер запиту в молодших
+     */
+
+    private void run(int[] sources, GroupAction action) {
+        int q = sources.length;
+        if (q == 0) return;
+        long[] keys = new long[q];
+        for (int i = 0; i < q; i++) {
+            keys[i] = ((long) sources[i] << 32) | i;
+        }
+        Arrays.sort(keys);
+        int[] groupStarts = new int[q + 1];
+        int groups = 0;
+        for (int k = 0; k < q; k++) {
+            if (k == 0 || (keys[k] >>> 32) != (keys[k - 1] >>> 32)) groupStarts[groups++] = k;
+        }
+        groupStarts[groups] = q;
+        pool.invoke(new GroupsTask(action, keys, groupStarts, 0, groups));
+    }
+
+    private void dijkstra(int source, int[] targets, long[] keys, int lo, int hi,
+                          double[] distances, int[][] paths) {
+        try (SearchSpace space = SearchSpace.acquire(n); VisitedSet wanted = VisitedSet.acquire(n)) {
+            int remaining = 0;
+            for (int k = lo; k < hi; k++) {
+                if (wanted.tryVisit(targets[(int) keys[k]])) remaining++;
+            }
+            IndexedDaryHeap heap = space.heap();
+            space.reach(source, 0, source);
+            while (!heap.isEmpty()) {
+                int u = heap.poll();
+                if (wanted.isVisited(u) && --remaining == 0) break;
+                double du = space.distance(u);
+                for (int e = storage.firstEdge(u); e != GraphStorage.NO_EDGE; e = storage.nextEdge(u, e)) {
+                    space.relax(storage.edgeTarget(u, e), du + storage.edgeWeight(u, e), u);
+                }
+            }
+            for (int k = lo; k < hi; k++) {
+                int query = (int) keys[k];
+                int target = targets[query];
+                distances[query] = space.distance(target);
+                if (paths != null) paths[query] = space.isReached(target) ? space.path(target) : new int[0];
+            }
+        }
+    }
+
+    private void bfs(int source, int[] targets, long[] keys, int lo, int hi, int[] hops) {
+        try (SearchSpace space = SearchSpace.acquire(n); VisitedSet wanted = VisitedSet.acquire(n)) {
+            int remaining = 0;
+            for (int k = lo; k < hi; k++) {
+                if (wanted.tryVisit(targets[(int) keys[k]])) remaining++;
+            }
+            int[] queue = space.queue();
+            int head = 0;
+            int tail = 0;
+            space.record(source, 0, source);
+            queue[tail++] = source;
+            if (wanted.isVisited(source)) remaining--;
+            while (head < tail && remaining > 0) {
+                int u = queue[head++];
+                double next = space.distance(u) + 1;
+                for (int e = storage.firstEdge(u); e != GraphStorage.NO_EDGE; e = storage.nextEdge(u, e)) {
+                    int v = storage.edgeTarget(u, e);
+                    if (space.isReached(v)) continue;
+                    space.record(v, next, u);
+                    queue[tail++] = v;
+                    if (wanted.isVisited(v)) remaining--;
+                }
+            }
+            for (int k = lo; k < hi; k++) {
+                int query = (int) keys[k];
+                int target = targets[query];
+                hops[query] = space.isReached(target) ? (int) space.distance(target) : BfsResult.UNREACHABLE;
+            }
+        }
+    }
+
+    private ShortestPathTree tree(int source) {
+        double[] d = new double[n];
+        int[] prev = new int[n];
+        Arrays.fill(d, Double.POSITIVE_INFINITY);
+        Arrays.fill(prev, ShortestPathTree.NO_VERTEX);
+        try (SearchSpace space = SearchSpace.acquire(n)) {
+            IndexedDaryHeap heap = space.heap();
+            space.reach(source, 0, source);
+            while (!heap.isEmpty()) {
+                int u = heap.poll();
+                double du = space.distance(u);
+                d[u] = du;
+                if (u != source) prev[u] = space.previous(u);
+                for (int e = storage.firstEdge(u); e != GraphStorage.NO_EDGE; e = storage.nextEdge(u, e)) {
+                    space.relax(storage.edgeTarget(u, e), du + storage.edgeWeight(u, e), u);
+                }
+            }
+        }
+
+        return new ShortestPathTree(source, d, prev);
+    }
+
+    @FunctionalInterface
+    private interface GroupAction {
+        void run(int source, long[] keys, int lo, int hi);
+    }
+
+    private static final class GroupsTask extends RecursiveAction {
+        private final GroupAction action;
+        private final long[] keys;
+        private final int[] groupStarts;
+        private final int from;
+        private final int to;
+
+        GroupsTask(GroupAction action, long[] keys, int[] groupStarts, int from, int to) {
+            this.action = action;
+            this.keys = keys;
+            this.groupStarts = groupStarts;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > GROUPS_PER_TASK) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new GroupsTask(action, keys, groupStarts, from, mid),
+                        new GroupsTask(action, keys, groupStarts, mid, to));
+                return;
+            }
+            for (int g = from; g < to; g++) {
+                int lo = groupStarts[g];
+                action.run((int) (keys[lo] >>> 32), keys, lo, groupStarts[g + 1]);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package jgraph;
+
+import java.util.LinkedList;
+
+/**
+ * Результат обходу графа в ширину: кількість ребер від початкової вершини
+ * до кожної досяжної вершини та батьківська вершина в дереві обходу
+ */
+
+public class BfsResult {
+
+    /**
+     * Позначка недосяжної вершини
+     */
+
+    public static final int UNREACHABLE = -1;
+
+    private final int source;
+    private final int[] distances;
+    private final int[] parents;
+
+    /**
+     * Створює результат обходу
+     * @param source номер початкової вершини
+     * @param distances кількість ребер до кожної вершини, або {@link #UNREACHABLE}
+     * @param parents батьківські вершини, або {@link #UNREACHABLE}
+     */
+
+    public BfsResult(int source, int[] distances, int[] parents) {
+        this.source = source;
+        this.distances = distances;
+        this.parents = parents;
+    }
+
+    /**
+     * Повертає номер початкової вершини
+     * @return номер початкової вершини
+     */
+
+    public int getSource() {
+        return source;
+    }
+
+    /**
+     * Повертає кількість ребер на найкоротшому шляху до вершини
+     * @param v номер вершини
+     * @return кількість ребер, або {@link #UNREACHABLE} якщо вершина недосяжна
+     */
+
+    public int getDistance(int v) {
+        return distances[v];
+    }
+
+    /**
+     * Повертає батьківську вершину в дереві обходу
+     * @param v номер вершини
+     * @return номер батьківської вершини, або {@link #UNREACHABLE}
+     * для початкової та недосяжних вершин
+     */
+
+    public int getParent(int v) {
+        return parents[v];
+    }
+
+    /**
+     * Перевіряє чи вершина досяжна з початкової
+     * @param v номер вершини
+     * @return {@code true} якщо вершина досяжна, {@code false} - інакше
+     */
+
+    public boolean isReachable(int v) {
+        return distances[v] != UNREACHABLE;
+    }
+
+    /**
+     * Повертає шлях з найменшою кількістю ребер до вершини
+     * @param target номер кінцевої вершини
+     * @return список всіх вершин шляху, або порожній список якщо вершина недосяжна
+     */
+
+    public LinkedList<Integer> getPath(int target) {
+        LinkedList<Integer> result = new LinkedList<>();
+        if (!isReachable(target)) return result;
+        for (int v = target; v != UNREACHABLE; v = parents[v]) {
+            result.push(v);
+        }
+
+        return result;
+    }
+}
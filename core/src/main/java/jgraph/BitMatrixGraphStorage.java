@@ -0,0 +1,347 @@
+package jgraph;
+
+import java.util.Arrays;
+
+/**
+ * Сховище ребер незваженого графа у вигляді бітової матриці суміжності.
+ * Кожна клітинка займає один біт, рядок матриці є масивом {@code long}.
+ * Поруч зберігається транспонована матриця, щоб вхідні ребра перебиралися
+ * так само швидко, як вихідні, тому пам'ять у 32 рази менша, ніж у {@link DenseGraphStorage}.
+ * Ваги ребер не зберігаються: будь-яка ненульова вага додає ребро з вагою 1.
+ * Степені вершин підтримуються при зміні ребер, а суміжні вершини
+ * перебираються по словах через {@link Long#numberOfTrailingZeros}.
+ * Знімок сховища створюється за O(1) і спільно використовує рядки та стовпці,
+ * які копіюються лише перед першим записом після створення знімка.
+ * Ідентифікатором ребра є номер стовпця (для вихідних ребер)
+ * або рядка (для вхідних ребер) матриці
+ */
+
+public class BitMatrixGraphStorage implements GraphStorage {
+
+    private static final int MIN_CAPACITY = 64;
+
+    private int capacity;
+    private int verticesCount;
+    private long[][] rows;
+    private long[][] columns;
+    private int[] outDegrees;
+    private int[] inDegrees;
+    private boolean frozen;
+    private boolean shared;
+    private boolean[] ownedRows;
+    private boolean[] ownedColumns;
+
+    /**
+     * Створює сховище з заданою початковою місткістю
+     * @param capacity початкова місткість
+     */
+
+    public BitMatrixGraphStorage(int capacity) {
+        this.capacity = capacity;
+        this.verticesCount = 0;
+        this.rows = new long[capacity][words(capacity)];
+        this.columns = new long[capacity][words(capacity)];
+        this.outDegrees = new int[capacity];
+        this.inDegrees = new int[capacity];
+    }
+
+    private BitMatrixGraphStorage(BitMatrixGraphStorage other) {
+        this.capacity = other.capacity;
+        this.verticesCount = other.verticesCount;
+        this.rows = new long[capacity][];
+        this.columns = new long[capacity][];
+        for (int v = 0; v < capacity; v++) {
+            rows[v] = other.rows[v].clone();
+            columns[v] = other.columns[v].clone();
+        }
+        this.outDegrees = other.outDegrees.clone();
+        this.inDegrees = other.inDegrees.clone();
+    }
+
+    private BitMatrixGraphStorage(BitMatrixGraphStorage live, boolean frozen) {
+        this.capacity = live.capacity;
+        this.verticesCount = live.verticesCount;
+        this.rows = live.rows;
+        this.columns = live.columns;
+        this.outDegrees = live.outDegrees;
+        this.inDegrees = live.inDegrees;
+        this.frozen = frozen;
+    }
+
+    /**
+     * Повертає рядок бітової матриці. Біт {@code w} рядка {@code v}
+     * встановлений, якщо існує ребро з {@code v} в {@code w}.
+     * Масив не копіюється і не повинен змінюватися
+     * @param v номер вершини
+     * @return рядок матриці
+     */
+
+    long[] row(int v) {
+        return rows[v];
+    }
+
+    /**
+     * Повертає кількість слів, які займають біти існуючих вершин у рядку
+     * @return кількість слів
+     */
+
+    int usedWords() {
+        return words(verticesCount);
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public int verticesCount() {
+        return verticesCount;
+    }
+
+    @Override
+    public void addVertex() {
+        checkWritable();
+        if (verticesCount == capacity) {
+            resize(Math.max(MIN_CAPACITY, capacity * 2));
+        }
+        verticesCount++;
+    }
+
+    @Override
+    public void deleteVertex(int index) {
+        checkWritable();
+        ownAll();
+        int n = verticesCount;
+        int last = n - 1;
+        for (int e = firstEdge(index); e != NO_EDGE; e = nextEdge(index, e)) {
+            clear(columns[e], index);
+            inDegrees[e]--;
+        }
+        for (int e = firstInEdge(index); e != NO_EDGE; e = nextInEdge(index, e)) {
+            clear(rows[e], index);
+            outDegrees[e]--;
+        }
+        Arrays.fill(rows[index], 0);
+        Arrays.fill(columns[index], 0);
+
+        if (index != last) {
+            for (int v = 0; v < n; v++) {
+                move(rows[v], last, index);
+                move(columns[v], last, index);
+            }
+            long[] row = rows[index];
+            rows[index] = rows[last];
+            rows[last] = row;
+            long[] column = columns[index];
+            columns[index] = columns[last];
+            columns[last] = column;
+            outDegrees[index] = outDegrees[last];
+            inDegrees[index] = inDegrees[last];
+        }
+        outDegrees[last] = 0;
+        inDegrees[last] = 0;
+        verticesCount--;
+    }
+
+    @Override
+    public void compact() {
+        if (frozen) return;
+        resize(verticesCount);
+    }
+
+    private void resize(int newCapacity) {
+        int words = words(newCapacity);
+        long[][] newRows = new long[newCapacity][];
+        long[][] newColumns = new long[newCapacity][];
+        for (int v = 0; v < newCapacity; v++) {
+            newRows[v] = v < verticesCount ? Arrays.copyOf(rows[v], words) : new long[words];
+            newColumns[v] = v < verticesCount ? Arrays.copyOf(columns[v], words) : new long[words];
+        }
+        rows = newRows;
+        columns = newColumns;
+        outDegrees = Arrays.copyOf(outDegrees, newCapacity);
+        inDegrees = Arrays.copyOf(inDegrees, newCapacity);
+        capacity = newCapacity;
+        shared = false;
+        ownedRows = null;
+        ownedColumns = null;
+    }
+
+    /**
+     * Готує сховище до запису після створення знімка: копіює масиви рядків,
+     * стовпців і степенів, а всі рядки і стовпці позначає як спільні зі знімком
+     */
+
+    private void unshare() {
+        rows = rows.clone();
+        columns = columns.clone();
+        outDegrees = outDegrees.clone();
+        inDegrees = inDegrees.clone();
+        ownedRows = new boolean[capacity];
+        ownedColumns = new boolean[capacity];
+        shared = false;
+    }
+
+    private long[] writableRow(int v) {
+        if (shared) unshare();
+        if (ownedRows != null && !ownedRows[v]) {
+            rows[v] = rows[v].clone();
+            ownedRows[v] = true;
+        }
+
+        return rows[v];
+    }
+
+    private long[] writableColumn(int v) {
+        if (shared) unshare();
+        if (ownedColumns != null && !ownedColumns[v]) {
+            columns[v] = columns[v].clone();
+            ownedColumns[v] = true;
+        }
+
+        return columns[v];
+    }
+
+    private void ownAll() {
+        if (shared) unshare();
+        if (ownedRows == null) return;
+        for (int v = 0; v < capacity; v++) {
+            if (!ownedRows[v]) rows[v] = rows[v].clone();
+            if (!ownedColumns[v]) columns[v] = columns[v].clone();
+        }
+        ownedRows = null;
+        ownedColumns = null;
+    }
+
+    private void checkWritable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Знімок сховища доступний тільки для читання");
+        }
+    }
+
+    @Override
+    public double getWeight(int start, int end) {
+        return contains(rows[start], end) ? 1 : 0;
+    }
+
+    @Override
+    public void setWeight(int start, int end, double weight) {
+        checkWritable();
+        boolean existed = contains(rows[start], end);
+        if (weight == 0) {
+            if (!existed) return;
+            clear(writableRow(start), end);
+            clear(writableColumn(end), start);
+            outDegrees[start]--;
+            inDegrees[end]--;
+        } else if (!existed) {
+            set(writableRow(start), end);
+            set(writableColumn(end), start);
+            outDegrees[start]++;
+            inDegrees[end]++;
+        }
+    }
+
+    @Override
+    public int outDegree(int v) {
+        return outDegrees[v];
+    }
+
+    @Override
+    public int inDegree(int v) {
+        return inDegrees[v];
+    }
+
+    @Override
+    public int firstEdge(int v) {
+        return nextSetBit(rows[v], 0);
+    }
+
+    @Override
+    public int nextEdge(int v, int edge) {
+        return nextSetBit(rows[v], edge + 1);
+    }
+
+    @Override
+    public int edgeTarget(int v, int edge) {
+        return edge;
+    }
+
+    @Override
+    public double edgeWeight(int v, int edge) {
+        return 1;
+    }
+
+    @Override
+    public int firstInEdge(int v) {
+        return nextSetBit(columns[v], 0);
+    }
+
+    @Override
+    public int nextInEdge(int v, int edge) {
+        return nextSetBit(columns[v], edge + 1);
+    }
+
+    @Override
+    public int inEdgeSource(int v, int edge) {
+        return edge;
+    }
+
+    @Override
+    public double inEdgeWeight(int v, int edge) {
+        return 1;
+    }
+
+    @Override
+    public GraphStorage createEmpty() {
+        return new BitMatrixGraphStorage(capacity);
+    }
+
+    @Override
+    public GraphStorage copy() {
+        return new BitMatrixGraphStorage(this);
+    }
+
+    @Override
+    public GraphStorage snapshot() {
+        if (frozen) return this;
+        shared = true;
+
+        return new BitMatrixGraphStorage(this, true);
+    }
+
+    private int nextSetBit(long[] bits, int from) {
+        if (from >= verticesCount) return NO_EDGE;
+        int w = from >>> 6;
+        long word = bits[w] & (-1L << from);
+        for (int words = usedWords(); ; ) {
+            if (word != 0) return (w << 6) + Long.numberOfTrailingZeros(word);
+            if (++w == words) return NO_EDGE;
+            word = bits[w];
+        }
+    }
+
+    private static boolean contains(long[] bits, int i) {
+        return (bits[i >>> 6] & (1L << i)) != 0;
+    }
+
+    private static void set(long[] bits, int i) {
+        bits[i >>> 6] |= 1L << i;
+    }
+
+    private static void clear(long[] bits, int i) {
+        bits[i >>> 6] &= ~(1L << i);
+    }
+
+    private static void move(long[] bits, int from, int to) {
+        if (contains(bits, from)) {
+            clear(bits, from);
+            set(bits, to);
+        }
+    }
+
+    private static int words(int bits) {
+        return (bits + 63) >>> 6;
+    }
+}
@@ -0,0 +1,144 @@
+package jgraph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Блочна реалізація алгоритму Флойда-Варшала над одновимірною матрицею.
+ * Матриця ділиться на квадратні блоки, що поміщаються в кеш процесора.
+ * На кожному кроці спочатку обробляється діагональний блок, потім блоки
+ * його рядка і стовпця, а потім решта блоків. Блоки другої і третьої фаз
+ * незалежні між собою, тому обробляються паралельно в {@link ForkJoinPool}
+ */
+
+public final class BlockedFloydWarshall {
+
+    /**
+     * Розмір блоку за замовчуванням: блок 64 на 64 дійсних числа займає 32 КБ
+     */
+
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+
+    private final double[] dist;
+    private final int[] next;
+    private final int n;
+    private final int blockSize;
+    private final int blocksCount;
+
+    private BlockedFloydWarshall(double[] dist, int[] next, int n, int blockSize) {
+        this.dist = dist;
+        this.next = next;
+        this.n = n;
+        this.blockSize = blockSize;
+        this.blocksCount = (n + blockSize - 1) / blockSize;
+    }
+
+    /**
+     * Знаходить найкоротші шляхи між усіма парами вершин
+     * у спільному пулі потоків з розміром блоку за замовчуванням
+     * @param dist початкові ваги ребер по рядках, відсутні ребра позначені нескінченністю;
+     * масив змінюється на місці
+     * @param next початкові наступні вершини (кінцева вершина для кожного ребра
+     * і {@link AllPairsShortestPaths#NO_VERTEX} інакше), або {@code null};
+     * масив змінюється на місці
+     * @param n кількість вершин
+     */
+
+    public static void compute(double[] dist, int[] next, int n) {
+        compute(dist, next, n, DEFAULT_BLOCK_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Знаходить найкоротші шляхи між усіма парами вершин
+     * @param dist початкові ваги ребер по рядках; масив змінюється на місці
+     * @param next початкові наступні вершини, або {@code null}; масив змінюється на місці
+     * @param n кількість вершин
+     * @param blockSize розмір блоку
+     * @param pool пул потоків для паралельних фаз
+     */
+
+    public static void compute(double[] dist, int[] next, int n, int blockSize, ForkJoinPool pool) {
+        BlockedFloydWarshall fw = new BlockedFloydWarshall(dist, next, n, blockSize);
+        if (fw.blocksCount <= 1) {
+            fw.update(0, 0, 0);
+            return;
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                fw.run();
+            }
+        });
+    }
+
+    private void run() {
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        for (int kb = 0; kb < blocksCount; kb++) {
+            update(kb, kb, kb);
+
+            tasks.clear();
+            for (int b = 0; b < blocksCount; b++) {
+                if (b == kb) continue;
+                tasks.add(blockTask(kb, b, kb));
+                tasks.add(blockTask(b, kb, kb));
+            }
+            ForkJoinTask.invokeAll(tasks);
+
+            tasks.clear();
+            for (int ib = 0; ib < blocksCount; ib++) {
+                if (ib == kb) continue;
+                for (int jb = 0; jb < blocksCount; jb++) {
+                    if (jb == kb) continue;
+                    tasks.add(blockTask(ib, jb, kb));
+                }
+            }
+            ForkJoinTask.invokeAll(tasks);
+        }
+    }
+
+    private ForkJoinTask<?> blockTask(int ib, int jb, int kb) {
+        return new RecursiveAction() {
+            @Override
+            protected void compute() {
+                update(ib, jb, kb);
+            }
+        };
+    }
+
+    /**
+     * Оновлює блок (ib, jb) шляхами через вершини блоку kb
+     */
+
+    private void update(int ib, int jb, int kb) {
+        int iFrom = ib * blockSize, iTo = Math.min(iFrom + blockSize, n);
+        int jFrom = jb * blockSize, jTo = Math.min(jFrom + blockSize, n);
+        int kFrom = kb * blockSize, kTo = Math.min(kFrom + blockSize, n);
+        double[] d = dist;
+        for (int k = kFrom; k < kTo; k++) {
+            int kRow = k * n;
+            for (int i = iFrom; i < iTo; i++) {
+                int iRow = i * n;
+                double dik = d[iRow + k];
+                if (dik == Double.POSITIVE_INFINITY) continue;
+                if (next == null) {
+                    for (int j = jFrom; j < jTo; j++) {
+                        double alt = dik + d[kRow + j];
+                        if (alt < d[iRow + j]) d[iRow + j] = alt;
+                    }
+                } else {
+                    int nextIk = next[iRow + k];
+                    for (int j = jFrom; j < jTo; j++) {
+                        double alt = dik + d[kRow + j];
+                        if (alt < d[iRow + j]) {
+                            d[iRow + j] = alt;
+                            next[iRow + j] = nextIk;
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
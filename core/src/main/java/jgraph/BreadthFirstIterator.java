@@ -0,0 +1,121 @@
+package jgraph;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Лінивий обхід графа в ширину.
+ * Суміжні вершини вже повернутої вершини додаються в чергу лише тоді,
+ * коли черга не відданих викликачу вершин порожня.
+ * Для {@link BitMatrixGraphStorage} відвідані вершини зберігаються в бітовій множині,
+ * а нові вершини фронту знаходяться по словах як {@code рядок & ~відвідані}.
+ * Множина відвіданих вершин повертається в пул, коли обхід завершено
+ * або ітератор закрито методом {@link #close()}
+ */
+
+public class BreadthFirstIterator implements PrimitiveIterator.OfInt, AutoCloseable {
+
+    private static final int INITIAL_QUEUE_CAPACITY = 16;
+
+    private final GraphStorage storage;
+    private final BitMatrixGraphStorage matrix;
+    private long[] visitedBits;
+    private VisitedSet visited;
+    private int[] queue;
+    private int expanded;
+    private int head;
+    private int tail;
+
+    /**
+     * Створює обхід в ширину
+     * @param storage сховище ребер графа
+     * @param verticesCount кількість вершин графа
+     * @param startIndex номер вершини, з якої починається обхід
+     */
+
+    public BreadthFirstIterator(GraphStorage storage, int verticesCount, int startIndex) {
+        this.storage = storage;
+        this.matrix = storage instanceof BitMatrixGraphStorage ? (BitMatrixGraphStorage) storage : null;
+        this.queue = new int[INITIAL_QUEUE_CAPACITY];
+        if (matrix != null) {
+            visitedBits = new long[(verticesCount + 63) >>> 6];
+            visitedBits[startIndex >>> 6] |= 1L << startIndex;
+        } else {
+            visited = VisitedSet.acquire(verticesCount);
+            visited.visit(startIndex);
+        }
+        queue[tail++] = startIndex;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (head == tail) {
+            if (expanded == head) {
+                close();
+                return false;
+            }
+            int u = queue[expanded++];
+            if (matrix != null) {
+                expandWords(matrix.row(u));
+                continue;
+            }
+            for (int e = storage.firstEdge(u); e != GraphStorage.NO_EDGE; e = storage.nextEdge(u, e)) {
+                int v = storage.edgeTarget(u, e);
+                if (visited.tryVisit(v)) {
+                    enqueue(v);
+                }
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int nextInt() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return queue[head++];
+    }
+
+    /**
+     * Завершує обхід і повертає множину відвіданих вершин у пул.
+     * Після закриття ітератор не повертає вершин
+     */
+
+    @Override
+    public void close() {
+        if (visited != null) {
+            visited.close();
+            visited = null;
+        }
+        head = tail = expanded = 0;
+    }
+
+    private void expandWords(long[] row) {
+        for (int w = 0, words = matrix.usedWords(); w < words; w++) {
+            long bits = row[w] & ~visitedBits[w];
+            if (bits == 0) continue;
+            visitedBits[w] |= bits;
+            for (; bits != 0; bits &= bits - 1) {
+                enqueue((w << 6) + Long.numberOfTrailingZeros(bits));
+            }
+        }
+    }
+
+    private void enqueue(int v) {
+        if (tail == queue.length) {
+            if (expanded > queue.length / 2) {
+                System.arraycopy(queue, expanded, queue, 0, tail - expanded);
+                head -= expanded;
+                tail -= expanded;
+                expanded = 0;
+            } else {
+                queue = Arrays.copyOf(queue, queue.length * 2);
+            }
+        }
+        queue[tail++] = v;
+    }
+}
@@ -0,0 +1,168 @@
+package jgraph;
+
+import java.util.Arrays;
+
+/**
+ * Розбиття вершин графа на компоненти зв'язності.
+ * Кожна вершина отримує номер компоненти від 0 до кількості компонент.
+ * Розбиття будується за час O(V + E): слабкі компоненти (та компоненти
+ * неорієнтованого графа) - через систему неперетинних множин,
+ * сильні компоненти - ітеративним алгоритмом Тар'яна
+ */
+
+public class Components {
+
+    private final int[] labels;
+    private final int[] sizes;
+
+    private Components(int[] labels, int[] sizes) {
+        this.labels = labels;
+        this.sizes = sizes;
+    }
+
+    /**
+     * Знаходить компоненти зв'язності без урахування напрямку ребер.
+     * Компоненти нумеруються в порядку найменших номерів їх вершин
+     * @param storage сховище ребер графа
+     * @param n кількість вершин графа
+     * @return розбиття вершин на компоненти
+     */
+
+    public static Components weaklyConnected(GraphStorage storage, int n) {
+        DisjointSet set = new DisjointSet(n);
+        for (int v = 0; v < n; v++) {
+            for (int e = storage.firstEdge(v); e != GraphStorage.NO_EDGE; e = storage.nextEdge(v, e)) {
+                set.union(v, storage.edgeTarget(v, e));
+            }
+        }
+
+        int[] labels = new int[n];
+        int[] rootLabels = new int[n];
+        Arrays.fill(rootLabels, -1);
+        int[] sizes = new int[set.getSetsCount()];
+        int count = 0;
+        for (int v = 0; v < n; v++) {
+            int root = set.find(v);
+            if (rootLabels[root] == -1) {
+                rootLabels[root] = count++;
+            }
+            labels[v] = rootLabels[root];
+            sizes[labels[v]]++;
+        }
+
+        return new Components(labels, sizes);
+    }
+
+    /**
+     * Знаходить компоненти сильної зв'язності ітеративним алгоритмом Тар'яна.
+     * Компоненти нумеруються у зворотному топологічному порядку:
+     * ребра між компонентами ведуть від більшого номера до меншого
+     * @param storage сховище ребер графа
+     * @param n кількість вершин графа
+     * @return розбиття вершин на компоненти
+     */
+
+    public static Components stronglyConnected(GraphStorage storage, int n) {
+        int[] index = new int[n];
+        int[] low = new int[n];
+        int[] labels = new int[n];
+        int[] sizes = new int[n];
+        boolean[] onStack = new boolean[n];
+        int[] stack = new int[n];
+        int[] callVertices = new int[n];
+        int[] callEdges = new int[n];
+        Arrays.fill(index, -1);
+        int counter = 0;
+        int stackSize = 0;
+        int count = 0;
+
+        for (int s = 0; s < n; s++) {
+            if (index[s] != -1) continue;
+            int depth = 0;
+            callVertices[depth] = s;
+            callEdges[depth] = storage.firstEdge(s);
+            depth++;
+            index[s] = low[s] = counter++;
+            stack[stackSize++] = s;
+            onStack[s] = true;
+
+            while (depth > 0) {
+                int v = callVertices[depth - 1];
+                int e = callEdges[depth - 1];
+                if (e != GraphStorage.NO_EDGE) {
+                    callEdges[depth - 1] = storage.nextEdge(v, e);
+                    int w = storage.edgeTarget(v, e);
+                    if (index[w] == -1) {
+                        index[w] = low[w] = counter++;
+                        stack[stackSize++] = w;
+                        onStack[w] = true;
+                        callVertices[depth] = w;
+                        callEdges[depth] = storage.firstEdge(w);
+                        depth++;
+                    } else if (onStack[w] && index[w] < low[v]) {
+                        low[v] = index[w];
+                    }
+                    continue;
+                }
+
+                depth--;
+                if (low[v] == index[v]) {
+                    int w;
+                    do {
+                        w = stack[--stackSize];
+                        onStack[w] = false;
+                        labels[w] = count;
+                        sizes[count]++;
+                    } while (w != v);
+                    count++;
+                }
+                if (depth > 0) {
+                    int parent = callVertices[depth - 1];
+                    if (low[v] < low[parent]) low[parent] = low[v];
+                }
+            }
+        }
+
+        return new Components(labels, Arrays.copyOf(sizes, count));
+    }
+
+    /**
+     * Повертає кількість компонент
+     * @return кількість компонент
+     */
+
+    public int getCount() {
+        return sizes.length;
+    }
+
+    /**
+     * Повертає номер компоненти, що містить вершину
+     * @param v номер вершини
+     * @return номер компоненти
+     */
+
+    public int getComponent(int v) {
+        return labels[v];
+    }
+
+    /**
+     * Повертає кількість вершин у компоненті
+     * @param component номер компоненти
+     * @return кількість вершин
+     */
+
+    public int getSize(int component) {
+        return sizes[component];
+    }
+
+    /**
+     * Перевіряє чи дві вершини належать одній компоненті
+     * @param a номер першої вершини
+     * @param b номер другої вершини
+     * @return {@code true} якщо вершини в одній компоненті, {@code false} - інакше
+     */
+
+    public boolean isSameComponent(int a, int b) {
+        return labels[a] == labels[b];
+    }
+}
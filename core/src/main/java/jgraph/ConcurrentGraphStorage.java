@@ -0,0 +1,553 @@
+package jgraph;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Сховище ребер, яке можна змінювати з кількох потоків одночасно.
+ * Кожна вершина має власні відсортовані рядки вихідних і вхідних ребер,
+ * а рядки захищені смугами блокувань: ребро змінюється під блокуваннями
+ * смуг обох його вершин, тому записи різних ребер виконуються паралельно.
+ * Рядки зберігаються блоками по {@value #CHUNK_SIZE} вершин, які ніколи
+ * не переносяться, тому додавання вершини не заважає записам ребер.
+ * Зміни набору вершин виконуються послідовно під одним блокуванням вершин,
+ * а видалення вершини, стиснення і знімок додатково блокують усі смуги.
+ * Знімок під блокуваннями всіх смуг копіює лише таблиці посилань на рядки,
+ * тобто O(V) посилань без жодного ребра, і спільно використовує рядки зі сховищем.
+ * Рядок, створений до знімка, копіюється при першому записі в нього
+ * під блокуванням лише його смуги. Копія сховища будується зі знімка без блокувань.
+ * Курсори ребер читають рядки без блокувань, тому алгоритми слід
+ * запускати на знімку сховища, а не на сховищі, яке змінюється.
+ * Ідентифікатором ребра є його позиція в рядку вершини
+ */
+
+public class ConcurrentGraphStorage implements GraphStorage {
+
+    /**
+     * Відсортований за номером кінцевої вершини рядок ребер однієї вершини
+     */
+
+    private static final class Adjacency {
+        private static final int MIN_CAPACITY = 4;
+
+        int[] targets;
+        double[] weights;
+        int count;
+
+        Adjacency() {
+            targets = new int[0];
+            weights = new double[0];
+        }
+
+        Adjacency(Adjacency other) {
+            targets = Arrays.copyOf(other.targets, other.count);
+            weights = Arrays.copyOf(other.weights, other.count);
+            count = other.count;
+        }
+
+        int find(int target) {
+            return Arrays.binarySearch(targets, 0, count, target);
+        }
+
+        double get(int target) {
+            int pos = find(target);
+            return pos >= 0 ? weights[pos] : 0;
+        }
+
+        void put(int target, double weight) {
+            int pos = find(target);
+            if (pos >= 0) {
+                weights[pos] = weight;
+                return;
+            }
+            int insertAt = -pos - 1;
+            if (count == targets.length) {
+                int capacity = Math.max(MIN_CAPACITY, count * 2);
+                targets = Arrays.copyOf(targets, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+            System.arraycopy(targets, insertAt, targets, insertAt + 1, count - insertAt);
+            System.arraycopy(weights, insertAt, weights, insertAt + 1, count - insertAt);
+            targets[insertAt] = target;
+            weights[insertAt] = weight;
+            count++;
+        }
+
+        void remove(int target) {
+            int pos = find(target);
+            if (pos < 0) return;
+            System.arraycopy(targets, pos + 1, targets, pos, count - pos - 1);
+            System.arraycopy(weights, pos + 1, weights, pos, count - pos - 1);
+            count--;
+        }
+
+        /**
+         * Змінює кінцеву вершину ребра, зберігаючи його вагу та впорядкованість рядка
+         */
+
+        void replace(int oldTarget, int newTarget) {
+            int pos = find(oldTarget);
+            if (pos < 0) return;
+            double weight = weights[pos];
+            remove(oldTarget);
+            put(newTarget, weight);
+        }
+
+        void trim() {
+            targets = Arrays.copyOf(targets, count);
+            weights = Arrays.copyOf(weights, count);
+        }
+    }
+
+    /**
+     * Вихідні та вхідні ребра однієї вершини, захищені смугою цієї вершини.
+     * Рядок змінюється на місці лише в тій епосі знімків, в якій його створено
+     */
+
+    private static final class Row {
+        final Adjacency out;
+        final Adjacency in;
+        final int epoch;
+
+        Row(int epoch) {
+            out = new Adjacency();
+            in = new Adjacency();
+            this.epoch = epoch;
+        }
+
+        Row(Row other, int epoch) {
+            out = new Adjacency(other.out);
+            in = new Adjacency(other.in);
+            this.epoch = epoch;
+        }
+    }
+
+    private static final int CHUNK_SHIFT = 8;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private volatile Row[][] chunks;
+    private volatile int verticesCount;
+    private final ReentrantLock vertexLock = new ReentrantLock();
+    private final ReentrantLock[] stripes;
+    private final int stripeMask;
+    private final boolean frozen;
+    private int epoch;
+
+    /**
+     * Створює сховище з заданою початковою місткістю і кількістю смуг
+     * блокувань, що в чотири рази перевищує кількість процесорів
+     * @param capacity початкова місткість
+     */
+
+    public ConcurrentGraphStorage(int capacity) {
+        this(capacity, 4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Створює сховище з заданою початковою місткістю і кількістю смуг блокувань
+     * @param capacity початкова місткість
+     * @param stripes кількість смуг блокувань, округлюється вгору до степеня двійки
+     */
+
+    public ConcurrentGraphStorage(int capacity, int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("Кількість смуг блокувань повинна бути додатною");
+        }
+        int count = Integer.highestOneBit(Math.max(1, stripes * 2 - 1));
+        this.stripes = new ReentrantLock[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.stripeMask = count - 1;
+        Row[][] initial = new Row[(capacity + CHUNK_MASK) >>> CHUNK_SHIFT][];
+        for (int i = 0; i < initial.length; i++) {
+            initial[i] = new Row[CHUNK_SIZE];
+        }
+        this.chunks = initial;
+        this.frozen = false;
+    }
+
+    /**
+     * Створює змінювану копію незмінного знімка
+     */
+
+    private ConcurrentGraphStorage(ConcurrentGraphStorage snapshot) {
+        this(snapshot.capacity(), snapshot.stripes.length);
+        int n = snapshot.verticesCount;
+        for (int v = 0; v < n; v++) {
+            Row row = snapshot.row(v);
+            if (row != null) chunks[v >>> CHUNK_SHIFT][v & CHUNK_MASK] = new Row(row, 0);
+        }
+        verticesCount = n;
+    }
+
+    /**
+     * Створює незмінний знімок з уже скопійованих таблиць посилань на рядки
+     */
+
+    private ConcurrentGraphStorage(ConcurrentGraphStorage live, Row[][] chunks, int verticesCount) {
+        this.chunks = chunks;
+        this.verticesCount = verticesCount;
+        this.stripes = live.stripes;
+        this.stripeMask = live.stripeMask;
+        this.frozen = true;
+    }
+
+    @Override
+    public int capacity() {
+        return chunks.length << CHUNK_SHIFT;
+    }
+
+    @Override
+    public int verticesCount() {
+        return verticesCount;
+    }
+
+    /**
+     * Додає вершину під блокуванням вершин, не блокуючи смуг, тому вершини
+     * додаються послідовно, але не зупиняють записів ребер. Блок рядків
+     * нової вершини створюється до збільшення кількості вершин
+     */
+
+    @Override
+    public void addVertex() {
+        checkWritable();
+        vertexLock.lock();
+        try {
+            ensureChunk(verticesCount >>> CHUNK_SHIFT);
+            verticesCount++;
+        } finally {
+            vertexLock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteVertex(int index) {
+        checkWritable();
+        lockAll();
+        try {
+            Row victim = row(index);
+            if (victim != null) {
+                for (int i = 0; i < victim.out.count; i++) {
+                    int end = victim.out.targets[i];
+                    if (end != index) writableRow(end).in.remove(index);
+                }
+                for (int i = 0; i < victim.in.count; i++) {
+                    int start = victim.in.targets[i];
+                    if (start != index) writableRow(start).out.remove(index);
+                }
+            }
+            int last = verticesCount - 1;
+            Row moved = null;
+            if (index != last && row(last) != null) {
+                moved = writableRow(last);
+                for (int i = 0; i < moved.out.count; i++) {
+                    int end = moved.out.targets[i];
+                    if (end != last) writableRow(end).in.replace(last, index);
+                }
+                for (int i = 0; i < moved.in.count; i++) {
+                    int start = moved.in.targets[i];
+                    if (start != last) writableRow(start).out.replace(last, index);
+                }
+                moved.out.replace(last, index);
+                moved.in.replace(last, index);
+            }
+            chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK] = moved;
+            chunks[last >>> CHUNK_SHIFT][last & CHUNK_MASK] = null;
+            verticesCount--;
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public void compact() {
+        if (frozen) return;
+        lockAll();
+        try {
+            int n = verticesCount;
+            Row[][] trimmed = Arrays.copyOf(chunks, (n + CHUNK_MASK) >>> CHUNK_SHIFT);
+            for (int v = 0; v < n; v++) {
+                Row row = row(v);
+                if (row == null) continue;
+                if (row.epoch != epoch) {
+                    trimmed[v >>> CHUNK_SHIFT][v & CHUNK_MASK] = new Row(row, epoch);
+                } else {
+                    row.out.trim();
+                    row.in.trim();
+                }
+            }
+            chunks = trimmed;
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public double getWeight(int start, int end) {
+        if (frozen) {
+            Row row = row(start);
+            return row != null ? row.out.get(end) : 0;
+        }
+        ReentrantLock lock = stripeOf(start);
+        lock.lock();
+        try {
+            Row row = row(start);
+            return row != null ? row.out.get(end) : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void setWeight(int start, int end, double weight) {
+        checkWritable();
+        ReentrantLock first = stripes[Math.min(start & stripeMask, end & stripeMask)];
+        ReentrantLock second = stripes[Math.max(start & stripeMask, end & stripeMask)];
+        lock(first, second);
+        try {
+            write(start, end, weight);
+        } finally {
+            unlock(first, second);
+        }
+    }
+
+    /**
+     * Записує вагу ребра в обох напрямках під одними блокуваннями,
+     * тому обидва напрямки неорієнтованого ребра з'являються одночасно
+     * @param start номер першої вершини
+     * @param end номер другої вершини
+     * @param weight вага ребра, 0 - щоб видалити ребро
+     */
+
+    public void setSymmetricWeight(int start, int end, double weight) {
+        checkWritable();
+        ReentrantLock first = stripes[Math.min(start & stripeMask, end & stripeMask)];
+        ReentrantLock second = stripes[Math.max(start & stripeMask, end & stripeMask)];
+        lock(first, second);
+        try {
+            write(start, end, weight);
+            write(end, start, weight);
+        } finally {
+            unlock(first, second);
+        }
+    }
+
+    /**
+     * Записує вагу одного напрямку ребра. Незмінна вага перевіряється в поточному
+     * рядку без копіювання, тому повторний запис того самого ребра після знімка
+     * не копіює рядок, спільний зі знімком
+     */
+
+    private void write(int start, int end, double weight) {
+        checkVertex(start);
+        Row current = row(start);
+        if ((current != null ? current.out.get(end) : 0) == weight) return;
+        Row from = writableRow(start);
+        Row to = writableRow(end);
+        if (weight == 0) {
+            from.out.remove(end);
+            to.in.remove(start);
+        } else {
+            from.out.put(end, weight);
+            to.in.put(start, weight);
+        }
+    }
+
+    @Override
+    public int outDegree(int v) {
+        Row row = row(v);
+        return row != null ? row.out.count : 0;
+    }
+
+    @Override
+    public int inDegree(int v) {
+        Row row = row(v);
+        return row != null ? row.in.count : 0;
+    }
+
+    @Override
+    public int firstEdge(int v) {
+        return outDegree(v) > 0 ? 0 : NO_EDGE;
+    }
+
+    @Override
+    public int nextEdge(int v, int edge) {
+        return edge + 1 < outDegree(v) ? edge + 1 : NO_EDGE;
+    }
+
+    @Override
+    public int edgeTarget(int v, int edge) {
+        return row(v).out.targets[edge];
+    }
+
+    @Override
+    public double edgeWeight(int v, int edge) {
+        return row(v).out.weights[edge];
+    }
+
+    @Override
+    public int firstInEdge(int v) {
+        return inDegree(v) > 0 ? 0 : NO_EDGE;
+    }
+
+    @Override
+    public int nextInEdge(int v, int edge) {
+        return edge + 1 < inDegree(v) ? edge + 1 : NO_EDGE;
+    }
+
+    @Override
+    public int inEdgeSource(int v, int edge) {
+        return row(v).in.targets[edge];
+    }
+
+    @Override
+    public double inEdgeWeight(int v, int edge) {
+        return row(v).in.weights[edge];
+    }
+
+    @Override
+    public GraphStorage createEmpty() {
+        return new ConcurrentGraphStorage(capacity(), stripes.length);
+    }
+
+    /**
+     * Будує змінювану копію зі знімка, тому записи блокуються лише на час знімка
+     * @return копія сховища
+     */
+
+    @Override
+    public GraphStorage copy() {
+        return new ConcurrentGraphStorage((ConcurrentGraphStorage) snapshot());
+    }
+
+    /**
+     * Створює незмінний знімок під блокуваннями всіх смуг, тому знімок містить
+     * обидва напрямки кожного неорієнтованого ребра. Під блокуваннями копіюються
+     * лише таблиці посилань на рядки, а рядки залишаються спільними:
+     * нова епоха змушує письменників копіювати рядок перед першим записом у нього
+     * @return знімок сховища
+     */
+
+    @Override
+    public GraphStorage snapshot() {
+        if (frozen) return this;
+        lockAll();
+        try {
+            Row[][] current = chunks;
+            Row[][] copied = new Row[current.length][];
+            for (int i = 0; i < current.length; i++) {
+                copied[i] = current[i].clone();
+            }
+            epoch++;
+
+            return new ConcurrentGraphStorage(this, copied, verticesCount);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    private Row row(int v) {
+        Row[][] current = chunks;
+        int chunk = v >>> CHUNK_SHIFT;
+        if (chunk >= current.length || current[chunk] == null) return null;
+        return current[chunk][v & CHUNK_MASK];
+    }
+
+    /**
+     * Повертає рядок вершини, який можна змінювати: створює його при першому записі,
+     * а рядок, спільний зі знімком, замінює копією.
+     * Викликається під блокуванням смуги цієї вершини
+     */
+
+    private Row writableRow(int v) {
+        checkVertex(v);
+        Row[] chunk = chunks[v >>> CHUNK_SHIFT];
+        Row row = chunk[v & CHUNK_MASK];
+        if (row == null) {
+            row = new Row(epoch);
+            chunk[v & CHUNK_MASK] = row;
+        } else if (row.epoch != epoch) {
+            row = new Row(row, epoch);
+            chunk[v & CHUNK_MASK] = row;
+        }
+
+        return row;
+    }
+
+    /**
+     * Створює блок рядків за потреби. Викликається під блокуванням вершин.
+     * Каталог блоків копіюється при кожному рості і публікується
+     * через volatile поле, тому вже створені блоки не переносяться,
+     * а письменники ребер, які читають старий каталог, пишуть у ті самі блоки
+     */
+
+    private void ensureChunk(int chunk) {
+        Row[][] current = chunks;
+        if (chunk < current.length && current[chunk] != null) return;
+        Row[][] grown = Arrays.copyOf(current, Math.max(chunk + 1, current.length * 2));
+        for (int i = 0; i < grown.length; i++) {
+            if (grown[i] == null) grown[i] = new Row[CHUNK_SIZE];
+        }
+        chunks = grown;
+    }
+
+    /**
+     * Перевіряє чи сховище є незмінним знімком
+     * @return true, якщо сховище створене методом {@link #snapshot()}
+     */
+
+    boolean isSnapshot() {
+        return frozen;
+    }
+
+    private void checkVertex(int v) {
+        if (v < 0 || v >= verticesCount) {
+            throw new IndexOutOfBoundsException("Вершини з номером " + v + " не існує");
+        }
+    }
+
+    private void checkWritable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Знімок сховища доступний тільки для читання");
+        }
+    }
+
+    private ReentrantLock stripeOf(int v) {
+        return stripes[v & stripeMask];
+    }
+
+    /**
+     * Блокує дві смуги в порядку зростання їх номерів, щоб уникнути взаємного блокування
+     */
+
+    private static void lock(ReentrantLock first, ReentrantLock second) {
+        first.lock();
+        if (second != first) second.lock();
+    }
+
+    private static void unlock(ReentrantLock first, ReentrantLock second) {
+        if (second != first) second.unlock();
+        first.unlock();
+    }
+
+    /**
+     * Блокує вершини, а потім усі смуги. Письменники ребер блокують лише смуги,
+     * тому такий порядок не призводить до взаємного блокування
+     */
+
+    private void lockAll() {
+        vertexLock.lock();
+        for (ReentrantLock stripe : stripes) {
+            stripe.lock();
+        }
+    }
+
+    private void unlockAll() {
+        for (int i = stripes.length - 1; i >= 0; i--) {
+            stripes[i].unlock();
+        }
+        vertexLock.unlock();
+    }
+}
@@ -0,0 +1,95 @@
+package jgraph;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Неорієнтований граф, до якого можна додавати ребра і вершини з кількох потоків.
+ * Ребра зберігаються в {@link ConcurrentGraphStorage}, тому записи різних ребер
+ * виконуються паралельно під блокуваннями смуг їх вершин. Вершини додаються
+ * і видаляються послідовно під одним блокуванням вершин графа, яке
+ * не зупиняє записів ребер. Номер версії графа збільшується через {@link LongAdder},
+ * щоб потоки не змагалися за один лічильник.
+ * Обидва напрямки ребра записуються під одними блокуваннями,
+ * тому знімок ніколи не містить лише один з них.
+ * Алгоритми слід запускати на знімку, створеному методом {@link #snapshot()}.
+ * Знімок блокує записи лише на час копіювання O(V) посилань на рядки вершин,
+ * а кожен рядок, спільний зі знімком, копіюється при першому записі в нього
+ */
+
+public class ConcurrentNonOrderedGraph extends NonOrderedGraph {
+
+    private final ConcurrentGraphStorage edges;
+    private final LongAdder modifications = new LongAdder();
+    private final Object vertexLock = new Object();
+
+    /**
+     * Створює конкурентний неорієнтований граф з заданою початковою місткістю
+     * @param maxVerticesCount початкова кількість вершин
+     */
+
+    public ConcurrentNonOrderedGraph(int maxVerticesCount){
+        this(new ConcurrentGraphStorage(maxVerticesCount));
+    }
+
+    /**
+     * Створює конкурентний неорієнтований граф, ребра якого зберігаються
+     * в заданому порожньому сховищі
+     * @param storage сховище ребер
+     * @throws IllegalArgumentException якщо сховище вже містить вершини
+     */
+
+    public ConcurrentNonOrderedGraph(ConcurrentGraphStorage storage){
+        super(storage);
+        this.edges = storage;
+    }
+
+    @Override
+    public void addEdge(int start, int end, double weight) {
+        edges.setSymmetricWeight(start, end, weight);
+        modified();
+    }
+
+    @Override
+    public void addVertex(char label) {
+        synchronized (vertexLock) {
+            super.addVertex(label);
+        }
+    }
+
+    @Override
+    public void deleteVertex(int index) {
+        synchronized (vertexLock) {
+            super.deleteVertex(index);
+        }
+    }
+
+    @Override
+    public void compact() {
+        synchronized (vertexLock) {
+            super.compact();
+        }
+    }
+
+    /**
+     * Створює незмінний знімок графа, в якому видно всі ребра,
+     * додані до початку створення знімка
+     * @return знімок графа
+     */
+
+    @Override
+    public NonOrderedGraph snapshot() {
+        synchronized (vertexLock) {
+            return super.snapshot();
+        }
+    }
+
+    @Override
+    protected void modified() {
+        modifications.increment();
+    }
+
+    @Override
+    public long getModificationCount() {
+        return modifications.sum();
+    }
+}
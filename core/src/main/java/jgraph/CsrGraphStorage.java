@@ -0,0 +1,448 @@
+package jgraph;
+
+import java.util.Arrays;
+
+/**
+ * Розріджене сховище ребер у форматі CSR (compressed sparse row).
+ * Ребра кожної вершини зберігаються неперервним відрізком спільних масивів
+ * кінцевих вершин та ваг, відсортованим за номером кінцевої вершини.
+ * Для кожної вершини окремо зберігаються і вихідні, і вхідні ребра,
+ * тому пам'ять пропорційна O(V + E), а не квадрату кількості вершин.
+ * Знімок сховища створюється за O(1) і спільно використовує масиви ребер:
+ * після знімка рядок перед першим записом переноситься в кінець масивів,
+ * куди знімок ніколи не заглядає, тому його відрізок залишається незмінним.
+ * Ідентифікатором ребра є його позиція у масиві кінцевих вершин
+ */
+
+public class CsrGraphStorage implements GraphStorage {
+
+    /**
+     * Множина рядків CSR. Рядок, якому забракло місця,
+     * переноситься в кінець масивів з подвоєною місткістю.
+     * Після створення знімка масиви рядків спільні зі знімком,
+     * і кожен рядок переноситься в кінець масивів перед першою зміною
+     */
+
+    static final class Rows {
+        private static final int MIN_ROW_CAPACITY = 4;
+
+        int[] offsets;
+        int[] counts;
+        int[] capacities;
+        int[] targets;
+        double[] weights;
+        int tail;
+        private boolean shared;
+        private boolean[] owned;
+
+        Rows(int verticesCapacity, int edgesCapacity) {
+            offsets = new int[verticesCapacity];
+            counts = new int[verticesCapacity];
+            capacities = new int[verticesCapacity];
+            targets = new int[edgesCapacity];
+            weights = new double[edgesCapacity];
+            tail = 0;
+        }
+
+        Rows(int[] offsets, int[] counts, int[] capacities, int[] targets, double[] weights) {
+            this.offsets = offsets;
+            this.counts = counts;
+            this.capacities = capacities;
+            this.targets = targets;
+            this.weights = weights;
+            this.tail = targets.length;
+        }
+
+        Rows(Rows other) {
+            offsets = other.offsets.clone();
+            counts = other.counts.clone();
+            capacities = other.capacities.clone();
+            targets = other.targets.clone();
+            weights = other.weights.clone();
+            tail = other.tail;
+        }
+
+        /**
+         * Створює незмінний знімок рядків, що спільно використовує їх масиви.
+         * Після цього ці рядки копіюють змінювані частини перед записом
+         */
+
+        Rows share() {
+            Rows snapshot = new Rows(offsets, counts, capacities, targets, weights);
+            snapshot.tail = tail;
+            shared = true;
+
+            return snapshot;
+        }
+
+        /**
+         * Копіює масиви відступів, кількостей і місткостей, спільні зі знімком,
+         * і позначає всі рядки як спільні
+         */
+
+        private void unshare() {
+            if (!shared) return;
+            offsets = offsets.clone();
+            counts = counts.clone();
+            capacities = capacities.clone();
+            owned = new boolean[offsets.length];
+            shared = false;
+        }
+
+        /**
+         * Переносить рядок, спільний зі знімком, у кінець масивів перед зміною
+         */
+
+        private void own(int v) {
+            unshare();
+            if (owned != null && !owned[v]) {
+                owned[v] = true;
+                relocate(v, Math.max(MIN_ROW_CAPACITY, capacities[v]));
+            }
+        }
+
+        /**
+         * Знаходить позицію ребра в рядку двійковим пошуком
+         * @return позиція ребра, або {@code -(точка вставки) - 1} якщо ребра немає
+         */
+
+        int find(int v, int target) {
+            return Arrays.binarySearch(targets, offsets[v], offsets[v] + counts[v], target);
+        }
+
+        void put(int v, int target, double weight) {
+            own(v);
+            int pos = find(v, target);
+            if (pos >= 0) {
+                weights[pos] = weight;
+                return;
+            }
+            int shift = -pos - 1 - offsets[v];
+            if (counts[v] == capacities[v]) {
+                relocate(v, Math.max(MIN_ROW_CAPACITY, capacities[v] * 2));
+            }
+            int insertAt = offsets[v] + shift;
+            int end = offsets[v] + counts[v];
+            System.arraycopy(targets, insertAt, targets, insertAt + 1, end - insertAt);
+            System.arraycopy(weights, insertAt, weights, insertAt + 1, end - insertAt);
+            targets[insertAt] = target;
+            weights[insertAt] = weight;
+            counts[v]++;
+        }
+
+        void remove(int v, int target) {
+            if (find(v, target) < 0) return;
+            own(v);
+            int pos = find(v, target);
+            int end = offsets[v] + counts[v];
+            System.arraycopy(targets, pos + 1, targets, pos, end - pos - 1);
+            System.arraycopy(weights, pos + 1, weights, pos, end - pos - 1);
+            counts[v]--;
+        }
+
+        double get(int v, int target) {
+            int pos = find(v, target);
+            return pos >= 0 ? weights[pos] : 0;
+        }
+
+        /**
+         * Змінює кінцеву вершину ребра в рядку, зберігаючи його вагу та впорядкованість рядка
+         */
+
+        void replace(int v, int oldTarget, int newTarget) {
+            int pos = find(v, oldTarget);
+            if (pos < 0) return;
+            double weight = weights[pos];
+            remove(v, oldTarget);
+            put(v, newTarget, weight);
+        }
+
+        /**
+         * Переносить рядок {@code from} на місце рядка {@code to},
+         * місце, яке займав рядок {@code to}, стає прогалиною
+         */
+
+        void moveRow(int from, int to) {
+            unshare();
+            if (owned != null) owned[to] = owned[from];
+            offsets[to] = offsets[from];
+            counts[to] = counts[from];
+            capacities[to] = capacities[from];
+            clearRow(from);
+        }
+
+        void clearRow(int v) {
+            unshare();
+            if (owned != null) owned[v] = false;
+            offsets[v] = 0;
+            counts[v] = 0;
+            capacities[v] = 0;
+        }
+
+        void resizeVertices(int verticesCapacity) {
+            unshare();
+            if (owned != null) owned = Arrays.copyOf(owned, verticesCapacity);
+            offsets = Arrays.copyOf(offsets, verticesCapacity);
+            counts = Arrays.copyOf(counts, verticesCapacity);
+            capacities = Arrays.copyOf(capacities, verticesCapacity);
+        }
+
+        /**
+         * Переписує рядки щільно один за одним, прибираючи прогалини
+         */
+
+        void compact(int verticesCount) {
+            unshare();
+            owned = null;
+            int edges = 0;
+            for (int v = 0; v < verticesCount; v++) {
+                edges += counts[v];
+            }
+            int[] newTargets = new int[edges];
+            double[] newWeights = new double[edges];
+            int pos = 0;
+            for (int v = 0; v < verticesCount; v++) {
+                System.arraycopy(targets, offsets[v], newTargets, pos, counts[v]);
+                System.arraycopy(weights, offsets[v], newWeights, pos, counts[v]);
+                offsets[v] = pos;
+                capacities[v] = counts[v];
+                pos += counts[v];
+            }
+            targets = newTargets;
+            weights = newWeights;
+            tail = edges;
+            resizeVertices(verticesCount);
+        }
+
+        private void relocate(int v, int newCapacity) {
+            if (tail + newCapacity > targets.length) {
+                int length = Math.max(tail + newCapacity, targets.length * 2);
+                targets = Arrays.copyOf(targets, length);
+                weights = Arrays.copyOf(weights, length);
+            }
+            System.arraycopy(targets, offsets[v], targets, tail, counts[v]);
+            System.arraycopy(weights, offsets[v], weights, tail, counts[v]);
+            offsets[v] = tail;
+            capacities[v] = newCapacity;
+            tail += newCapacity;
+        }
+
+    }
+
+    private static final int MIN_CAPACITY = 4;
+
+    private int capacity;
+    private int verticesCount;
+    private final Rows out;
+    private final Rows in;
+    private final boolean frozen;
+
+    /**
+     * Створює сховище з заданою початковою місткістю
+     * @param capacity початкова місткість
+     */
+
+    public CsrGraphStorage(int capacity) {
+        this(capacity, 0);
+    }
+
+    /**
+     * Створює сховище з заданою початковою місткістю
+     * та очікуваною кількістю ребер
+     * @param capacity початкова місткість
+     * @param expectedEdges очікувана кількість ребер
+     */
+
+    public CsrGraphStorage(int capacity, int expectedEdges) {
+        this.capacity = capacity;
+        this.verticesCount = 0;
+        this.out = new Rows(capacity, expectedEdges);
+        this.in = new Rows(capacity, expectedEdges);
+        this.frozen = false;
+    }
+
+    /**
+     * Створює сховище з уже заповнених рядків вихідних і вхідних ребер.
+     * Масиви використовуються без копіювання, рядки мають бути відсортовані
+     * за номером кінцевої вершини і не містити повторних ребер
+     * @param verticesCount кількість вершин
+     * @param out вихідні ребра
+     * @param in вхідні ребра
+     */
+
+    CsrGraphStorage(int verticesCount, Rows out, Rows in) {
+        this.capacity = verticesCount;
+        this.verticesCount = verticesCount;
+        this.out = out;
+        this.in = in;
+        this.frozen = false;
+    }
+
+    private CsrGraphStorage(CsrGraphStorage other) {
+        this.capacity = other.capacity;
+        this.verticesCount = other.verticesCount;
+        this.out = new Rows(other.out);
+        this.in = new Rows(other.in);
+        this.frozen = false;
+    }
+
+    private CsrGraphStorage(CsrGraphStorage live, Rows out, Rows in) {
+        this.capacity = live.capacity;
+        this.verticesCount = live.verticesCount;
+        this.out = out;
+        this.in = in;
+        this.frozen = true;
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public int verticesCount() {
+        return verticesCount;
+    }
+
+    @Override
+    public void addVertex() {
+        checkWritable();
+        if (verticesCount == capacity) {
+            capacity = Math.max(MIN_CAPACITY, capacity * 2);
+            out.resizeVertices(capacity);
+            in.resizeVertices(capacity);
+        }
+        verticesCount++;
+    }
+
+    @Override
+    public void deleteVertex(int index) {
+        checkWritable();
+        for (int e = firstEdge(index); e != NO_EDGE; e = nextEdge(index, e)) {
+            int end = out.targets[e];
+            if (end != index) in.remove(end, index);
+        }
+        for (int e = firstInEdge(index); e != NO_EDGE; e = nextInEdge(index, e)) {
+            int start = in.targets[e];
+            if (start != index) out.remove(start, index);
+        }
+        out.clearRow(index);
+        in.clearRow(index);
+
+        int last = verticesCount - 1;
+        if (index != last) {
+            for (int e = firstEdge(last); e != NO_EDGE; e = nextEdge(last, e)) {
+                int end = out.targets[e];
+                if (end != last) in.replace(end, last, index);
+            }
+            for (int e = firstInEdge(last); e != NO_EDGE; e = nextInEdge(last, e)) {
+                int start = in.targets[e];
+                if (start != last) out.replace(start, last, index);
+            }
+            out.moveRow(last, index);
+            in.moveRow(last, index);
+            out.replace(index, last, index);
+            in.replace(index, last, index);
+        }
+        verticesCount--;
+    }
+
+    @Override
+    public void compact() {
+        if (frozen) return;
+        capacity = verticesCount;
+        out.compact(verticesCount);
+        in.compact(verticesCount);
+    }
+
+    @Override
+    public double getWeight(int start, int end) {
+        return out.get(start, end);
+    }
+
+    @Override
+    public void setWeight(int start, int end, double weight) {
+        checkWritable();
+        if (out.get(start, end) == weight) return;
+        if (weight == 0) {
+            out.remove(start, end);
+            in.remove(end, start);
+        } else {
+            out.put(start, end, weight);
+            in.put(end, start, weight);
+        }
+    }
+
+    @Override
+    public int outDegree(int v) {
+        return out.counts[v];
+    }
+
+    @Override
+    public int inDegree(int v) {
+        return in.counts[v];
+    }
+
+    @Override
+    public int firstEdge(int v) {
+        return out.counts[v] > 0 ? out.offsets[v] : NO_EDGE;
+    }
+
+    @Override
+    public int nextEdge(int v, int edge) {
+        return edge + 1 < out.offsets[v] + out.counts[v] ? edge + 1 : NO_EDGE;
+    }
+
+    @Override
+    public int edgeTarget(int v, int edge) {
+        return out.targets[edge];
+    }
+
+    @Override
+    public double edgeWeight(int v, int edge) {
+        return out.weights[edge];
+    }
+
+    @Override
+    public int firstInEdge(int v) {
+        return in.counts[v] > 0 ? in.offsets[v] : NO_EDGE;
+    }
+
+    @Override
+    public int nextInEdge(int v, int edge) {
+        return edge + 1 < in.offsets[v] + in.counts[v] ? edge + 1 : NO_EDGE;
+    }
+
+    @Override
+    public int inEdgeSource(int v, int edge) {
+        return in.targets[edge];
+    }
+
+    @Override
+    public double inEdgeWeight(int v, int edge) {
+        return in.weights[edge];
+    }
+
+    @Override
+    public GraphStorage createEmpty() {
+        return new CsrGraphStorage(capacity);
+    }
+
+    @Override
+    public GraphStorage copy() {
+        return new CsrGraphStorage(this);
+    }
+
+    @Override
+    public GraphStorage snapshot() {
+        if (frozen) return this;
+
+        return new CsrGraphStorage(this, out.share(), in.share());
+    }
+
+    private void checkWritable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Знімок сховища доступний тільки для читання");
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package jgraph;
+
+import java.util.Arrays;
+
+/**
+ * Сховище ребер на основі матриці суміжності.
+ * Кількості вхідних і вихідних ребер кожної вершини підтримуються
+ * при зміні ваг, тому степінь вершини повертається за O(1).
+ * Знімок сховища створюється за O(1) і спільно використовує рядки матриці:
+ * після знімка сховище копіює рядок лише перед першим записом у нього.
+ * Ідентифікатором ребра є номер стовпця (для вихідних ребер)
+ * або рядка (для вхідних ребер) матриці
+ */
+
+public class DenseGraphStorage implements GraphStorage {
+
+    private static final int MIN_CAPACITY = 4;
+
+    private int capacity;
+    private int verticesCount;
+    private double[][] matrix;
+    private int[] outDegrees;
+    private int[] inDegrees;
+    private boolean frozen;
+    private boolean shared;
+    private boolean[] ownedRows;
+
+    /**
+     * Створює сховище з заданою початковою місткістю
+     * @param capacity початкова місткість
+     */
+
+    public DenseGraphStorage(int capacity) {
+        this.capacity = capacity;
+        this.verticesCount = 0;
+        this.matrix = new double[capacity][capacity];
+        this.outDegrees = new int[capacity];
+        this.inDegrees = new int[capacity];
+    }
+
+    /**
+     * Створює сховище з заданою матрицею суміжності та кількістю вершин
+     * @param matrix матриця суміжності, яка копіюється
+     * @param capacity початкова місткість
+     * @param verticesCount кількість вершин
+     */
+
+    public DenseGraphStorage(double[][] matrix, int capacity, int verticesCount) {
+        this(Math.max(capacity, matrix.length));
+        for (int i = 0; i < matrix.length; i++) {
+            System.arraycopy(matrix[i], 0, this.matrix[i], 0, matrix[i].length);
+        }
+        this.verticesCount = verticesCount;
+        for (int i = 0; i < verticesCount; i++) {
+            for (int j = 0; j < verticesCount; j++) {
+                if (this.matrix[i][j] != 0) {
+                    outDegrees[i]++;
+                    inDegrees[j]++;
+                }
+            }
+        }
+    }
+
+    private DenseGraphStorage(DenseGraphStorage live) {
+        this.capacity = live.capacity;
+        this.verticesCount = live.verticesCount;
+        this.matrix = live.matrix;
+        this.outDegrees = live.outDegrees;
+        this.inDegrees = live.inDegrees;
+        this.frozen = true;
+    }
+
+    /**
+     * Повертає матрицю суміжності, на якій побудоване сховище.
+     * Зміни матриці в обхід {@link #setWeight} не оновлюють степені вершин.
+     * Для знімка повертається копія матриці розміром кількості вершин
+     * @return матриця суміжності
+     */
+
+    public double[][] getMatrix() {
+        if (frozen) {
+            double[][] copy = new double[verticesCount][];
+            for (int i = 0; i < verticesCount; i++) {
+                copy[i] = Arrays.copyOf(matrix[i], verticesCount);
+            }
+            return copy;
+        }
+        ownAllRows();
+
+        return matrix;
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public int verticesCount() {
+        return verticesCount;
+    }
+
+    @Override
+    public void addVertex() {
+        checkWritable();
+        if (verticesCount == capacity) {
+            resize(Math.max(MIN_CAPACITY, capacity * 2));
+        }
+        verticesCount++;
+    }
+
+    @Override
+    public void deleteVertex(int index) {
+        checkWritable();
+        ownAllRows();
+        int n = verticesCount;
+        int last = n - 1;
+        for (int i = 0; i < n; i++) {
+            if (matrix[index][i] != 0) inDegrees[i]--;
+            if (matrix[i][index] != 0) outDegrees[i]--;
+        }
+        if (index != last) {
+            double[] row = matrix[index];
+            matrix[index] = matrix[last];
+            matrix[last] = row;
+            for (int i = 0; i < n; i++) {
+                matrix[i][index] = matrix[i][last];
+            }
+            outDegrees[index] = outDegrees[last];
+            inDegrees[index] = inDegrees[last];
+        }
+        Arrays.fill(matrix[last], 0, n, 0);
+        for (int i = 0; i < n; i++) {
+            matrix[i][last] = 0;
+        }
+        outDegrees[last] = 0;
+        inDegrees[last] = 0;
+        verticesCount--;
+    }
+
+    @Override
+    public void compact() {
+        if (frozen) return;
+        resize(verticesCount);
+    }
+
+    private void resize(int newCapacity) {
+        double[][] newMatrix = new double[newCapacity][newCapacity];
+        for (int i = 0; i < verticesCount; i++) {
+            System.arraycopy(matrix[i], 0, newMatrix[i], 0, verticesCount);
+        }
+        matrix = newMatrix;
+        outDegrees = Arrays.copyOf(outDegrees, newCapacity);
+        inDegrees = Arrays.copyOf(inDegrees, newCapacity);
+        capacity = newCapacity;
+        shared = false;
+        ownedRows = null;
+    }
+
+    /**
+     * Готує сховище до запису після створення знімка: копіює масив рядків
+     * і степені вершин, а всі рядки позначає як спільні зі знімком
+     */
+
+    private void unshare() {
+        matrix = matrix.clone();
+        outDegrees = outDegrees.clone();
+        inDegrees = inDegrees.clone();
+        ownedRows = new boolean[capacity];
+        shared = false;
+    }
+
+    /**
+     * Повертає рядок матриці, який можна змінювати, копіюючи його,
+     * якщо він ще спільний зі знімком
+     */
+
+    private double[] writableRow(int v) {
+        if (shared) unshare();
+        if (ownedRows != null && !ownedRows[v]) {
+            matrix[v] = matrix[v].clone();
+            ownedRows[v] = true;
+        }
+
+        return matrix[v];
+    }
+
+    private void ownAllRows() {
+        if (shared) unshare();
+        if (ownedRows == null) return;
+        for (int v = 0; v < capacity; v++) {
+            if (!ownedRows[v]) matrix[v] = matrix[v].clone();
+        }
+        ownedRows = null;
+    }
+
+    private void checkWritable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Знімок сховища доступний тільки для читання");
+        }
+    }
+
+    @Override
+    public double getWeight(int start, int end) {
+        return matrix[start][end];
+    }
+
+    @Override
+    public void setWeight(int start, int end, double weight) {
+        checkWritable();
+        double previous = matrix[start][end];
+        if (previous == weight) return;
+        boolean existed = previous != 0;
+        writableRow(start)[end] = weight;
+        if (existed != (weight != 0)) {
+            int delta = existed ? -1 : 1;
+            outDegrees[start] += delta;
+            inDegrees[end] += delta;
+        }
+    }
+
+    @Override
+    public int outDegree(int v) {
+        return outDegrees[v];
+    }
+
+    @Override
+    public int inDegree(int v) {
+        return inDegrees[v];
+    }
+
+    @Override
+    public int firstEdge(int v) {
+        return nextEdge(v, -1);
+    }
+
+    @Override
+    public int nextEdge(int v, int edge) {
+        double[] row = matrix[v];
+        for (int i = edge + 1; i < verticesCount; i++) {
+            if (row[i] != 0) return i;
+        }
+
+        return NO_EDGE;
+    }
+
+    @Override
+    public int edgeTarget(int v, int edge) {
+        return edge;
+    }
+
+    @Override
+    public double edgeWeight(int v, int edge) {
+        return matrix[v][edge];
+    }
+
+    @Override
+    public int firstInEdge(int v) {
+        return nextInEdge(v, -1);
+    }
+
+    @Override
+    public int nextInEdge(int v, int edge) {
+        for (int i = edge + 1; i < verticesCount; i++) {
+            if (matrix[i][v] != 0) return i;
+        }
+
+        return NO_EDGE;
+    }
+
+    @Override
+    public int inEdgeSource(int v, int edge) {
+        return edge;
+    }
+
+    @Override
+    public double inEdgeWeight(int v, int edge) {
+        return matrix[edge][v];
+    }
+
+    @Override
+    public GraphStorage createEmpty() {
+        return new DenseGraphStorage(capacity);
+    }
+
+    @Override
+    public GraphStorage copy() {
+        return new DenseGraphStorage(matrix, capacity, verticesCount);
+    }
+
+    @Override
+    public GraphStorage snapshot() {
+        if (frozen) return this;
+        shared = true;
+
+        return new DenseGraphStorage(this);
+    }
+}
@@ -0,0 +1,113 @@
+package jgraph;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Лінивий ітеративний обхід графа в глибину.
+ * Замість рекурсії використовує явний стек пар (вершина, поточне ребро),
+ * тому глибина обходу не обмежена розміром стеку потоку.
+ * Вершини повертаються в тому ж порядку, що й при рекурсивному обході,
+ * а робота виконується лише для тих вершин, які запитав викликач.
+ * Множина відвіданих вершин повертається в пул, коли обхід завершено
+ * або ітератор закрито методом {@link #close()}
+ */
+
+public class DepthFirstIterator implements PrimitiveIterator.OfInt, AutoCloseable {
+
+    private static final int INITIAL_STACK_CAPACITY = 16;
+    private static final int NOT_COMPUTED = -2;
+    private static final int EXHAUSTED = -1;
+
+    private final GraphStorage storage;
+    private VisitedSet visited;
+    private int[] stackVertices;
+    private int[] stackEdges;
+    private int stackSize;
+    private int nextVertex;
+
+    /**
+     * Створює обхід в глибину
+     * @param storage сховище ребер графа
+     * @param verticesCount кількість вершин графа
+     * @param startIndex номер вершини, з якої починається обхід
+     */
+
+    public DepthFirstIterator(GraphStorage storage, int verticesCount, int startIndex) {
+        this.storage = storage;
+        this.visited = VisitedSet.acquire(verticesCount);
+        this.stackVertices = new int[INITIAL_STACK_CAPACITY];
+        this.stackEdges = new int[INITIAL_STACK_CAPACITY];
+        this.stackSize = 0;
+        visited.visit(startIndex);
+        push(startIndex);
+        this.nextVertex = startIndex;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextVertex == NOT_COMPUTED) {
+            nextVertex = advance();
+        }
+
+        return nextVertex != EXHAUSTED;
+    }
+
+    @Override
+    public int nextInt() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int v = nextVertex;
+        nextVertex = NOT_COMPUTED;
+
+        return v;
+    }
+
+    private int advance() {
+        while (stackSize > 0) {
+            int top = stackSize - 1;
+            int u = stackVertices[top];
+            int e = stackEdges[top];
+            if (e == GraphStorage.NO_EDGE) {
+                stackSize--;
+                continue;
+            }
+            stackEdges[top] = storage.nextEdge(u, e);
+            int v = storage.edgeTarget(u, e);
+            if (visited.tryVisit(v)) {
+                push(v);
+                return v;
+            }
+        }
+        close();
+
+        return EXHAUSTED;
+    }
+
+    /**
+     * Завершує обхід і повертає множину відвіданих вершин у пул.
+     * Після закриття ітератор не повертає вершин
+     */
+
+    @Override
+    public void close() {
+        if (visited != null) {
+            visited.close();
+            visited = null;
+        }
+        stackSize = 0;
+        nextVertex = EXHAUSTED;
+    }
+
+    private void push(int v) {
+        if (stackSize == stackVertices.length) {
+            stackVertices = Arrays.copyOf(stackVertices, stackSize * 2);
+            stackEdges = Arrays.copyOf(stackEdges, stackSize * 2);
+        }
+        stackVertices[stackSize] = v;
+        stackEdges[stackSize] = storage.firstEdge(v);
+        stackSize++;
+    }
+}
@@ -0,0 +1,86 @@
+package jgraph;
+
+/**
+ * Система неперетинних множин (union-find) над номерами вершин.
+ * Використовує об'єднання за розміром та скорочення шляхів вдвічі,
+ * тому кожна операція виконується майже за O(1)
+ */
+
+public class DisjointSet {
+
+    private final int[] parents;
+    private final int[] sizes;
+    private int setsCount;
+
+    /**
+     * Створює систему з заданої кількості одноелементних множин
+     * @param n кількість елементів
+     */
+
+    public DisjointSet(int n) {
+        parents = new int[n];
+        sizes = new int[n];
+        for (int i = 0; i < n; i++) {
+            parents[i] = i;
+            sizes[i] = 1;
+        }
+        setsCount = n;
+    }
+
+    /**
+     * Знаходить представника множини, що містить елемент
+     * @param v номер елемента
+     * @return номер представника множини
+     */
+
+    public int find(int v) {
+        while (parents[v] != v) {
+            parents[v] = parents[parents[v]];
+            v = parents[v];
+        }
+
+        return v;
+    }
+
+    /**
+     * Об'єднує множини, що містять два елементи
+     * @param a номер першого елемента
+     * @param b номер другого елемента
+     * @return {@code true} якщо елементи були в різних множинах, {@code false} - інакше
+     */
+
+    public boolean union(int a, int b) {
+        int ra = find(a);
+        int rb = find(b);
+        if (ra == rb) return false;
+        if (sizes[ra] < sizes[rb]) {
+            int t = ra;
+            ra = rb;
+            rb = t;
+        }
+        parents[rb] = ra;
+        sizes[ra] += sizes[rb];
+        setsCount--;
+
+        return true;
+    }
+
+    /**
+     * Повертає розмір множини, що містить елемент
+     * @param v номер елемента
+     * @return кількість елементів у множині
+     */
+
+    public int size(int v) {
+        return sizes[find(v)];
+    }
+
+    /**
+     * Повертає кількість множин
+     * @return кількість множин
+     */
+
+    public int getSetsCount() {
+        return setsCount;
+    }
+}
@@ -0,0 +1,38 @@
+package jgraph;
+
+/**
+ * Оцінка відстані від вершини до цільової вершини для алгоритму A*.
+ * Оцінка повинна бути допустимою, тобто не перевищувати довжину найкоротшого шляху,
+ * інакше знайдений шлях може виявитися не найкоротшим
+ */
+
+@FunctionalInterface
+public interface DistanceHeuristic {
+
+    /**
+     * Нульова оцінка, з якою A* перетворюється на алгоритм Дейкстри
+     */
+
+    DistanceHeuristic ZERO = (v, target) -> 0;
+
+    /**
+     * Оцінює довжину найкоротшого шляху між двома вершинами
+     * @param v номер вершини
+     * @param target номер цільової вершини
+     * @return нижня межа довжини шляху
+     */
+
+    double estimate(int v, int target);
+
+    /**
+     * Створює оцінку за евклідовою відстанню між координатами вершин.
+     * Оцінка допустима, якщо вага кожного ребра не менша за відстань між його кінцями
+     * @param x абсциси вершин
+     * @param y ординати вершин
+     * @return евклідова оцінка відстані
+     */
+
+    static DistanceHeuristic euclidean(double[] x, double[] y) {
+        return (v, target) -> Math.hypot(x[v] - x[target], y[v] - y[target]);
+    }
+}
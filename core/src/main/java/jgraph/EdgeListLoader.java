@@ -0,0 +1,677 @@
+package jgraph;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Масове завантаження графа зі списку ребер у файлі.
+ * Файл відображається в пам'ять частинами по {@link #CHUNK_SIZE} байт,
+ * частини розбираються паралельно в {@link ForkJoinPool}, а ребра одразу
+ * записуються в масиви {@link CsrGraphStorage} без створення об'єктів на кожне ребро.
+ * Сховище будується за два проходи: спочатку підраховуються степені вершин,
+ * потім кожне ребро записується на своє місце у рядку.
+ * Підтримуються два формати:
+ * <ul>
+ * <li>{@link Format#TEXT} - рядки {@code початок кінець [вага]}, розділені табуляцією,
+ * пробілами, комами або крапками з комою. Порожні рядки та рядки, що починаються з
+ * {@code #} або {@code %}, пропускаються. Вага за замовчуванням дорівнює 1</li>
+ * <li>{@link Format#BINARY} - заголовок з {@link #BINARY_HEADER_SIZE} байт
+ * (сигнатура, версія, прапорці, кількість вершин, кількість ребер)
+ * і записи {@code int початок, int кінець [, double вага]} у порядку little-endian</li>
+ * </ul>
+ * Ребра з нульовою вагою пропускаються, з повторних ребер залишається ребро з найбільшою вагою.
+ * Вершина з номером {@code v} отримує позначку {@code (char) v}, тому в графах
+ * з більш ніж 65 536 вершинами позначки повторюються; алгоритми графа
+ * працюють з номерами вершин і від позначок не залежать
+ */
+
+public final class EdgeListLoader {
+
+    /**
+     * Формат файлу зі списком ребер
+     */
+
+    public enum Format {
+        TEXT,
+        BINARY
+    }
+
+    /**
+     * Сигнатура двійкового формату ("JGEL")
+     */
+
+    public static final int BINARY_MAGIC = 0x4A47454C;
+
+    /**
+     * Версія двійкового формату
+     */
+
+    public static final int BINARY_VERSION = 1;
+
+    /**
+     * Розмір заголовка двійкового формату в байтах
+     */
+
+    public static final int BINARY_HEADER_SIZE = 24;
+
+    /**
+     * Розмір частини файлу, яка відображається в пам'ять і розбирається однією задачею
+     */
+
+    public static final long CHUNK_SIZE = 8L << 20;
+
+    private static final int FLAG_WEIGHTED = 1;
+    private static final int VERTICES_PER_TASK = 4096;
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    private interface EdgeConsumer {
+        void accept(int start, int end, double weight);
+    }
+
+    private interface ConsumerFactory {
+        EdgeConsumer create();
+    }
+
+    private final FileChannel channel;
+    private final Format format;
+    private final boolean directed;
+    private final ForkJoinPool pool;
+    private long[] chunkStarts;
+    private int chunksCount;
+    private int verticesCount = -1;
+    private boolean weighted = true;
+    private int recordSize;
+
+    private EdgeListLoader(FileChannel channel, Format format, boolean directed, ForkJoinPool pool) {
+        this.channel = channel;
+        this.format = format;
+        this.directed = directed;
+        this.pool = pool;
+    }
+
+    /**
+     * Завантажує орієнтований граф зі списку ребер
+     * @param path шлях до файлу
+     * @param format формат файлу
+     * @return орієнтований граф на основі {@link CsrGraphStorage}
+     * @throws IOException якщо файл неможливо прочитати або він некоректний
+     */
+
+    public static OrderedGraph loadOrdered(Path path, Format format) throws IOException {
+        return loadOrdered(path, format, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Завантажує орієнтований граф зі списку ребер, розбираючи файл у заданому пулі потоків
+     * @param path шлях до файлу
+     * @param format формат файлу
+     * @param pool пул потоків
+     * @return орієнтований граф на основі {@link CsrGraphStorage}
+     * @throws IOException якщо файл неможливо прочитати або він некоректний
+     */
+
+    public static OrderedGraph loadOrdered(Path path, Format format, ForkJoinPool pool) throws IOException {
+        CsrGraphStorage storage = loadStorage(path, format, true, pool);
+        int n = storage.verticesCount();
+        return new OrderedGraph(labeledVertices(n), storage, n);
+    }
+
+    /**
+     * Завантажує неорієнтований граф зі списку ребер.
+     * Кожне ребро файлу додається в обох напрямках
+     * @param path шлях до файлу
+     * @param format формат файлу
+     * @return неорієнтований граф на основі {@link CsrGraphStorage}
+     * @throws IOException якщо файл неможливо прочитати або він некоректний
+     */
+
+    public static NonOrderedGraph loadNonOrdered(Path path, Format format) throws IOException {
+        return loadNonOrdered(path, format, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Завантажує неорієнтований граф зі списку ребер, розбираючи файл у заданому пулі потоків.
+     * Кожне ребро файлу додається в обох напрямках
+     * @param path шлях до файлу
+     * @param format формат файлу
+     * @param pool пул потоків
+     * @return неорієнтований граф на основі {@link CsrGraphStorage}
+     * @throws IOException якщо файл неможливо прочитати або він некоректний
+     */
+
+    public static NonOrderedGraph loadNonOrdered(Path path, Format format, ForkJoinPool pool) throws IOException {
+        CsrGraphStorage storage = loadStorage(path, format, false, pool);
+        int n = storage.verticesCount();
+        return new NonOrderedGraph(labeledVertices(n), storage, n);
+    }
+
+    /**
+     * Завантажує сховище ребер зі списку ребер.
+     * Кількість вершин текстового файлу дорівнює найбільшому номеру вершини плюс один
+     * і визначається додатковим швидким проходом по файлу,
+     * кількість вершин двійкового файлу береться з заголовка
+     * @param path шлях до файлу
+     * @param format формат файлу
+     * @param directed {@code true} для орієнтованого графа,
+     * {@code false} якщо кожне ребро треба додати в обох напрямках
+     * @param pool пул потоків
+     * @return заповнене сховище ребер
+     * @throws IOException якщо файл неможливо прочитати або він некоректний
+     */
+
+    public static CsrGraphStorage loadStorage(Path path, Format format, boolean directed, ForkJoinPool pool)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            EdgeListLoader loader = new EdgeListLoader(channel, format, directed, pool);
+            if (format == Format.BINARY) {
+                loader.readHeader();
+            } else {
+                loader.splitText();
+            }
+            return loader.build();
+        }
+    }
+
+    /**
+     * Записує ребра графа у двійковому форматі.
+     * Ребро неорієнтованого графа записується один раз
+     * @param graph граф
+     * @param path шлях до файлу
+     * @throws IOException якщо файл неможливо записати
+     */
+
+    public static void writeBinary(Graph graph, Path path) throws IOException {
+        GraphStorage storage = graph.getStorage();
+        int n = graph.getVerticesCount();
+        boolean undirected = graph instanceof NonOrderedGraph;
+        long edgesCount = 0;
+        for (int v = 0; v < n; v++) {
+            for (int e = storage.firstEdge(v); e != GraphStorage.NO_EDGE; e = storage.nextEdge(v, e)) {
+                if (!undirected || v <= storage.edgeTarget(v, e)) edgesCount++;
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buf = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+            buf.putInt(BINARY_MAGIC).putInt(BINARY_VERSION).putInt(FLAG_WEIGHTED)
+                    .putInt(n).putLong(edgesCount);
+            for (int v = 0; v < n; v++) {
+                for (int e = storage.firstEdge(v); e != GraphStorage.NO_EDGE; e = storage.nextEdge(v, e)) {
+                    int w = storage.edgeTarget(v, e);
+                    if (undirected && v > w) continue;
+                    if (buf.remaining() < 16) {
+                        flush(channel, buf);
+                    }
+                    buf.putInt(v).putInt(w).putDouble(storage.edgeWeight(v, e));
+                }
+            }
+            flush(channel, buf);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buf) throws IOException {
+        buf.flip();
+        while (buf.hasRemaining()) {
+            channel.write(buf);
+        }
+        buf.clear();
+    }
+
+    private static Graph.Vertex[] labeledVertices(int n) {
+        Graph.Vertex[] vertices = new Graph.Vertex[n];
+        for (int v = 0; v < n; v++) {
+            vertices[v] = new Graph.Vertex((char) v);
+        }
+
+        return vertices;
+    }
+
+    private void readHeader() throws IOException {
+        long size = channel.size();
+        if (size < BINARY_HEADER_SIZE) {
+            throw new IOException("Файл занадто короткий для заголовка: " + size + " байт");
+        }
+        ByteBuffer header = ByteBuffer.allocate(BINARY_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) break;
+        }
+        if (header.getInt(0) != BINARY_MAGIC) {
+            throw new IOException("Невідома сигнатура файлу: " + Integer.toHexString(header.getInt(0)));
+        }
+        if (header.getInt(4) != BINARY_VERSION) {
+            throw new IOException("Непідтримувана версія формату: " + header.getInt(4));
+        }
+        weighted = (header.getInt(8) & FLAG_WEIGHTED) != 0;
+        recordSize = weighted ? 16 : 8;
+        verticesCount = header.getInt(12);
+        long edgesCount = header.getLong(16);
+        if (verticesCount < 0 || edgesCount < 0
+                || size != BINARY_HEADER_SIZE + edgesCount * recordSize) {
+            throw new IOException("Розмір файлу не відповідає заголовку: " + size + " байт");
+        }
+
+        long recordsPerChunk = CHUNK_SIZE / recordSize;
+        chunksCount = (int) ((edgesCount + recordsPerChunk - 1) / recordsPerChunk);
+        chunkStarts = new long[chunksCount + 1];
+        for (int c = 0; c <= chunksCount; c++) {
+            chunkStarts[c] = BINARY_HEADER_SIZE + Math.min(edgesCount, c * recordsPerChunk) * recordSize;
+        }
+    }
+
+    /**
+     * Ділить текстовий файл на частини, межі яких припадають на кінці рядків
+     */
+
+    private void splitText() throws IOException {
+        long size = channel.size();
+        long[] starts = new long[(int) (size / CHUNK_SIZE) + 2];
+        int count = 0;
+        long pos = 0;
+        starts[count++] = 0;
+        while (pos + CHUNK_SIZE < size) {
+            pos = lineEnd(pos + CHUNK_SIZE, size);
+            if (pos >= size) break;
+            starts[count++] = pos;
+        }
+        starts[count] = size;
+        chunkStarts = Arrays.copyOf(starts, count + 1);
+        chunksCount = size == 0 ? 0 : count;
+    }
+
+    private long lineEnd(long from, long size) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(4096);
+        long pos = from;
+        while (pos < size) {
+            buf.clear();
+            int read = channel.read(buf, pos);
+            if (read <= 0) break;
+            for (int i = 0; i < read; i++) {
+                if (buf.get(i) == '\n') return pos + i + 1;
+            }
+            pos += read;
+        }
+
+        return size;
+    }
+
+    private CsrGraphStorage build() throws IOException {
+        if (verticesCount < 0) {
+            AtomicInteger maxVertex = new AtomicInteger(-1);
+            forEachChunk(Integer.MAX_VALUE, () -> new EdgeConsumer() {
+                int max = -1;
+
+                @Override
+                public void accept(int start, int end, double weight) {
+                    if (start > max || end > max) {
+                        max = Math.max(start, end);
+                        maxVertex.accumulateAndGet(max, Math::max);
+                    }
+                }
+            });
+            verticesCount = maxVertex.get() + 1;
+        }
+        int n = verticesCount;
+
+        AtomicIntegerArray outDegrees = new AtomicIntegerArray(n);
+        AtomicIntegerArray inDegrees = directed ? new AtomicIntegerArray(n) : outDegrees;
+        forEachChunk(n, () -> (start, end, weight) -> {
+            if (weight == 0) return;
+            outDegrees.incrementAndGet(start);
+            if (directed) {
+                inDegrees.incrementAndGet(end);
+            } else if (start != end) {
+                outDegrees.incrementAndGet(end);
+            }
+        });
+
+        int[] outOffsets = offsets(outDegrees);
+        int[] inOffsets = directed ? offsets(inDegrees) : outOffsets;
+        int[] outTargets = new int[outOffsets[n]];
+        double[] outWeights = new double[outOffsets[n]];
+        int[] inTargets = directed ? new int[inOffsets[n]] : outTargets;
+        double[] inWeights = directed ? new double[inOffsets[n]] : outWeights;
+        AtomicIntegerArray outCursors = new AtomicIntegerArray(Arrays.copyOf(outOffsets, n));
+        AtomicIntegerArray inCursors = directed ? new AtomicIntegerArray(Arrays.copyOf(inOffsets, n)) : outCursors;
+        forEachChunk(n, () -> (start, end, weight) -> {
+            if (weight == 0) return;
+            int pos = outCursors.getAndIncrement(start);
+            outTargets[pos] = end;
+            outWeights[pos] = weight;
+            if (directed) {
+                pos = inCursors.getAndIncrement(end);
+                inTargets[pos] = start;
+                inWeights[pos] = weight;
+            } else if (start != end) {
+                pos = outCursors.getAndIncrement(end);
+                outTargets[pos] = start;
+                outWeights[pos] = weight;
+            }
+        });
+
+        CsrGraphStorage.Rows out = normalizedRows(outOffsets, outTargets, outWeights);
+        CsrGraphStorage.Rows in = directed
+                ? normalizedRows(inOffsets, inTargets, inWeights)
+                : new CsrGraphStorage.Rows(out);
+
+        return new CsrGraphStorage(n, out, in);
+    }
+
+    private static int[] offsets(AtomicIntegerArray degrees) throws IOException {
+        int n = degrees.length();
+        int[] offsets = new int[n + 1];
+        long sum = 0;
+        for (int v = 0; v < n; v++) {
+            offsets[v] = (int) sum;
+            sum += degrees.get(v);
+            if (sum > Integer.MAX_VALUE - 8) {
+                throw new IOException("Забагато ребер для одного сховища: " + sum);
+            }
+        }
+        offsets[n] = (int) sum;
+
+        return offsets;
+    }
+
+    /**
+     * Сортує кожен рядок за номером кінцевої вершини та прибирає повторні ребра
+     */
+
+    private CsrGraphStorage.Rows normalizedRows(int[] offsets, int[] targets, double[] weights) {
+        int n = offsets.length - 1;
+        int[] counts = new int[n];
+        int[] capacities = new int[n];
+        pool.invoke(new NormalizeTask(offsets, counts, capacities, targets, weights, 0, n));
+
+        return new CsrGraphStorage.Rows(Arrays.copyOf(offsets, n), counts, capacities, targets, weights);
+    }
+
+    private static final class NormalizeTask extends RecursiveAction {
+        private final int[] offsets;
+        private final int[] counts;
+        private final int[] capacities;
+        private final int[] targets;
+        private final double[] weights;
+        private final int from;
+        private final int to;
+
+        NormalizeTask(int[] offsets, int[] counts, int[] capacities,
+                      int[] targets, double[] weights, int from, int to) {
+            this.offsets = offsets;
+            this.counts = counts;
+            this.capacities = capacities;
+            this.targets = targets;
+            this.weights = weights;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > VERTICES_PER_TASK) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new NormalizeTask(offsets, counts, capacities, targets, weights, from, mid),
+                        new NormalizeTask(offsets, counts, capacities, targets, weights, mid, to));
+                return;
+            }
+            for (int v = from; v < to; v++) {
+                int start = offsets[v];
+                int end = offsets[v + 1];
+                capacities[v] = end - start;
+                if (end - start > 1) {
+                    sortByTarget(targets, weights, start, end - 1);
+                }
+                int last = start - 1;
+                for (int i = start; i < end; i++) {
+                    if (last >= start && targets[last] == targets[i]) {
+                        weights[last] = Math.max(weights[last], weights[i]);
+                    } else {
+                        last++;
+                        targets[last] = targets[i];
+                        weights[last] = weights[i];
+                    }
+                }
+                counts[v] = last - start + 1;
+            }
+        }
+    }
+
+    static void sortByTarget(int[] t, double[] w, int lo, int hi) {
+        while (hi - lo >= INSERTION_SORT_THRESHOLD) {
+            int pivot = t[(lo + hi) >>> 1];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (t[i] < pivot) i++;
+                while (t[j] > pivot) j--;
+                if (i <= j) {
+                    swap(t, w, i++, j--);
+                }
+            }
+            if (j - lo < hi - i) {
+                sortByTarget(t, w, lo, j);
+                lo = i;
+            } else {
+                sortByTarget(t, w, i, hi);
+                hi = j;
+            }
+        }
+        for (int i = lo + 1; i <= hi; i++) {
+            for (int j = i; j > lo && t[j - 1] > t[j]; j--) {
+                swap(t, w, j - 1, j);
+            }
+        }
+    }
+
+    private static void swap(int[] t, double[] w, int i, int j) {
+        int tt = t[i];
+        t[i] = t[j];
+        t[j] = tt;
+        double tw = w[i];
+        w[i] = w[j];
+        w[j] = tw;
+    }
+
+    private void forEachChunk(int bound, ConsumerFactory factory) throws IOException {
+        if (chunksCount == 0) return;
+        try {
+            pool.invoke(new ChunksTask(0, chunksCount, bound, factory));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private final class ChunksTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final int bound;
+        private final ConsumerFactory factory;
+
+        ChunksTask(int from, int to, int bound, ConsumerFactory factory) {
+            this.from = from;
+            this.to = to;
+            this.bound = bound;
+            this.factory = factory;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new ChunksTask(from, mid, bound, factory), new ChunksTask(mid, to, bound, factory));
+                return;
+            }
+            try {
+                long start = chunkStarts[from];
+                ByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, start, chunkStarts[from + 1] - start)
+                        .order(ByteOrder.LITTLE_ENDIAN);
+                if (format == Format.BINARY) {
+                    parseBinary(buf, start, bound, factory.create());
+                } else {
+                    new TextParser(buf, start, bound).parse(factory.create());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void parseBinary(ByteBuffer buf, long base, int bound, EdgeConsumer consumer) throws IOException {
+        int limit = buf.limit();
+        for (int p = 0; p < limit; p += recordSize) {
+            int start = buf.getInt(p);
+            int end = buf.getInt(p + 4);
+            if (start < 0 || start >= bound || end < 0 || end >= bound) {
+                throw new IOException("Номер вершини поза межами у позиції " + (base + p));
+            }
+            consumer.accept(start, end, weighted ? buf.getDouble(p + 8) : 1);
+        }
+    }
+
+    /**
+     * Розбір текстового списку ребер безпосередньо з байтів відображеного файлу
+     */
+
+    private static final class TextParser {
+        private final ByteBuffer buf;
+        private final long base;
+        private final int bound;
+        private final int limit;
+        private int pos;
+
+        TextParser(ByteBuffer buf, long base, int bound) {
+            this.buf = buf;
+            this.base = base;
+            this.bound = bound;
+            this.limit = buf.limit();
+        }
+
+        void parse(EdgeConsumer consumer) throws IOException {
+            while (pos < limit) {
+                skipSeparators();
+                if (pos == limit) break;
+                byte b = buf.get(pos);
+                if (b == '#' || b == '%') {
+                    skipLine();
+                    continue;
+                }
+                if (isLineEnd(b)) {
+                    pos++;
+                    continue;
+                }
+                int start = readVertex();
+                skipSeparators();
+                int end = readVertex();
+                skipSeparators();
+                double weight = 1;
+                if (pos < limit && !isLineEnd(buf.get(pos))) {
+                    weight = readWeight();
+                }
+                skipLine();
+                consumer.accept(start, end, weight);
+            }
+        }
+
+        private int readVertex() throws IOException {
+            int begin = pos;
+            long value = 0;
+            while (pos < limit) {
+                int digit = buf.get(pos) - '0';
+                if (digit < 0 || digit > 9) break;
+                value = value * 10 + digit;
+                if (value >= bound) throw error("Номер вершини поза межами", begin);
+                pos++;
+            }
+            if (pos == begin) throw error("Очікувався номер вершини", begin);
+
+            return (int) value;
+        }
+
+        /**
+         * Розбирає десятковий запис ваги без створення рядка.
+         * Запис з експонентою або мантисою з понад 15 цифр передається {@link Double#parseDouble}
+         */
+
+        private double readWeight() throws IOException {
+            int begin = pos;
+            int end = pos;
+            while (end < limit && !isSeparator(buf.get(end)) && !isLineEnd(buf.get(end))) {
+                end++;
+            }
+            pos = end;
+
+            int p = begin;
+            boolean negative = false;
+            if (p < end && (buf.get(p) == '-' || buf.get(p) == '+')) {
+                negative = buf.get(p) == '-';
+                p++;
+            }
+            long mantissa = 0;
+            int digits = 0;
+            int fraction = -1;
+            for (; p < end; p++) {
+                byte b = buf.get(p);
+                if (b == '.' && fraction < 0) {
+                    fraction = 0;
+                } else if (b >= '0' && b <= '9' && digits < 15) {
+                    mantissa = mantissa * 10 + (b - '0');
+                    digits++;
+                    if (fraction >= 0) fraction++;
+                } else {
+                    break;
+                }
+            }
+            if (p == end && digits > 0) {
+                double value = fraction > 0 ? mantissa / POWERS_OF_TEN[fraction] : mantissa;
+                return negative ? -value : value;
+            }
+
+            byte[] bytes = new byte[end - begin];
+            buf.get(begin, bytes);
+            try {
+                return Double.parseDouble(new String(bytes, StandardCharsets.US_ASCII));
+            } catch (NumberFormatException e) {
+                throw error("Некоректна вага ребра", begin);
+            }
+        }
+
+        private void skipSeparators() {
+            while (pos < limit && isSeparator(buf.get(pos))) {
+                pos++;
+            }
+        }
+
+        private void skipLine() {
+            while (pos < limit && buf.get(pos) != '\n') {
+                pos++;
+            }
+            pos++;
+        }
+
+        private IOException error(String message, int at) {
+            return new IOException(message + " у позиції " + (base + at));
+        }
+
+        private static boolean isSeparator(byte b) {
+            return b == ' ' || b == '\t' || b == ',' || b == ';';
+        }
+
+        private static boolean isLineEnd(byte b) {
+            return b == '\n' || b == '\r';
+        }
+    }
+}
@@ -0,0 +1,939 @@
+package jgraph;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Базова реалізація графа.
+ * Реалізований граф використовує матрицю суміжності для
+ * опису суміжності вершин, проте також може використовувати
+ * список суміжності, для пришвидшення виконання деяких алгоритмів.
+ * Граф зі сховищем поза купою слід закрити методом {@link #close()}
+ */
+
+public abstract class Graph implements AutoCloseable {
+
+    public static class Vertex {
+        char label;
+
+        public Vertex(char label) {
+            this.label = label;
+        }
+
+        public char getLabel() {
+            return label;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Vertex)) return false;
+            Vertex vertex = (Vertex) o;
+            return label == vertex.label;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(label);
+        }
+    }
+
+    protected final double INFINITY = Double.POSITIVE_INFINITY;
+    protected int verticesCount;
+    protected int maxVerticesCount;
+    protected Vertex[] vertices;
+    protected GraphStorage storage;
+    private AlgorithmListener algorithmListener;
+    private final GraphCache cache = new GraphCache(GraphCache.DEFAULT_BUDGET);
+    private long modificationCount;
+    private IncrementalAllPairsShortestPaths incrementalAllPairs;
+    private boolean verticesShared;
+
+    /**
+     * Створює граф з заданою максимальною кількістю вершин
+     * @param maxVerticesCount максимальна кількість вершин
+     */
+
+    public Graph(int maxVerticesCount) {
+        this(new DenseGraphStorage(maxVerticesCount));
+    }
+
+    /**
+     * Створює граф, ребра якого зберігаються в заданому порожньому сховищі.
+     * Максимальна кількість вершин графа дорівнює місткості сховища
+     * @param storage сховище ребер
+     * @throws IllegalArgumentException якщо сховище вже містить вершини
+     */
+
+    public Graph(GraphStorage storage) {
+        if (storage.verticesCount() != 0) {
+            throw new IllegalArgumentException("Сховище ребер повинно бути порожнім, а містить "
+                    + storage.verticesCount() + " вершин");
+        }
+        this.verticesCount = 0;
+        this.maxVerticesCount = storage.capacity();
+        this.vertices = new Vertex[maxVerticesCount];
+        this.storage = storage;
+    }
+
+    /**
+     * Створює граф з заданим списком вершин, матрицею суміжності,
+     * максимальною кількістю вершин, та кількістю вершин
+     * @param vertices список вершин
+     * @param adjMatrix матриця суміжності
+     * @param maxVerticesCount максимальна кількість вершин
+     * @param nVertices кількість вершин
+     */
+
+    public Graph(Vertex[] vertices, double[][] adjMatrix, int maxVerticesCount, int nVertices){
+        this(vertices, new DenseGraphStorage(adjMatrix, maxVerticesCount, nVertices), nVertices);
+    }
+
+    /**
+     * Створює граф з заданим списком вершин, заповненим сховищем ребер
+     * та кількістю вершин
+     * @param vertices список вершин
+     * @param storage сховище ребер, яке використовується без копіювання
+     * @param nVertices кількість вершин
+     */
+
+    protected Graph(Vertex[] vertices, GraphStorage storage, int nVertices){
+        this.maxVerticesCount = storage.capacity();
+        this.vertices = new Vertex[maxVerticesCount];
+        this.storage = storage;
+        System.arraycopy(vertices, 0, this.vertices, 0, Math.min(vertices.length, maxVerticesCount));
+        this.verticesCount = nVertices;
+    }
+
+    /**
+     * Створює незмінний знімок заданого графа за O(1): знімок спільно
+     * використовує список вершин і отримує знімок сховища ребер
+     * @param source граф, знімок якого створюється
+     */
+
+    protected Graph(Graph source){
+        this.verticesCount = source.verticesCount;
+        this.maxVerticesCount = source.maxVerticesCount;
+        this.vertices = source.vertices;
+        this.storage = source.storage.snapshot();
+        this.algorithmListener = source.algorithmListener;
+        this.modificationCount = source.getModificationCount();
+        this.verticesShared = true;
+        source.verticesShared = true;
+    }
+
+    /**
+     * Додає ребро між двома заданими вершинами через список суміжності
+     * @param list список суміжності
+     * @param start номер першої вершини
+     * @param end номер другої вершини
+     */
+
+    protected abstract void addEdgeToList(AdjacencyList list, int start, int end);
+
+    /**
+     * Видаляє ребро між двома заданими вершинами через список суміжності
+     * @param list список суміжності
+     * @param start номер першої вершини
+     * @param end номер другої вершини
+     */
+
+    protected abstract void deleteEdgeFromList(AdjacencyList list, int start, int end);
+
+    /**
+     * Додає ребро між двома заданими вершинами з заданою вагою через матрицю суміжності
+     * @param start номер першої вершини
+     * @param end номер другої вершини
+     * @param weight вага ребра
+     */
+
+    public abstract void addEdge(int start, int end, double weight);
+
+    /**
+     * Перевіряє чи граф є напівейлеровим
+     * @return логічне {@code true} якщо граф напівейлровий,
+     * {@code false} - інакше
+     */
+
+    public abstract boolean isSemiEulerian();
+
+    /**
+     * Перевіряє чи граф є ейлеровим
+     * @return логічне {@code true} якщо граф ейлровий,
+     * {@code false} - інакше
+     */
+
+    public abstract boolean isEulerian();
+
+    /**
+     * Створює незмінний знімок графа, який не бачить подальших змін графа.
+     * Для сховищ з копіюванням при записі знімок створюється за O(1),
+     * а граф копіює лише ті рядки сховища, які змінює після створення знімка.
+     * Тому довгі обчислення можна виконувати на знімку без блокувань,
+     * поки граф продовжує змінюватися. Спроба змінити знімок призводить
+     * до {@link UnsupportedOperationException}.
+     * Знімок графа зі сховищем {@link OffHeapGraphStorage} є повною копією
+     * у пам'яті поза купою, якою володіє знімок: її звільняє метод {@link #close()} знімка.
+     * Знімок графа зі сховищем {@link ConcurrentGraphStorage} на час копіювання
+     * таблиць посилань на рядки, тобто O(V) посилань без ребер, блокує записи ребер
+     * @return знімок графа
+     */
+
+    public abstract Graph snapshot();
+
+    /**
+     * Додає вершину з заданою позначкою в граф.
+     * Якщо кількість вершин досягла місткості графа, то місткість подвоюється
+     * @param label позначка вершини
+     */
+
+    public void addVertex(char label) {
+        storage.addVertex();
+        if (verticesCount == vertices.length) {
+            vertices = Arrays.copyOf(vertices, Math.max(4, vertices.length * 2));
+            verticesShared = false;
+        } else if (verticesShared) {
+            vertices = vertices.clone();
+            verticesShared = false;
+        }
+        vertices[verticesCount++] = new Vertex(label);
+        maxVerticesCount = Math.max(storage.capacity(), vertices.length);
+        if (incrementalAllPairs != null) incrementalAllPairs.vertexAdded();
+        modified();
+    }
+
+    /**
+     * Видаляє вершину з графа.
+     * Остання вершина графа переноситься на місце видаленої і отримує її номер,
+     * номери решти вершин не змінюються
+     * @param index номер вершини
+     */
+
+    public void deleteVertex(int index){
+        storage.deleteVertex(index);
+        if (verticesShared) {
+            vertices = vertices.clone();
+            verticesShared = false;
+        }
+        int last = verticesCount - 1;
+        vertices[index] = vertices[last];
+        vertices[last] = null;
+        verticesCount--;
+        if (incrementalAllPairs != null) incrementalAllPairs.vertexDeleted(verticesCount);
+        modified();
+    }
+
+    /**
+     * Звільняє невикористане місце за один прохід:
+     * зменшує місткість графа до кількості вершин
+     * і прибирає прогалини в сховищі ребер
+     */
+
+    public void compact(){
+        storage.compact();
+        vertices = Arrays.copyOf(vertices, verticesCount);
+        verticesShared = false;
+        maxVerticesCount = verticesCount;
+    }
+
+    /**
+     * Звільняє пам'ять сховища ребер, якщо воно розміщене поза купою.
+     * Знімок такого графа володіє власною копією сховища і закривається окремо.
+     * Для сховищ у купі метод нічого не робить
+     */
+
+    @Override
+    public void close() {
+        if (storage instanceof OffHeapGraphStorage) {
+            ((OffHeapGraphStorage) storage).close();
+        }
+    }
+
+    /**
+     * Визначає степінь заданої вершини за O(1):
+     * сховища підтримують кількість ребер кожної вершини при їх зміні
+     * @param v номер вершини
+     * @return степінь вершини {@param v}
+     */
+
+    public int deg(int v){
+        return storage.outDegree(v);
+    }
+
+    /**
+     * Перевіряє чи граф містить петлі
+     * @return логічне {@code true} якщо граф містить хоча б одну петлю,
+     * {@code false} - інакше
+     */
+
+    public boolean containsLoop(){
+        for (int i = 0; i < verticesCount; i++) {
+            if(storage.getWeight(i, i) != 0) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Робить обхід графа в глибину
+     * @param startIndex номер вершини, з якої починається обхід графа
+     * @return список вершин, які були відвідані
+     */
+
+    public LinkedList<Integer> dfs(int startIndex) {
+        return collect(dfsIterator(startIndex));
+    }
+
+    /**
+     * Робить лінивий ітеративний обхід графа в глибину.
+     * Ітератор, не пройдений до кінця, слід закрити, щоб повернути
+     * множину відвіданих вершин у пул поточного потоку
+     * @param startIndex номер вершини, з якої починається обхід графа
+     * @return ітератор по вершинах у порядку обходу
+     */
+
+    public DepthFirstIterator dfsIterator(int startIndex) {
+        return new DepthFirstIterator(storage, verticesCount, startIndex);
+    }
+
+    /**
+     * Робить лінивий ітеративний обхід графа в глибину.
+     * Потік, з якого вершини беруться лише частково, наприклад через {@code findFirst()},
+     * слід закрити в try-with-resources, щоб повернути множину відвіданих вершин у пул
+     * @param startIndex номер вершини, з якої починається обхід графа
+     * @return потік вершин у порядку обходу
+     */
+
+    public IntStream dfsStream(int startIndex) {
+        DepthFirstIterator iterator = dfsIterator(startIndex);
+        return stream(iterator).onClose(iterator::close);
+    }
+
+    /**
+     * Робить обхід графа в ширину
+     * @param startIndex номер вершини, з якої починається обхід графа
+     * @return список вершин, які були відвідані
+     */
+
+    public LinkedList<Integer> bfs(int startIndex) {
+        return collect(bfsIterator(startIndex));
+    }
+
+    /**
+     * Робить лінивий обхід графа в ширину.
+     * Ітератор, не пройдений до кінця, слід закрити, щоб повернути
+     * множину відвіданих вершин у пул поточного потоку
+     * @param startIndex номер вершини, з якої починається обхід графа
+     * @return ітератор по вершинах у порядку обходу
+     */
+
+    public BreadthFirstIterator bfsIterator(int startIndex) {
+        return new BreadthFirstIterator(storage, verticesCount, startIndex);
+    }
+
+    /**
+     * Робить лінивий обхід графа в ширину.
+     * Потік, з якого вершини беруться лише частково, наприклад через {@code findFirst()},
+     * слід закрити в try-with-resources, щоб повернути множину відвіданих вершин у пул
+     * @param startIndex номер вершини, з якої починається обхід графа
+     * @return потік вершин у порядку обходу
+     */
+
+    public IntStream bfsStream(int startIndex) {
+        BreadthFirstIterator iterator = bfsIterator(startIndex);
+        return stream(iterator).onClose(iterator::close);
+    }
+
+    /**
+     * Робить паралельний обхід графа в ширину по рівнях у спільному пулі потоків
+     * @param startIndex номер вершини, з якої починається обхід графа
+     * @return відстані в ребрах від заданої вершини та дерево обходу
+     */
+
+    public BfsResult parallelBfs(int startIndex) {
+        return parallelBfs(startIndex, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Робить паралельний обхід графа в ширину по рівнях, перемикаючись
+     * між перебором ребер фронту та пошуком батьків для не відвіданих вершин
+     * залежно від розміру фронту
+     * @param startIndex номер вершини, з якої починається обхід графа
+     * @param pool пул потоків, в якому розкривається кожен рівень
+     * @return відстані в ребрах від заданої вершини та дерево обходу
+     */
+
+    public BfsResult parallelBfs(int startIndex, ForkJoinPool pool) {
+        return ParallelBfs.run(storage, verticesCount, startIndex, pool);
+    }
+
+    private static LinkedList<Integer> collect(PrimitiveIterator.OfInt iterator) {
+        LinkedList<Integer> result = new LinkedList<>();
+        while (iterator.hasNext()) {
+            result.add(iterator.nextInt());
+        }
+
+        return result;
+    }
+
+    private static IntStream stream(PrimitiveIterator.OfInt iterator) {
+        int characteristics = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL;
+        return StreamSupport.intStream(Spliterators.spliteratorUnknownSize(iterator, characteristics), false);
+    }
+
+    /**
+     * Реалізує алгоритм Флойда-Варшала, що знаходить
+     * найкоротший шлях між двома вершинами для всіх вершин графа
+     * @return матрицю досяжності графа
+     */
+
+    public double[][] floydWarshall(){
+        return floydWarshall(false).toMatrix();
+    }
+
+    /**
+     * Реалізує блочний паралельний алгоритм Флойда-Варшала, що знаходить
+     * найкоротші шляхи між усіма парами вершин графа
+     * @param withPaths чи зберігати матрицю наступних вершин для відновлення шляхів
+     * @return найкоротші шляхи між усіма парами вершин
+     * @throws IllegalArgumentException якщо матриця відстаней не вміщується в масив
+     */
+
+    public AllPairsShortestPaths floydWarshall(boolean withPaths){
+        if (!withPaths) {
+            AllPairsShortestPaths paths = cache.peek("allPairs", 1, getModificationCount());
+            if (paths != null) return paths;
+        }
+        long bytes = (long) verticesCount * verticesCount * (withPaths ? 12 : 8);
+        return cached("allPairs", withPaths ? 1 : 0, () -> computeFloydWarshall(withPaths), paths -> bytes);
+    }
+
+    private AllPairsShortestPaths computeFloydWarshall(boolean withPaths){
+        int n = verticesCount;
+        int length = AllPairsShortestPaths.matrixLength(n);
+        AlgorithmProbe probe = AlgorithmProbe.start("floydWarshall", n, algorithmListener);
+        double[] w = new double[length];
+        int[] next = withPaths ? new int[length] : null;
+        Arrays.fill(w, INFINITY);
+        if (withPaths) Arrays.fill(next, AllPairsShortestPaths.NO_VERTEX);
+        for (int i = 0; i < n; i++) {
+            for (int e = storage.firstEdge(i); e != GraphStorage.NO_EDGE; e = storage.nextEdge(i, e)) {
+                int j = storage.edgeTarget(i, e);
+                w[i * n + j] = storage.edgeWeight(i, e);
+                if (withPaths) next[i * n + j] = j;
+            }
+        }
+        BlockedFloydWarshall.compute(w, next, n);
+        if (probe != null) {
+            probe.add(n, (long) n * n * n, 0, 0, 0);
+            probe.finish();
+        }
+
+        return new AllPairsShortestPaths(n, w, next);
+    }
+
+    /**
+     * Повертає найкоротші шляхи між усіма парами вершин, які оновлюються
+     * при кожному додаванні ребра, зміні його ваги та додаванні чи видаленні вершини.
+     * Перший виклик обчислює шляхи алгоритмом Флойда-Варшала,
+     * наступні повертають той самий об'єкт, доки його не від'єднано
+     * методом {@link #stopIncrementalAllPairs()}.
+     * Шляхи оновлюються послідовно під час кожного запису ребра, тому їх не підтримує
+     * граф, сховище {@link ConcurrentGraphStorage} якого змінюється з кількох потоків;
+     * знімки такого графа їх підтримують
+     * @return найкоротші шляхи, що підтримуються в актуальному стані
+     * @throws IllegalArgumentException якщо матриця відстаней не вміщується в масив
+     * @throws UnsupportedOperationException якщо граф змінюється з кількох потоків
+     */
+
+    public IncrementalAllPairsShortestPaths incrementalAllPairs(){
+        if (storage instanceof ConcurrentGraphStorage && !((ConcurrentGraphStorage) storage).isSnapshot()) {
+            throw new UnsupportedOperationException(
+                    "Граф, який змінюється з кількох потоків, не підтримує інкрементальні найкоротші шляхи");
+        }
+        if (incrementalAllPairs == null) {
+            incrementalAllPairs = new IncrementalAllPairsShortestPaths(storage, verticesCount);
+        }
+
+        return incrementalAllPairs;
+    }
+
+    /**
+     * Від'єднує від графа найкоротші шляхи, створені методом {@link #incrementalAllPairs()}.
+     * Після цього зміни графа більше не витрачають час на їх оновлення
+     */
+
+    public void stopIncrementalAllPairs(){
+        incrementalAllPairs = null;
+    }
+
+    /**
+     * Реалізує алгоритм Герхольцера для знаходження
+     * ейлерового шляху в графі, якщо такий існує.
+     * Якщо граф не містить ейлрового шляху, то результат не передбачуваний,
+     * тому варто спочатку перевірити чи містить граф ейлровий шлях методом isSemiEulerian
+     * @return список всіх вершин ейлерового шляху, якщо такий існує
+     */
+
+    public LinkedList<Integer> getEulerianPath(){
+        AlgorithmProbe probe = AlgorithmProbe.start("eulerianPath", verticesCount, algorithmListener);
+        AdjacencyList adjList = new AdjacencyList(storage, verticesCount);
+        LinkedList<Integer> circuit = new LinkedList<>();
+        int edgesCount = 0;
+        int currVertex = 0;
+        for (int i = verticesCount - 1; i >= 0; i--) {
+            edgesCount += adjList.size(i);
+            if(adjList.size(i) % 2 == 1){
+                currVertex = i;
+            }
+        }
+        int[] path = new int[edgesCount + 2];
+        int pathSize = 0;
+        int maxPathSize = 1;
+        long traversed = 0;
+        path[pathSize++] = currVertex;
+        while (pathSize > 0){
+            if(adjList.size(currVertex) > 0){
+                path[pathSize++] = currVertex;
+                int nextVertex = adjList.getLast(currVertex);
+                deleteEdgeFromList(adjList, currVertex, nextVertex);
+                currVertex = nextVertex;
+                traversed++;
+                if (pathSize > maxPathSize) maxPathSize = pathSize;
+            }else{
+                circuit.add(currVertex);
+                currVertex = path[--pathSize];
+            }
+        }
+        if (probe != null) {
+            probe.add(circuit.size(), traversed, 0, maxPathSize, circuit.size());
+            probe.finish();
+        }
+
+        return circuit;
+    }
+
+    /**
+     * Знаходить гамільтонів шлях в графі, якщо такий існує.
+     * Для малих графів використовується динамічне програмування по підмножинах вершин,
+     * для більших - паралельний метод гілок і меж у спільному пулі потоків
+     * @return список всіх вершин гамільтонового шляху, якщо такий існує
+     * @throws IllegalStateException якщо граф не має гамільтонового шляху
+     */
+
+    public LinkedList<Integer> getHamiltonPath(){
+        return getHamiltonPath(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Знаходить гамільтонів шлях в графі, якщо такий існує
+     * @param pool пул потоків для паралельного пошуку
+     * @return список всіх вершин гамільтонового шляху, якщо такий існує
+     * @throws IllegalStateException якщо граф не має гамільтонового шляху
+     */
+
+    public LinkedList<Integer> getHamiltonPath(ForkJoinPool pool){
+        AlgorithmProbe probe = AlgorithmProbe.start("hamiltonPath", verticesCount, algorithmListener);
+        int[] path = HamiltonPathSolver.solve(storage, verticesCount, pool, probe);
+        if (probe != null) probe.finish();
+        if(path == null){
+            throw new IllegalStateException("Граф не має гамільтонового шляху");
+        }
+
+        return toList(path);
+    }
+
+    /**
+     * Реалізує алгоритм Дейкстри для знаходження найкоротшого шляху
+     * між двома вершинами графа
+     * @param source номер початкової вершини
+     * @param target номер кінцевої вершини
+     * @return список всіх вершин найкоротшого шляху,
+     * або порожній список якщо вершина {@code target} недосяжна
+     */
+
+    public LinkedList<Integer> dijkstra(int source, int target) {
+        return dijkstra(source, new int[]{target}).getPath(target);
+    }
+
+    /**
+     * Реалізує двонапрямлений алгоритм Дейкстри для знаходження найкоротшого шляху
+     * між двома вершинами графа: пошук ведеться одночасно від початкової вершини
+     * і до кінцевої, тому опрацьовується значно менше вершин, ніж у {@link #dijkstra(int, int)}
+     * @param source номер початкової вершини
+     * @param target номер кінцевої вершини
+     * @return список всіх вершин найкоротшого шляху,
+     * або порожній список якщо вершина {@code target} недосяжна
+     */
+
+    public LinkedList<Integer> bidirectionalDijkstra(int source, int target) {
+        AlgorithmProbe probe = AlgorithmProbe.start("bidirectionalDijkstra", verticesCount, algorithmListener);
+        int[] path = PointToPointSearch.bidirectionalDijkstra(storage, verticesCount, source, target, probe);
+        if (probe != null) probe.finish();
+
+        return toList(path);
+    }
+
+    /**
+     * Реалізує алгоритм A* для знаходження найкоротшого шляху між двома вершинами графа
+     * @param source номер початкової вершини
+     * @param target номер кінцевої вершини
+     * @param heuristic допустима оцінка відстані до кінцевої вершини,
+     * наприклад {@link DistanceHeuristic#euclidean} або {@link #landmarks(int)}
+     * @return список всіх вершин найкоротшого шляху,
+     * або порожній список якщо вершина {@code target} недосяжна
+     */
+
+    public LinkedList<Integer> aStar(int source, int target, DistanceHeuristic heuristic) {
+        AlgorithmProbe probe = AlgorithmProbe.start("aStar", verticesCount, algorithmListener);
+        int[] path = PointToPointSearch.aStar(storage, verticesCount, source, target, heuristic, probe);
+        if (probe != null) probe.finish();
+
+        return toList(path);
+    }
+
+    /**
+     * Обчислює оцінку відстані за орієнтирами для алгоритму A*.
+     * Оцінка залишається допустимою, доки ваги ребер не зменшуються
+     * і нові ребра не додаються
+     * @param count кількість орієнтирів
+     * @return оцінка за орієнтирами
+     */
+
+    public LandmarkHeuristic landmarks(int count) {
+        return LandmarkHeuristic.compute(storage, verticesCount, count);
+    }
+
+    /**
+     * Створює виконавця пакетів запитів над незмінним знімком графа
+     * у спільному пулі потоків
+     * @return виконавець пакетів запитів
+     */
+
+    public BatchQueryExecutor batchQueries() {
+        return batchQueries(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Створює виконавця пакетів запитів над незмінним знімком графа.
+     * Знімок сховищ у купі створюється за O(1) з копіюванням при записі,
+     * а копію сховища поза купою звільняє метод {@link BatchQueryExecutor#close()}
+     * @param pool пул потоків для виконання запитів
+     * @return виконавець пакетів запитів
+     */
+
+    public BatchQueryExecutor batchQueries(ForkJoinPool pool) {
+        GraphStorage frozen = storage.snapshot();
+        return new BatchQueryExecutor(frozen, frozen.verticesCount(), pool, frozen != storage);
+    }
+
+    private static LinkedList<Integer> toList(int[] path) {
+        LinkedList<Integer> result = new LinkedList<>();
+        for (int v : path) {
+            result.add(v);
+        }
+
+        return result;
+    }
+
+    /**
+     * Реалізує алгоритм Дейкстри для знаходження найкоротших шляхів
+     * від заданої вершини до всіх інших вершин графа
+     * @param source номер початкової вершини
+     * @return дерево найкоротших шляхів
+     */
+
+    public ShortestPathTree dijkstra(int source) {
+        return dijkstra(source, null);
+    }
+
+    /**
+     * Реалізує алгоритм Дейкстри для знаходження найкоротших шляхів
+     * від заданої вершини до кількох кінцевих вершин за один запуск.
+     * Пошук зупиняється, щойно знайдено шляхи до всіх кінцевих вершин
+     * @param source номер початкової вершини
+     * @param targets номери кінцевих вершин, або {@code null} для пошуку до всіх вершин
+     * @return дерево найкоротших шляхів, в якому точні відстані
+     * гарантовано знайдені для всіх кінцевих вершин
+     */
+
+    public ShortestPathTree dijkstra(int source, int[] targets) {
+        if (targets != null) {
+            ShortestPathTree tree = cache.peek("shortestPathTree", source, getModificationCount());
+            return tree != null ? tree : computeDijkstra(source, targets);
+        }
+
+        return cached("shortestPathTree", source, () -> computeDijkstra(source, null), tree -> 12L * verticesCount);
+    }
+
+    private ShortestPathTree computeDijkstra(int source, int[] targets) {
+        int n = verticesCount;
+        double[] d = new double[n];
+        int[] prev = new int[n];
+        Arrays.fill(d, INFINITY);
+        Arrays.fill(prev, ShortestPathTree.NO_VERTEX);
+
+        boolean[] isTarget = null;
+        int remainingTargets = 0;
+        if (targets != null) {
+            isTarget = new boolean[n];
+            for (int t : targets) {
+                if (!isTarget[t]) {
+                    isTarget[t] = true;
+                    remainingTargets++;
+                }
+            }
+        }
+
+        AlgorithmProbe probe = AlgorithmProbe.start("dijkstra", n, algorithmListener);
+        long settledCount = 0;
+        long relaxed = 0;
+        long heapOps = 1;
+        boolean[] settled = new boolean[n];
+        IndexedDaryHeap heap = new IndexedDaryHeap(n);
+        d[source] = 0;
+        heap.insertOrDecrease(source, 0);
+
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            settled[u] = true;
+            settledCount++;
+            heapOps++;
+            if (isTarget != null && isTarget[u] && --remainingTargets == 0) break;
+
+            for (int e = storage.firstEdge(u); e != GraphStorage.NO_EDGE; e = storage.nextEdge(u, e)) {
+                int v = storage.edgeTarget(u, e);
+                if (settled[v]) continue;
+                relaxed++;
+                double alt = d[u] + storage.edgeWeight(u, e);
+                if (alt < d[v]) {
+                    d[v] = alt;
+                    prev[v] = u;
+                    heap.insertOrDecrease(v, alt);
+                    heapOps++;
+                }
+            }
+        }
+        if (probe != null) {
+            probe.add(settledCount, relaxed, heapOps, 0, 0);
+            probe.finish();
+        }
+
+        return new ShortestPathTree(source, d, prev);
+    }
+
+    /**
+     * Записує вагу ребра в сховище і оновлює найкоротші шляхи між усіма парами вершин,
+     * якщо вони підтримуються
+     * @param start номер першої вершини
+     * @param end номер другої вершини
+     * @param weight вага ребра, 0 - щоб видалити ребро
+     */
+
+    protected final void setEdgeWeight(int start, int end, double weight){
+        if (incrementalAllPairs == null) {
+            storage.setWeight(start, end, weight);
+            return;
+        }
+        double oldWeight = storage.getWeight(start, end);
+        storage.setWeight(start, end, weight);
+        incrementalAllPairs.edgeChanged(start, end, oldWeight, weight);
+    }
+
+    /**
+     * Позначає, що граф змінився: збільшує номер версії графа,
+     * через що всі закешовані похідні структури стають недійсними.
+     * Підкласи, які змінюються з кількох потоків, перевизначають цей метод
+     * разом з {@link #getModificationCount()}
+     */
+
+    protected void modified(){
+        modificationCount++;
+    }
+
+    /**
+     * Повертає закешований результат запиту для поточної версії графа,
+     * або обчислює і кешує його
+     * @param name назва запиту
+     * @param argument аргумент запиту, наприклад номер початкової вершини
+     * @param compute функція обчислення результату
+     * @param bytes функція оцінки розміру результату в байтах
+     * @return результат запиту
+     */
+
+    protected final <T> T cached(String name, int argument, Supplier<T> compute, ToLongFunction<T> bytes){
+        return cache.get(name, argument, getModificationCount(), compute, bytes);
+    }
+
+    /**
+     * Виконує задану дію для кожної вершини, суміжної з заданою,
+     * у порядку зростання їх номерів.
+     * Перебір не створює проміжних колекцій
+     * @param index номер вершини, для якої перебираються суміжні вершини
+     * @param action дія, яка отримує номер суміжної вершини
+     */
+
+    public void forEachNeighbor(int index, IntConsumer action){
+        for (int e = storage.firstEdge(index); e != GraphStorage.NO_EDGE; e = storage.nextEdge(index, e)) {
+            action.accept(storage.edgeTarget(index, e));
+        }
+    }
+
+    /**
+     * Знаходить наступну не відвідану вершину, яка суміжна заданій
+     * @param index номер вершини, для якої необхідно знайти
+     * наступну суміжну, не відвідану вершину
+     * @param visited множина відвіданих вершин
+     * @return вершина, суміжна до заданої, і яка не була відвідана,
+     * якщо така існує, та -1 інакше
+     */
+
+    protected final int getUnvisitedVertex(int index, VisitedSet visited) {
+        for (int e = storage.firstEdge(index); e != GraphStorage.NO_EDGE; e = storage.nextEdge(index, e)) {
+            int i = storage.edgeTarget(index, e);
+            if (!visited.isVisited(i)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Знаходить наступну не відвідану вершину, яка суміжна заданій,
+     * і довжина ребра до якої є найменшою
+     * @param index номер вершини, для якої необхідно знайти
+     * суміжну, не відвідану вершину
+     * @param visited множина відвіданих вершин
+     * @return вершина, суміжна до заданої, і яка не була відвідана
+     * та є найближчою до заданої вершини, якщо така існує, та -1 інакше
+     */
+
+    protected final int getMinimalUnvisitedVertex(int index, VisitedSet visited) {
+        double minValue = INFINITY;
+        int minIndex = -1;
+        for (int e = storage.firstEdge(index); e != GraphStorage.NO_EDGE; e = storage.nextEdge(index, e)) {
+            int i = storage.edgeTarget(index, e);
+            double weight = storage.edgeWeight(index, e);
+            if (weight < minValue && !visited.isVisited(i)) {
+                minValue = weight;
+                minIndex = i;
+            }
+        }
+
+        return minIndex;
+    }
+
+    /**
+     * Знаходить ізольовану вершину, якщо така існує
+     * @return ізольовану вершину, якщо така існує, та -1 інакше
+     */
+
+    protected final int noSuccessors(){
+        for (int i = 0; i < verticesCount; i++) {
+            if(storage.outDegree(i) == 0){
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Повертає список вершин графа
+     * @return список вершин графа
+     */
+
+    public Vertex[] getVertices() {
+        return vertices;
+    }
+
+    /**
+     * Повертає матрицю суміжності графа.
+     * Якщо граф не використовує {@link DenseGraphStorage},
+     * то повертається копія матриці розміром кількості вершин
+     * @return матриця суміжності графа
+     */
+
+    public double[][] getAdjMatrix() {
+        if (storage instanceof DenseGraphStorage) {
+            return ((DenseGraphStorage) storage).getMatrix();
+        }
+        double[][] matrix = new double[verticesCount][verticesCount];
+        for (int i = 0; i < verticesCount; i++) {
+            for (int e = storage.firstEdge(i); e != GraphStorage.NO_EDGE; e = storage.nextEdge(i, e)) {
+                matrix[i][storage.edgeTarget(i, e)] = storage.edgeWeight(i, e);
+            }
+        }
+
+        return matrix;
+    }
+
+    /**
+     * Встановлює слухача, який після кожного виклику {@link #dijkstra(int, int[])},
+     * {@link #floydWarshall(boolean)}, {@link #getEulerianPath()} та {@link #getHamiltonPath(ForkJoinPool)}
+     * отримує кількість опрацьованих вершин, релаксованих ребер, операцій з купою,
+     * глибину рекурсії, кількість повернень та час виконання.
+     * Ті самі показники записуються як подія JDK Flight Recorder {@code jgraph.Algorithm}
+     * під час активного запису. Без слухача і запису лічильники не покидають локальних змінних
+     * @param listener слухач, або {@code null} щоб вимкнути сповіщення
+     */
+
+    public void setAlgorithmListener(AlgorithmListener listener) {
+        this.algorithmListener = listener;
+    }
+
+    /**
+     * Повертає встановленого слухача алгоритмів
+     * @return слухач, або {@code null} якщо його не встановлено
+     */
+
+    public AlgorithmListener getAlgorithmListener() {
+        return algorithmListener;
+    }
+
+    /**
+     * Повертає номер версії графа, який збільшується при кожному додаванні ребра,
+     * додаванні чи видаленні вершини
+     * @return номер версії графа
+     */
+
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Повертає кеш похідних структур графа: списку суміжності, степенів вершин,
+     * найкоротших шляхів між усіма парами вершин, компонент зв'язності
+     * та дерев найкоротших шляхів. Зміни сховища в обхід методів графа
+     * не змінюють версію графа, тому після них кеш треба очистити вручну
+     * @return кеш графа
+     */
+
+    public GraphCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Повертає сховище ребер графа
+     * @return сховище ребер графа
+     */
+
+    public GraphStorage getStorage() {
+        return storage;
+    }
+
+    /**
+     * Повертає кількість вершин графа
+     * @return кількість вершин графа
+     */
+
+    public int getVerticesCount() {
+        return verticesCount;
+    }
+}
@@ -0,0 +1,211 @@
+package jgraph;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Кеш похідних структур і результатів запитів графа з обмеженим бюджетом пам'яті.
+ * Кожен запис прив'язаний до номера версії графа: щойно граф змінюється,
+ * при наступному зверненні всі записи попередньої версії відкидаються,
+ * а потрібні структури будуються заново лише тоді, коли їх запитують.
+ * Версія кешу ніколи не зменшується: запити зі старішою версією не читають
+ * і не записують кеш, а значення, обчислене для версії, яка встигла застаріти
+ * під час обчислення, не зберігається.
+ * Якщо сумарний оцінений розмір записів перевищує бюджет,
+ * то витісняються записи, які найдовше не використовувались
+ */
+
+public final class GraphCache {
+
+    /**
+     * Бюджет пам'яті кешу за замовчуванням у байтах
+     */
+
+    public static final long DEFAULT_BUDGET = 64L << 20;
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long budget;
+    private long usedBytes;
+    private long version;
+    private long hits;
+    private long misses;
+
+    /**
+     * Створює кеш з заданим бюджетом пам'яті
+     * @param budget бюджет пам'яті в байтах, 0 вимикає кешування
+     */
+
+    public GraphCache(long budget) {
+        setBudget(budget);
+    }
+
+    /**
+     * Повертає закешоване значення для поточної версії графа,
+     * або обчислює і кешує його
+     * @param name назва запиту
+     * @param argument аргумент запиту
+     * @param version версія графа
+     * @param compute функція обчислення значення
+     * @param bytes функція оцінки розміру значення в байтах
+     * @return значення запиту
+     */
+
+    <T> T get(String name, int argument, long version, Supplier<T> compute, ToLongFunction<T> bytes) {
+        Key key = new Key(name, argument);
+        T value = peek(key, version);
+        if (value != null) return value;
+        value = compute.get();
+        put(key, value, bytes.applyAsLong(value), version);
+
+        return value;
+    }
+
+    /**
+     * Повертає закешоване значення для поточної версії графа, не обчислюючи його
+     * @param name назва запиту
+     * @param argument аргумент запиту
+     * @param version версія графа
+     * @return значення, або {@code null} якщо його немає в кеші
+     */
+
+    <T> T peek(String name, int argument, long version) {
+        return peek(new Key(name, argument), version);
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized <T> T peek(Key key, long version) {
+        if (version > this.version) {
+            clear();
+            this.version = version;
+        }
+        Entry entry = version == this.version ? entries.get(key) : null;
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+
+        return (T) entry.value;
+    }
+
+    private synchronized void put(Key key, Object value, long bytes, long version) {
+        if (version != this.version || bytes > budget) return;
+        Entry previous = entries.put(key, new Entry(value, bytes));
+        if (previous != null) usedBytes -= previous.bytes;
+        usedBytes += bytes;
+        evict();
+    }
+
+    private void evict() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (usedBytes > budget && iterator.hasNext()) {
+            usedBytes -= iterator.next().bytes;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Видаляє всі записи кешу
+     */
+
+    public synchronized void clear() {
+        entries.clear();
+        usedBytes = 0;
+    }
+
+    /**
+     * Змінює бюджет пам'яті, витісняючи записи, що в нього не вміщуються
+     * @param budget бюджет пам'яті в байтах, 0 вимикає кешування
+     * @throws IllegalArgumentException якщо бюджет від'ємний
+     */
+
+    public synchronized void setBudget(long budget) {
+        if (budget < 0) {
+            throw new IllegalArgumentException("Від'ємний бюджет кешу: " + budget);
+        }
+        this.budget = budget;
+        evict();
+    }
+
+    /**
+     * Повертає бюджет пам'яті кешу
+     * @return бюджет пам'яті в байтах
+     */
+
+    public synchronized long getBudget() {
+        return budget;
+    }
+
+    /**
+     * Повертає оцінений розмір усіх записів кешу
+     * @return розмір записів у байтах
+     */
+
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Повертає кількість записів кешу
+     * @return кількість записів
+     */
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Повертає кількість запитів, знайдених у кеші
+     * @return кількість влучань
+     */
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Повертає кількість запитів, яких не було в кеші
+     * @return кількість промахів
+     */
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    private static final class Key {
+        private final String name;
+        private final int argument;
+
+        Key(String name, int argument) {
+            this.name = name;
+            this.argument = argument;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return argument == key.argument && name.equals(key.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, argument);
+        }
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final long bytes;
+
+        Entry(Object value, long bytes) {
+            this.value = value;
+            this.bytes = bytes;
+        }
+    }
+}
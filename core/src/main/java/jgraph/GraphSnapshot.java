@@ -0,0 +1,374 @@
+package jgraph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Знімок графа у двійковому файлі.
+ * Файл складається із заголовка розміром {@link #HEADER_SIZE} байт і секцій,
+ * кожна з яких вирівняна на 8 байт і записана в порядку little-endian:
+ * <ol>
+ * <li>позначки вершин ({@code char[n]})</li>
+ * <li>зміщення рядків вихідних ребер ({@code int[n + 1]})</li>
+ * <li>кінцеві вершини вихідних ребер ({@code int[m]})</li>
+ * <li>ваги вихідних ребер ({@code double[m]})</li>
+ * <li>ті ж три секції для вхідних ребер, якщо граф орієнтований</li>
+ * </ol>
+ * Заголовок містить сигнатуру, версію формату, вид графа
+ * (орієнтований чи неорієнтований), прапорці, кількість вершин та кількість ребер.
+ * Неорієнтований граф зберігає лише вихідні ребра, бо вхідні збігаються з ними.
+ * Збережений граф відкривається відображенням файлу в пам'ять без копіювання ребер.
+ * Під час відкриття перевіряються лише заголовок і зміщення рядків, тому час відкриття
+ * залежить від кількості вершин, а не ребер. Кінцеві вершини всіх рядків
+ * перевіряються лише на вимогу, методом {@link #open(Path, boolean)}
+ */
+
+public final class GraphSnapshot {
+
+    /**
+     * Сигнатура файлу знімка ("JGSN")
+     */
+
+    public static final int MAGIC = 0x4A47534E;
+
+    /**
+     * Поточна версія формату
+     */
+
+    public static final int VERSION = 1;
+
+    /**
+     * Розмір заголовка в байтах
+     */
+
+    public static final int HEADER_SIZE = 64;
+
+    private static final int KIND_ORDERED = 0;
+    private static final int KIND_NON_ORDERED = 1;
+    private static final int FLAG_SHARED_IN_EDGES = 1;
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private GraphSnapshot() {
+    }
+
+    /**
+     * Зберігає граф у файл знімка
+     * @param graph граф
+     * @param path шлях до файлу
+     * @throws IOException якщо файл неможливо записати
+     */
+
+    public static void save(Graph graph, Path path) throws IOException {
+        GraphStorage storage = graph.getStorage();
+        Graph.Vertex[] vertices = graph.getVertices();
+        int n = graph.getVerticesCount();
+        boolean directed = !(graph instanceof NonOrderedGraph);
+        long outEdges = 0;
+        long inEdges = 0;
+        for (int v = 0; v < n; v++) {
+            outEdges += storage.outDegree(v);
+            inEdges += storage.inDegree(v);
+        }
+        if (outEdges > Integer.MAX_VALUE || inEdges > Integer.MAX_VALUE) {
+            throw new IOException("Забагато ребер для знімка: " + Math.max(outEdges, inEdges));
+        }
+        Layout layout = new Layout(n, outEdges, directed ? inEdges : 0, !directed);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(directed ? KIND_ORDERED : KIND_NON_ORDERED)
+                    .putInt(directed ? 0 : FLAG_SHARED_IN_EDGES).putInt(n).putInt(0)
+                    .putLong(outEdges).putLong(directed ? inEdges : 0);
+            header.clear();
+            write(channel, header, 0);
+
+            Section labels = new Section(channel, layout.labels);
+            for (int v = 0; v < n; v++) {
+                labels.ensure(2).putChar(vertices[v].getLabel());
+            }
+            labels.flush();
+
+            writeRows(channel, storage, n, layout.outOffsets, layout.outTargets, layout.outWeights, true);
+            if (directed) {
+                writeRows(channel, storage, n, layout.inOffsets, layout.inTargets, layout.inWeights, false);
+            }
+            long written = channel.size();
+            if (written < layout.size) {
+                write(channel, ByteBuffer.allocate((int) (layout.size - written)), written);
+            }
+        }
+    }
+
+    /**
+     * Відкриває знімок тільки для читання, відображаючи файл у пам'ять.
+     * Ребра графа зберігаються в {@link MappedGraphStorage} і читаються безпосередньо з файлу.
+     * Перевіряються заголовок і зміщення рядків за O(V), секції ребер не читаються
+     * @param path шлях до файлу
+     * @return {@link OrderedGraph} або {@link NonOrderedGraph}, залежно від виду збереженого графа
+     * @throws IOException якщо файл неможливо прочитати, він не є знімком підтримуваної версії
+     * або пошкоджений
+     */
+
+    public static Graph open(Path path) throws IOException {
+        return open(path, false);
+    }
+
+    /**
+     * Відкриває знімок тільки для читання, відображаючи файл у пам'ять
+     * @param path шлях до файлу
+     * @param verify чи перевіряти за O(V + E), що кожен рядок відсортований
+     * за номером кінцевої вершини і посилається лише на існуючі вершини.
+     * Перевірка читає всі кінцеві вершини з файлу
+     * @return {@link OrderedGraph} або {@link NonOrderedGraph}, залежно від виду збереженого графа
+     * @throws IOException якщо файл неможливо прочитати, він не є знімком підтримуваної версії
+     * або пошкоджений
+     */
+
+    public static Graph open(Path path, boolean verify) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw invalid(path, "файл занадто короткий для заголовка знімка: " + size + " байт");
+            }
+            ByteBuffer header = map(channel, 0, HEADER_SIZE);
+            if (header.getInt(0) != MAGIC) {
+                throw invalid(path, "невідома сигнатура знімка: " + Integer.toHexString(header.getInt(0)));
+            }
+            if (header.getInt(4) != VERSION) {
+                throw invalid(path, "непідтримувана версія знімка: " + header.getInt(4));
+            }
+            int kind = header.getInt(8);
+            if (kind != KIND_ORDERED && kind != KIND_NON_ORDERED) {
+                throw invalid(path, "невідомий вид графа у знімку: " + kind);
+            }
+            boolean directed = kind == KIND_ORDERED;
+            boolean shared = (header.getInt(12) & FLAG_SHARED_IN_EDGES) != 0;
+            int n = header.getInt(16);
+            long outEdges = header.getLong(24);
+            long inEdges = header.getLong(32);
+            if (n < 0 || outEdges < 0 || outEdges > Integer.MAX_VALUE
+                    || inEdges < 0 || inEdges > Integer.MAX_VALUE) {
+                throw invalid(path, "недопустимі кількості вершин чи ребер у заголовку");
+            }
+            if (shared == directed || (shared && inEdges != 0)) {
+                throw invalid(path, "прапорці заголовка не відповідають виду графа");
+            }
+            Layout layout = new Layout(n, outEdges, inEdges, shared);
+            if (size != layout.size) {
+                throw invalid(path, "розмір файлу " + size + " байт не відповідає заголовку знімка, "
+                        + "очікувалось " + layout.size + " байт");
+            }
+
+            CharBuffer labels = map(channel, layout.labels, 2L * n).asCharBuffer();
+            Graph.Vertex[] vertices = new Graph.Vertex[n];
+            for (int v = 0; v < n; v++) {
+                vertices[v] = new Graph.Vertex(labels.get(v));
+            }
+
+            ByteBuffer outOffsets = map(channel, layout.outOffsets, 4L * (n + 1));
+            ByteBuffer outTargets = map(channel, layout.outTargets, 4L * outEdges);
+            ByteBuffer outWeights = map(channel, layout.outWeights, 8L * outEdges);
+            ByteBuffer inOffsets = shared ? outOffsets : map(channel, layout.inOffsets, 4L * (n + 1));
+            ByteBuffer inTargets = shared ? outTargets : map(channel, layout.inTargets, 4L * inEdges);
+            ByteBuffer inWeights = shared ? outWeights : map(channel, layout.inWeights, 8L * inEdges);
+            checkOffsets(path, "вихідних", outOffsets.asIntBuffer(), n, outEdges);
+            if (!shared) {
+                checkOffsets(path, "вхідних", inOffsets.asIntBuffer(), n, inEdges);
+            }
+            if (verify) {
+                checkTargets(path, "вихідних", outOffsets.asIntBuffer(), outTargets.asIntBuffer(), n);
+                if (!shared) {
+                    checkTargets(path, "вхідних", inOffsets.asIntBuffer(), inTargets.asIntBuffer(), n);
+                }
+            }
+            MappedGraphStorage storage = new MappedGraphStorage(n,
+                    outOffsets.asIntBuffer(), outTargets.asIntBuffer(), outWeights.asDoubleBuffer(),
+                    inOffsets.asIntBuffer(), inTargets.asIntBuffer(), inWeights.asDoubleBuffer());
+
+            return directed
+                    ? new OrderedGraph(vertices, storage, n)
+                    : new NonOrderedGraph(vertices, storage, n);
+        }
+    }
+
+    /**
+     * Перевіряє, що зміщення рядків не спадають і охоплюють рівно секцію ребер
+     */
+
+    private static void checkOffsets(Path path, String kind, IntBuffer offsets, int n, long edges)
+            throws IOException {
+        if (offsets.get(0) != 0 || offsets.get(n) != edges) {
+            throw invalid(path, "зміщення рядків " + kind + " ребер не охоплюють секцію ребер");
+        }
+        for (int v = 0; v < n; v++) {
+            if (offsets.get(v + 1) < offsets.get(v)) {
+                throw invalid(path, "зміщення рядків " + kind + " ребер спадають у вершині " + v);
+            }
+        }
+    }
+
+    /**
+     * Перевіряє, що кожен рядок відсортований за номером кінцевої вершини
+     * і посилається лише на існуючі вершини
+     */
+
+    private static void checkTargets(Path path, String kind, IntBuffer offsets, IntBuffer targets, int n)
+            throws IOException {
+        for (int v = 0; v < n; v++) {
+            int previous = -1;
+            for (int i = offsets.get(v), to = offsets.get(v + 1); i < to; i++) {
+                int target = targets.get(i);
+                if (target <= previous || target >= n) {
+                    throw invalid(path, "недопустима вершина " + target + " у рядку " + kind
+                            + " ребер вершини " + v);
+                }
+                previous = target;
+            }
+        }
+    }
+
+    private static IOException invalid(Path path, String reason) {
+        return new IOException("Пошкоджений знімок " + path + ": " + reason);
+    }
+
+    /**
+     * Розташування секцій у файлі, яке однозначно визначається заголовком
+     */
+
+    private static final class Layout {
+        final long labels;
+        final long outOffsets;
+        final long outTargets;
+        final long outWeights;
+        final long inOffsets;
+        final long inTargets;
+        final long inWeights;
+        final long size;
+
+        Layout(int n, long outEdges, long inEdges, boolean shared) {
+            labels = HEADER_SIZE;
+            outOffsets = align(labels + 2L * n);
+            outTargets = align(outOffsets + 4L * (n + 1));
+            outWeights = align(outTargets + 4L * outEdges);
+            long end = outWeights + 8L * outEdges;
+            if (shared) {
+                inOffsets = outOffsets;
+                inTargets = outTargets;
+                inWeights = outWeights;
+            } else {
+                inOffsets = end;
+                inTargets = align(inOffsets + 4L * (n + 1));
+                inWeights = align(inTargets + 4L * inEdges);
+                end = inWeights + 8L * inEdges;
+            }
+            size = end;
+        }
+
+        private static long align(long position) {
+            return (position + 7) & ~7L;
+        }
+    }
+
+    private static void writeRows(FileChannel channel, GraphStorage storage, int n,
+                                  long offsetsPosition, long targetsPosition, long weightsPosition,
+                                  boolean outgoing) throws IOException {
+        Section offsets = new Section(channel, offsetsPosition);
+        Section targets = new Section(channel, targetsPosition);
+        Section weights = new Section(channel, weightsPosition);
+        int[] rowTargets = new int[16];
+        double[] rowWeights = new double[16];
+        int offset = 0;
+        for (int v = 0; v < n; v++) {
+            offsets.ensure(4).putInt(offset);
+            int count = 0;
+            boolean sorted = true;
+            if (outgoing) {
+                for (int e = storage.firstEdge(v); e != GraphStorage.NO_EDGE; e = storage.nextEdge(v, e)) {
+                    if (count == rowTargets.length) {
+                        rowTargets = Arrays.copyOf(rowTargets, count * 2);
+                        rowWeights = Arrays.copyOf(rowWeights, count * 2);
+                    }
+                    rowTargets[count] = storage.edgeTarget(v, e);
+                    rowWeights[count] = storage.edgeWeight(v, e);
+                    sorted &= count == 0 || rowTargets[count - 1] < rowTargets[count];
+                    count++;
+                }
+            } else {
+                for (int e = storage.firstInEdge(v); e != GraphStorage.NO_EDGE; e = storage.nextInEdge(v, e)) {
+                    if (count == rowTargets.length) {
+                        rowTargets = Arrays.copyOf(rowTargets, count * 2);
+                        rowWeights = Arrays.copyOf(rowWeights, count * 2);
+                    }
+                    rowTargets[count] = storage.inEdgeSource(v, e);
+                    rowWeights[count] = storage.inEdgeWeight(v, e);
+                    sorted &= count == 0 || rowTargets[count - 1] < rowTargets[count];
+                    count++;
+                }
+            }
+            if (!sorted) {
+                EdgeListLoader.sortByTarget(rowTargets, rowWeights, 0, count - 1);
+            }
+            for (int i = 0; i < count; i++) {
+                targets.ensure(4).putInt(rowTargets[i]);
+                weights.ensure(8).putDouble(rowWeights[i]);
+            }
+            offset += count;
+        }
+        offsets.ensure(4).putInt(offset);
+        offsets.flush();
+        targets.flush();
+        weights.flush();
+    }
+
+    /**
+     * Буферизований запис однієї секції файлу, починаючи з заданої позиції
+     */
+
+    private static final class Section {
+        private final FileChannel channel;
+        private final ByteBuffer buf = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private long position;
+
+        Section(FileChannel channel, long position) {
+            this.channel = channel;
+            this.position = position;
+        }
+
+        ByteBuffer ensure(int bytes) throws IOException {
+            if (buf.remaining() < bytes) {
+                flush();
+            }
+            return buf;
+        }
+
+        void flush() throws IOException {
+            buf.flip();
+            position += write(channel, buf, position);
+            buf.clear();
+        }
+    }
+
+    private static int write(FileChannel channel, ByteBuffer buf, long position) throws IOException {
+        int written = 0;
+        while (buf.hasRemaining()) {
+            written += channel.write(buf, position + written);
+        }
+
+        return written;
+    }
+
+    private static ByteBuffer map(FileChannel channel, long position, long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Секція знімка перевищує 2 ГБ: " + size + " байт");
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
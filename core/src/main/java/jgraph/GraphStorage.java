@@ -0,0 +1,192 @@
+package jgraph;
+
+/**
+ * Сховище ребер графа.
+ * Ребро між двома вершинами існує, якщо його вага відмінна від нуля.
+ * Перебір суміжних вершин виконується через цілочисельні ідентифікатори ребер:
+ * <pre>
+ * for (int e = storage.firstEdge(v); e != GraphStorage.NO_EDGE; e = storage.nextEdge(v, e)) {
+ *     int u = storage.edgeTarget(v, e);
+ * }
+ * </pre>
+ * Такий перебір не створює жодних об'єктів і займає час,
+ * пропорційний кількості перебраних ребер
+ */
+
+public interface GraphStorage {
+
+    /**
+     * Ідентифікатор, що позначає відсутність наступного ребра
+     */
+
+    int NO_EDGE = -1;
+
+    /**
+     * Повертає кількість вершин, яку сховище може вмістити без розширення
+     * @return поточна місткість сховища
+     */
+
+    int capacity();
+
+    /**
+     * Повертає кількість вершин у сховищі
+     * @return кількість вершин
+     */
+
+    int verticesCount();
+
+    /**
+     * Додає нову вершину без ребер з номером {@link #verticesCount()}.
+     * Якщо місткості не вистачає, сховище геометрично розширюється
+     */
+
+    void addVertex();
+
+    /**
+     * Видаляє вершину разом з усіма інцидентними їй ребрами.
+     * Остання вершина переноситься на місце видаленої і отримує її номер,
+     * тому видалення займає час, пропорційний кількості ребер двох вершин
+     * (або кількості вершин для матриці суміжності)
+     * @param index номер вершини
+     */
+
+    void deleteVertex(int index);
+
+    /**
+     * Звільняє невикористане місце: зменшує місткість до кількості вершин
+     * і прибирає прогалини, що залишилися після перенесення та видалення ребер
+     */
+
+    void compact();
+
+    /**
+     * Повертає вагу ребра між двома вершинами
+     * @param start номер першої вершини
+     * @param end номер другої вершини
+     * @return вага ребра, або 0 якщо ребра немає
+     */
+
+    double getWeight(int start, int end);
+
+    /**
+     * Встановлює вагу ребра між двома вершинами.
+     * Нульова вага видаляє ребро
+     * @param start номер першої вершини
+     * @param end номер другої вершини
+     * @param weight вага ребра
+     */
+
+    void setWeight(int start, int end, double weight);
+
+    /**
+     * Повертає кількість ребер, що виходять з вершини
+     * @param v номер вершини
+     * @return кількість вихідних ребер
+     */
+
+    int outDegree(int v);
+
+    /**
+     * Повертає кількість ребер, що входять у вершину
+     * @param v номер вершини
+     * @return кількість вхідних ребер
+     */
+
+    int inDegree(int v);
+
+    /**
+     * Повертає перше ребро, що виходить з вершини
+     * @param v номер вершини
+     * @return ідентифікатор ребра, або {@link #NO_EDGE} якщо таких ребер немає
+     */
+
+    int firstEdge(int v);
+
+    /**
+     * Повертає наступне ребро, що виходить з вершини
+     * @param v номер вершини
+     * @param edge ідентифікатор поточного ребра
+     * @return ідентифікатор наступного ребра, або {@link #NO_EDGE} якщо таких ребер немає
+     */
+
+    int nextEdge(int v, int edge);
+
+    /**
+     * Повертає кінцеву вершину вихідного ребра
+     * @param v номер початкової вершини
+     * @param edge ідентифікатор ребра
+     * @return номер кінцевої вершини
+     */
+
+    int edgeTarget(int v, int edge);
+
+    /**
+     * Повертає вагу вихідного ребра
+     * @param v номер початкової вершини
+     * @param edge ідентифікатор ребра
+     * @return вага ребра
+     */
+
+    double edgeWeight(int v, int edge);
+
+    /**
+     * Повертає перше ребро, що входить у вершину
+     * @param v номер вершини
+     * @return ідентифікатор ребра, або {@link #NO_EDGE} якщо таких ребер немає
+     */
+
+    int firstInEdge(int v);
+
+    /**
+     * Повертає наступне ребро, що входить у вершину
+     * @param v номер вершини
+     * @param edge ідентифікатор поточного ребра
+     * @return ідентифікатор наступного ребра, або {@link #NO_EDGE} якщо таких ребер немає
+     */
+
+    int nextInEdge(int v, int edge);
+
+    /**
+     * Повертає початкову вершину вхідного ребра
+     * @param v номер кінцевої вершини
+     * @param edge ідентифікатор ребра
+     * @return номер початкової вершини
+     */
+
+    int inEdgeSource(int v, int edge);
+
+    /**
+     * Повертає вагу вхідного ребра
+     * @param v номер кінцевої вершини
+     * @param edge ідентифікатор ребра
+     * @return вага ребра
+     */
+
+    double inEdgeWeight(int v, int edge);
+
+    /**
+     * Створює порожнє сховище того ж типу і тієї ж місткості
+     * @return нове порожнє сховище
+     */
+
+    GraphStorage createEmpty();
+
+    /**
+     * Створює незалежну копію сховища
+     * @return копія сховища
+     */
+
+    GraphStorage copy();
+
+    /**
+     * Створює незмінний знімок сховища, який не бачить подальших змін сховища.
+     * Реалізації, що підтримують копіювання при записі, створюють знімок за O(1)
+     * і копіюють лише ті частини, які змінюються після створення знімка.
+     * Реалізація за замовчуванням повертає повну копію
+     * @return знімок сховища
+     */
+
+    default GraphStorage snapshot() {
+        return copy();
+    }
+}
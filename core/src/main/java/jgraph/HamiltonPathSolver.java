@@ -0,0 +1,346 @@
+package jgraph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Пошук гамільтонового шляху в графі.
+ * Для графів з не більш ніж {@link #HELD_KARP_LIMIT} вершинами використовується
+ * динамічне програмування Хелда-Карпа по бітових масках за O(2^n * n^2).
+ * Для більших графів використовується метод гілок і меж з бітовою множиною
+ * відвіданих вершин та відсіканням за зв'язністю і степенями вершин.
+ * Верхні рівні дерева пошуку розподіляються між потоками {@link ForkJoinPool},
+ * а перший потік, що знайшов шлях, зупиняє решту
+ */
+
+public final class HamiltonPathSolver {
+
+    /**
+     * Найбільша кількість вершин, для якої використовується динамічне програмування
+     */
+
+    public static final int HELD_KARP_LIMIT = 20;
+
+    private static final int SPLIT_DEPTH = 2;
+
+    private final GraphStorage storage;
+    private final int n;
+    private final int words;
+    private final AlgorithmProbe probe;
+    private final AtomicReference<int[]> result = new AtomicReference<>();
+    private volatile boolean found;
+
+    private HamiltonPathSolver(GraphStorage storage, int n, AlgorithmProbe probe) {
+        this.storage = storage;
+        this.n = n;
+        this.words = (n + 63) >>> 6;
+        this.probe = probe;
+    }
+
+    /**
+     * Знаходить гамільтонів шлях, обираючи стратегію за розміром графа
+     * @param storage сховище ребер графа
+     * @param n кількість вершин графа
+     * @param pool пул потоків для методу гілок і меж
+     * @return номери вершин шляху, або {@code null} якщо шляху не існує
+     */
+
+    public static int[] solve(GraphStorage storage, int n, ForkJoinPool pool) {
+        return solve(storage, n, pool, null);
+    }
+
+    static int[] solve(GraphStorage storage, int n, ForkJoinPool pool, AlgorithmProbe probe) {
+        if (n == 0) return new int[0];
+        if (n <= HELD_KARP_LIMIT) return heldKarp(storage, n, probe);
+
+        return branchAndBound(storage, n, pool, probe);
+    }
+
+    /**
+     * Знаходить гамільтонів шлях динамічним програмуванням Хелда-Карпа.
+     * Для кожної підмножини вершин зберігається маска вершин,
+     * якими може закінчуватися шлях, що проходить рівно цю підмножину
+     * @param storage сховище ребер графа
+     * @param n кількість вершин графа, не більша за {@link #HELD_KARP_LIMIT}
+     * @return номери вершин шляху, або {@code null} якщо шляху не існує
+     */
+
+    public static int[] heldKarp(GraphStorage storage, int n) {
+        return heldKarp(storage, n, null);
+    }
+
+    private static int[] heldKarp(GraphStorage storage, int n, AlgorithmProbe probe) {
+        if (n > HELD_KARP_LIMIT) {
+            throw new IllegalArgumentException("Забагато вершин для динамічного програмування: " + n);
+        }
+        if (n == 0) return new int[0];
+        int[] out = new int[n];
+        int[] in = new int[n];
+        for (int v = 0; v < n; v++) {
+            for (int e = storage.firstEdge(v); e != GraphStorage.NO_EDGE; e = storage.nextEdge(v, e)) {
+                int w = storage.edgeTarget(v, e);
+                if (w == v) continue;
+                out[v] |= 1 << w;
+                in[w] |= 1 << v;
+            }
+        }
+
+        int full = (1 << n) - 1;
+        int[] ends = new int[1 << n];
+        for (int v = 0; v < n; v++) {
+            ends[1 << v] = 1 << v;
+        }
+        long states = 0;
+        long transitions = 0;
+        for (int mask = 1; mask < full; mask++) {
+            for (int bits = ends[mask]; bits != 0; bits &= bits - 1) {
+                int v = Integer.numberOfTrailingZeros(bits);
+                states++;
+                for (int next = out[v] & ~mask; next != 0; next &= next - 1) {
+                    int w = Integer.numberOfTrailingZeros(next);
+                    ends[mask | (1 << w)] |= 1 << w;
+                    transitions++;
+                }
+            }
+        }
+        if (probe != null) probe.add(states, transitions, 0, 0, 0);
+        if (ends[full] == 0) return null;
+
+        int[] path = new int[n];
+        int mask = full;
+        int v = Integer.numberOfTrailingZeros(ends[full]);
+        for (int pos = n - 1; pos > 0; pos--) {
+            path[pos] = v;
+            mask ^= 1 << v;
+            v = Integer.numberOfTrailingZeros(ends[mask] & in[v]);
+        }
+        path[0] = v;
+
+        return path;
+    }
+
+    /**
+     * Знаходить гамільтонів шлях паралельним методом гілок і меж
+     * @param storage сховище ребер графа
+     * @param n кількість вершин графа
+     * @param pool пул потоків
+     * @return номери вершин шляху, або {@code null} якщо шляху не існує
+     */
+
+    public static int[] branchAndBound(GraphStorage storage, int n, ForkJoinPool pool) {
+        return branchAndBound(storage, n, pool, null);
+    }
+
+    private static int[] branchAndBound(GraphStorage storage, int n, ForkJoinPool pool, AlgorithmProbe probe) {
+        if (n == 0) return new int[0];
+        HamiltonPathSolver solver = new HamiltonPathSolver(storage, n, probe);
+        int[] starts = solver.startCandidates();
+        if (starts.length == 0) return null;
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                List<SearchTask> tasks = new ArrayList<>();
+                for (int s : starts) {
+                    int[] path = new int[n];
+                    long[] visited = new long[solver.words];
+                    path[0] = s;
+                    visited[s >>> 6] |= 1L << s;
+                    tasks.add(solver.new SearchTask(path, visited, 1));
+                }
+                invokeAll(tasks);
+            }
+        });
+
+        return solver.result.get();
+    }
+
+    /**
+     * Визначає можливі початкові вершини: якщо існує вершина без вхідних ребер,
+     * то шлях може починатися лише з неї
+     */
+
+    private int[] startCandidates() {
+        int[] sources = new int[n];
+        int sourcesCount = 0;
+        for (int v = 0; v < n; v++) {
+            if (inDegreeExcludingLoop(v) == 0) {
+                sources[sourcesCount++] = v;
+            }
+        }
+        if (sourcesCount > 1) return new int[0];
+        if (sourcesCount == 1) return new int[]{sources[0]};
+        int[] all = new int[n];
+        for (int v = 0; v < n; v++) {
+            all[v] = v;
+        }
+
+        return all;
+    }
+
+    private int inDegreeExcludingLoop(int v) {
+        int degree = storage.inDegree(v);
+        return storage.getWeight(v, v) != 0 ? degree - 1 : degree;
+    }
+
+    private static boolean contains(long[] set, int v) {
+        return (set[v >>> 6] & (1L << v)) != 0;
+    }
+
+    private final class SearchTask extends RecursiveAction {
+        private final int[] path;
+        private final long[] visited;
+        private final int pos;
+        private long extended;
+        private long scanned;
+        private long backtracked;
+        private int maxDepth;
+
+        SearchTask(int[] path, long[] visited, int pos) {
+            this.path = path;
+            this.visited = visited;
+            this.pos = pos;
+        }
+
+        @Override
+        protected void compute() {
+            if (found) return;
+            if (pos < SPLIT_DEPTH && pos < n) {
+                int last = path[pos - 1];
+                List<SearchTask> tasks = new ArrayList<>();
+                for (int e = storage.firstEdge(last); e != GraphStorage.NO_EDGE; e = storage.nextEdge(last, e)) {
+                    int v = storage.edgeTarget(last, e);
+                    if (contains(visited, v)) continue;
+                    int[] childPath = path.clone();
+                    long[] childVisited = visited.clone();
+                    childPath[pos] = v;
+                    childVisited[v >>> 6] |= 1L << v;
+                    tasks.add(new SearchTask(childPath, childVisited, pos + 1));
+                }
+                if (probe != null) probe.add(tasks.size(), tasks.size(), 0, pos, 0);
+                invokeAll(tasks);
+                return;
+            }
+            if (search(pos)) {
+                if (result.compareAndSet(null, path)) {
+                    found = true;
+                }
+            }
+            if (probe != null) probe.add(extended, scanned, 0, maxDepth, backtracked);
+        }
+
+        private boolean search(int pos) {
+            if (pos > maxDepth) maxDepth = pos;
+            if (pos == n) return true;
+            if (found || !isPromising(pos)) return false;
+            int last = path[pos - 1];
+            int[] candidates = orderedCandidates(last);
+            scanned += candidates.length;
+            for (int v : candidates) {
+                path[pos] = v;
+                visited[v >>> 6] |= 1L << v;
+                extended++;
+                if (search(pos + 1)) return true;
+                visited[v >>> 6] &= ~(1L << v);
+                backtracked++;
+            }
+
+            return false;
+        }
+
+        /**
+         * Впорядковує не відвідані суміжні вершини за правилом Варнсдорфа:
+         * спочатку вершини з найменшою кількістю не відвіданих сусідів
+         */
+
+        private int[] orderedCandidates(int last) {
+            int count = 0;
+            for (int e = storage.firstEdge(last); e != GraphStorage.NO_EDGE; e = storage.nextEdge(last, e)) {
+                if (!contains(visited, storage.edgeTarget(last, e))) count++;
+            }
+            int[] candidates = new int[count];
+            int[] degrees = new int[count];
+            int i = 0;
+            for (int e = storage.firstEdge(last); e != GraphStorage.NO_EDGE; e = storage.nextEdge(last, e)) {
+                int v = storage.edgeTarget(last, e);
+                if (contains(visited, v)) continue;
+                int degree = 0;
+                for (int f = storage.firstEdge(v); f != GraphStorage.NO_EDGE; f = storage.nextEdge(v, f)) {
+                    if (!contains(visited, storage.edgeTarget(v, f))) degree++;
+                }
+                int j = i++;
+                while (j > 0 && degrees[j - 1] > degree) {
+                    candidates[j] = candidates[j - 1];
+                    degrees[j] = degrees[j - 1];
+                    j--;
+                }
+                candidates[j] = v;
+                degrees[j] = degree;
+            }
+
+            return candidates;
+        }
+
+        /**
+         * Перевіряє, що всі не відвідані вершини досяжні з кінця шляху
+         * через не відвідані вершини, кожна з них має попередника серед
+         * не відвіданих вершин або кінця шляху, і не більше однієї
+         * з них не має наступника серед не відвіданих вершин
+         */
+
+        private boolean isPromising(int pos) {
+            int last = path[pos - 1];
+            int remaining = n - pos;
+            int deadEnds = 0;
+            for (int w = 0; w < words; w++) {
+                for (long bits = ~visited[w] & wordMask(w); bits != 0; bits &= bits - 1) {
+                    int v = (w << 6) + Long.numberOfTrailingZeros(bits);
+                    boolean hasSuccessor = false;
+                    for (int e = storage.firstEdge(v); e != GraphStorage.NO_EDGE; e = storage.nextEdge(v, e)) {
+                        int u = storage.edgeTarget(v, e);
+                        if (u != v && !contains(visited, u)) {
+                            hasSuccessor = true;
+                            break;
+                        }
+                    }
+                    if (!hasSuccessor && remaining > 1 && ++deadEnds > 1) return false;
+                    boolean hasPredecessor = false;
+                    for (int e = storage.firstInEdge(v); e != GraphStorage.NO_EDGE; e = storage.nextInEdge(v, e)) {
+                        int u = storage.inEdgeSource(v, e);
+                        if (u != v && (u == last || !contains(visited, u))) {
+                            hasPredecessor = true;
+                            break;
+                        }
+                    }
+                    if (!hasPredecessor) return false;
+                }
+            }
+
+            try (VisitedSet reached = VisitedSet.acquire(n)) {
+                int[] queue = new int[remaining];
+                int head = 0;
+                int tail = 0;
+                for (int e = storage.firstEdge(last); e != GraphStorage.NO_EDGE; e = storage.nextEdge(last, e)) {
+                    int v = storage.edgeTarget(last, e);
+                    if (!contains(visited, v) && reached.tryVisit(v)) queue[tail++] = v;
+                }
+                while (head < tail) {
+                    int u = queue[head++];
+                    for (int e = storage.firstEdge(u); e != GraphStorage.NO_EDGE; e = storage.nextEdge(u, e)) {
+                        int v = storage.edgeTarget(u, e);
+                        if (!contains(visited, v) && reached.tryVisit(v)) queue[tail++] = v;
+                    }
+                }
+
+                return tail == remaining;
+            }
+        }
+
+        private long wordMask(int w) {
+            int rest = n - (w << 6);
+            return rest >= 64 ? -1L : (1L << rest) - 1;
+        }
+    }
+}
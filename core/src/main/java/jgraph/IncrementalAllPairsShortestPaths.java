@@ -0,0 +1,299 @@
+package jgraph;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+
+/**
+ * Найкоротші шляхи між усіма парами вершин, які оновлюються разом з графом.
+ * Додавання ребра або зменшення його ваги обробляється за O(V^2) двома проходами:
+ * спочатку запам'ятовуються відстані до початку ребра та від його кінця,
+ * а потім кожна пара вершин релаксується шляхом через нове ребро.
+ * При збільшенні ваги чи видаленні ребра перераховуються лише рядки тих вершин,
+ * з яких ребро може лежати на найкоротшому шляху, алгоритмом Дейкстри.
+ * Якщо таких рядків багато, граф має ребра від'ємної ваги або вершину видалено,
+ * то матриця повністю перераховується блочним алгоритмом Флойда-Варшала.
+ * Запити відстаней та наступних вершин виконуються за O(1)
+ */
+
+public final class IncrementalAllPairsShortestPaths {
+
+    /**
+     * Позначка відсутності наступної вершини
+     */
+
+    public static final int NO_VERTEX = AllPairsShortestPaths.NO_VERTEX;
+
+    private static final double INFINITY = Double.POSITIVE_INFINITY;
+    private static final double TOLERANCE = 1e-9;
+
+    private final GraphStorage storage;
+    private int n;
+    private double[] dist;
+    private int[] next;
+    private boolean negativeWeights;
+    private boolean stale;
+
+    IncrementalAllPairsShortestPaths(GraphStorage storage, int n) {
+        this.storage = storage;
+        this.n = n;
+        recompute();
+    }
+
+    /**
+     * Повертає кількість вершин
+     * @return кількість вершин
+     */
+
+    public int getVerticesCount() {
+        return n;
+    }
+
+    /**
+     * Повертає довжину найкоротшого шляху між двома вершинами.
+     * Для однакових вершин повертається довжина найкоротшого циклу через вершину
+     * @param start номер початкової вершини
+     * @param end номер кінцевої вершини
+     * @return довжина шляху, або {@link Double#POSITIVE_INFINITY} якщо шляху немає
+     */
+
+    public double getDistance(int start, int end) {
+        refresh();
+        return dist[start * n + end];
+    }
+
+    /**
+     * Повертає наступну вершину на найкоротшому шляху
+     * @param start номер початкової вершини
+     * @param end номер кінцевої вершини
+     * @return номер вершини, що йде за {@code start}, або {@link #NO_VERTEX}
+     */
+
+    public int getNext(int start, int end) {
+        refresh();
+        return next[start * n + end];
+    }
+
+    /**
+     * Відновлює найкоротший шлях між двома вершинами
+     * @param start номер початкової вершини
+     * @param end номер кінцевої вершини
+     * @return список всіх вершин шляху, або порожній список якщо шляху немає
+     * @throws IllegalStateException якщо граф містить цикл від'ємної ваги
+     */
+
+    public LinkedList<Integer> getPath(int start, int end) {
+        refresh();
+        return new AllPairsShortestPaths(n, dist, next).getPath(start, end);
+    }
+
+    /**
+     * Повертає копію поточних найкоротших шляхів, яка не змінюється разом з графом
+     * @return найкоротші шляхи між усіма парами вершин
+     */
+
+    public AllPairsShortestPaths snapshot() {
+        refresh();
+        return new AllPairsShortestPaths(n, dist.clone(), next.clone());
+    }
+
+    /**
+     * Повертає довжини шляхів у вигляді квадратної матриці
+     * @return матриця довжин найкоротших шляхів
+     */
+
+    public double[][] toMatrix() {
+        refresh();
+        return new AllPairsShortestPaths(n, dist, next).toMatrix();
+    }
+
+    /**
+     * Оновлює шляхи після зміни ваги ребра, яке вже записане в сховище
+     * @param u початок ребра
+     * @param v кінець ребра
+     * @param oldWeight попередня вага, 0 якщо ребра не було
+     * @param newWeight нова вага, 0 якщо ребро видалено
+     */
+
+    void edgeChanged(int u, int v, double oldWeight, double newWeight) {
+        if (oldWeight == newWeight || stale) return;
+        if (newWeight < 0) negativeWeights = true;
+        double before = oldWeight == 0 ? INFINITY : oldWeight;
+        double after = newWeight == 0 ? INFINITY : newWeight;
+        if (after < before) {
+            relaxThrough(u, v, after);
+        } else if (negativeWeights) {
+            stale = true;
+        } else {
+            recomputeAffectedRows(u, v, before);
+        }
+    }
+
+    /**
+     * Додає до матриці нову ізольовану вершину з номером, що дорівнює
+     * попередній кількості вершин. Якщо матриця вже не вміщується в масив,
+     * вона позначається застарілою, і помилку кидає наступний запит
+     */
+
+    void vertexAdded() {
+        int m = n + 1;
+        if ((long) m * m > AllPairsShortestPaths.MAX_MATRIX_LENGTH) {
+            n = m;
+            stale = true;
+            return;
+        }
+        double[] grownDist = new double[m * m];
+        int[] grownNext = new int[m * m];
+        Arrays.fill(grownDist, INFINITY);
+        Arrays.fill(grownNext, NO_VERTEX);
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(dist, i * n, grownDist, i * m, n);
+            System.arraycopy(next, i * n, grownNext, i * m, n);
+        }
+        dist = grownDist;
+        next = grownNext;
+        n = m;
+    }
+
+    /**
+     * Позначає матрицю як застарілу після видалення вершини:
+     * вона буде повністю перерахована при наступному запиті
+     * @param verticesCount нова кількість вершин
+     */
+
+    void vertexDeleted(int verticesCount) {
+        n = verticesCount;
+        stale = true;
+    }
+
+    private void refresh() {
+        if (stale) {
+            recompute();
+            stale = false;
+        }
+    }
+
+    private void recompute() {
+        int length = AllPairsShortestPaths.matrixLength(n);
+        dist = new double[length];
+        next = new int[length];
+        Arrays.fill(dist, INFINITY);
+        Arrays.fill(next, NO_VERTEX);
+        negativeWeights = false;
+        for (int i = 0; i < n; i++) {
+            for (int e = storage.firstEdge(i); e != GraphStorage.NO_EDGE; e = storage.nextEdge(i, e)) {
+                int j = storage.edgeTarget(i, e);
+                double w = storage.edgeWeight(i, e);
+                if (w < 0) negativeWeights = true;
+                dist[i * n + j] = w;
+                next[i * n + j] = j;
+            }
+        }
+        BlockedFloydWarshall.compute(dist, next, n);
+    }
+
+    /**
+     * Релаксує всі пари вершин шляхом через ребро (u, v) вагою w.
+     * Відстані до u та від v запам'ятовуються до оновлення,
+     * тому прохід не залежить від порядку обходу пар
+     */
+
+    private void relaxThrough(int u, int v, double w) {
+        double[] toU = new double[n];
+        int[] hopToU = new int[n];
+        double[] fromV = new double[n];
+        for (int i = 0; i < n; i++) {
+            toU[i] = i == u ? 0 : dist[i * n + u];
+            hopToU[i] = i == u ? v : next[i * n + u];
+        }
+        for (int j = 0; j < n; j++) {
+            fromV[j] = j == v ? 0 : dist[v * n + j];
+        }
+        for (int i = 0; i < n; i++) {
+            double viaEdge = toU[i] + w;
+            if (viaEdge == INFINITY) continue;
+            int hop = hopToU[i];
+            int row = i * n;
+            for (int j = 0; j < n; j++) {
+                double alt = viaEdge + fromV[j];
+                if (alt < dist[row + j]) {
+                    dist[row + j] = alt;
+                    next[row + j] = hop;
+                }
+            }
+        }
+    }
+
+    /**
+     * Перераховує рядки вершин, для яких ребро (u, v) з попередньою вагою
+     * могло лежати на найкоротшому шляху. Якщо шлях до u разом з ребром
+     * строго довший за найкоротший шлях до v, то жоден найкоротший шлях
+     * з цієї вершини не проходить через ребро
+     */
+
+    private void recomputeAffectedRows(int u, int v, double oldWeight) {
+        int[] affected = new int[n];
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            double toU = i == u ? 0 : dist[i * n + u];
+            double toV = dist[i * n + v];
+            if (toU + oldWeight <= toV + TOLERANCE * Math.max(1, Math.abs(toV))) {
+                affected[count++] = i;
+            }
+        }
+        if (count > n / 4) {
+            recompute();
+            return;
+        }
+        double[] rowDist = new double[n];
+        int[] firstHop = new int[n];
+        int[] order = new int[n];
+        IndexedDaryHeap heap = new IndexedDaryHeap(n);
+        for (int k = 0; k < count; k++) {
+            recomputeRow(affected[k], rowDist, firstHop, order, heap);
+        }
+    }
+
+    /**
+     * Перераховує рядок вершини s алгоритмом Дейкстри. Перша вершина шляху
+     * визначається в порядку вилучення з купи, а довжина найкоротшого циклу
+     * через s - за вхідними ребрами s
+     */
+
+    private void recomputeRow(int s, double[] rowDist, int[] firstHop, int[] order, IndexedDaryHeap heap) {
+        Arrays.fill(rowDist, INFINITY);
+        Arrays.fill(firstHop, NO_VERTEX);
+        rowDist[s] = 0;
+        heap.insertOrDecrease(s, 0);
+        int settled = 0;
+        while (!heap.isEmpty()) {
+            int x = heap.poll();
+            order[settled++] = x;
+            for (int e = storage.firstEdge(x); e != GraphStorage.NO_EDGE; e = storage.nextEdge(x, e)) {
+                int y = storage.edgeTarget(x, e);
+                double alt = rowDist[x] + storage.edgeWeight(x, e);
+                if (alt < rowDist[y]) {
+                    rowDist[y] = alt;
+                    firstHop[y] = x == s ? y : firstHop[x];
+                    heap.insertOrDecrease(y, alt);
+                }
+            }
+        }
+
+        int row = s * n;
+        Arrays.fill(dist, row, row + n, INFINITY);
+        Arrays.fill(next, row, row + n, NO_VERTEX);
+        for (int k = 1; k < settled; k++) {
+            int x = order[k];
+            dist[row + x] = rowDist[x];
+            next[row + x] = firstHop[x];
+        }
+        for (int e = storage.firstInEdge(s); e != GraphStorage.NO_EDGE; e = storage.nextInEdge(s, e)) {
+            int x = storage.inEdgeSource(s, e);
+            double cycle = rowDist[x] + storage.inEdgeWeight(s, e);
+            if (cycle < dist[row + s]) {
+                dist[row + s] = cycle;
+                next[row + s] = x == s ? s : firstHop[x];
+            }
+        }
+    }
+}
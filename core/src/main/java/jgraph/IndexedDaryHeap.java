@@ -0,0 +1,200 @@
+package jgraph;
+
+import java.util.Arrays;
+
+/**
+ * Індексована d-арна купа з мінімумом у корені.
+ * Елементами купи є номери вершин від 0 до місткості купи,
+ * пріоритетами - дійсні числа. Купа підтримує зменшення пріоритету
+ * за O(log n) і зберігає все в масивах примітивних типів
+ */
+
+public class IndexedDaryHeap {
+
+    private static final int ABSENT = -1;
+
+    private final int arity;
+    private final int[] heap;
+    private final int[] positions;
+    private final double[] keys;
+    private int size;
+
+    /**
+     * Створює 4-арну купу з заданою місткістю
+     * @param capacity максимальний номер елемента плюс одиниця
+     */
+
+    public IndexedDaryHeap(int capacity) {
+        this(capacity, 4);
+    }
+
+    /**
+     * Створює d-арну купу з заданою місткістю
+     * @param capacity максимальний номер елемента плюс одиниця
+     * @param arity кількість нащадків кожного вузла купи
+     */
+
+    public IndexedDaryHeap(int capacity, int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Арність купи має бути не меншою за 2");
+        }
+        this.arity = arity;
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.keys = new double[capacity];
+        Arrays.fill(positions, ABSENT);
+    }
+
+    /**
+     * Повертає місткість купи
+     * @return максимальний номер елемента плюс одиниця
+     */
+
+    public int capacity() {
+        return heap.length;
+    }
+
+    /**
+     * Перевіряє чи купа порожня
+     * @return {@code true} якщо купа порожня, {@code false} - інакше
+     */
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Повертає кількість елементів у купі
+     * @return кількість елементів
+     */
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Перевіряє чи елемент знаходиться в купі
+     * @param v номер елемента
+     * @return {@code true} якщо елемент у купі, {@code false} - інакше
+     */
+
+    public boolean contains(int v) {
+        return positions[v] != ABSENT;
+    }
+
+    /**
+     * Повертає пріоритет елемента, що знаходиться в купі
+     * @param v номер елемента
+     * @return пріоритет елемента
+     */
+
+    public double getKey(int v) {
+        return keys[v];
+    }
+
+    /**
+     * Додає елемент у купу, або зменшує його пріоритет,
+     * якщо елемент вже в купі і новий пріоритет менший
+     * @param v номер елемента
+     * @param key пріоритет елемента
+     * @return {@code true} якщо купа змінилася, {@code false} - інакше
+     */
+
+    public boolean insertOrDecrease(int v, double key) {
+        int pos = positions[v];
+        if (pos == ABSENT) {
+            keys[v] = key;
+            heap[size] = v;
+            positions[v] = size;
+            siftUp(size++);
+            return true;
+        }
+        if (key < keys[v]) {
+            keys[v] = key;
+            siftUp(pos);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Повертає елемент з найменшим пріоритетом, не видаляючи його
+     * @return номер елемента
+     */
+
+    public int peek() {
+        return heap[0];
+    }
+
+    /**
+     * Видаляє з купи елемент з найменшим пріоритетом
+     * @return номер видаленого елемента
+     */
+
+    public int poll() {
+        int min = heap[0];
+        positions[min] = ABSENT;
+        size--;
+        if (size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            positions[last] = 0;
+            siftDown(0);
+        }
+
+        return min;
+    }
+
+    /**
+     * Видаляє з купи всі елементи за час, пропорційний їх кількості
+     */
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int pos) {
+        int v = heap[pos];
+        double key = keys[v];
+        while (pos > 0) {
+            int parentPos = (pos - 1) / arity;
+            int parent = heap[parentPos];
+            if (keys[parent] <= key) break;
+            heap[pos] = parent;
+            positions[parent] = pos;
+            pos = parentPos;
+        }
+        heap[pos] = v;
+        positions[v] = pos;
+    }
+
+    private void siftDown(int pos) {
+        int v = heap[pos];
+        double key = keys[v];
+        while (true) {
+            int firstChild = pos * arity + 1;
+            if (firstChild >= size) break;
+            int lastChild = Math.min(firstChild + arity, size);
+            int minPos = firstChild;
+            double minKey = keys[heap[firstChild]];
+            for (int c = firstChild + 1; c < lastChild; c++) {
+                double childKey = keys[heap[c]];
+                if (childKey < minKey) {
+                    minKey = childKey;
+                    minPos = c;
+                }
+            }
+            if (minKey >= key) break;
+            int child = heap[minPos];
+            heap[pos] = child;
+            positions[child] = pos;
+            pos = minPos;
+        }
+        heap[pos] = v;
+        positions[v] = pos;
+    }
+}
@@ -0,0 +1,127 @@
+package jgraph;
+
+import java.util.Arrays;
+
+/**
+ * Оцінка відстані за орієнтирами (ALT: A*, орієнтири та нерівність трикутника).
+ * Для кількох вершин-орієнтирів заздалегідь обчислюються відстані від орієнтира
+ * до всіх вершин і від усіх вершин до орієнтира. За нерівністю трикутника
+ * {@code d(v, t) >= d(L, t) - d(L, v)} та {@code d(v, t) >= d(v, L) - d(t, L)},
+ * тому максимум цих різниць по всіх орієнтирах є допустимою оцінкою.
+ * Орієнтири обираються послідовно як найвіддаленіші від уже обраних.
+ * Оцінка відповідає графу на момент обчислення і потребує O(k * V) пам'яті
+ */
+
+public final class LandmarkHeuristic implements DistanceHeuristic {
+
+    private static final double INFINITY = Double.POSITIVE_INFINITY;
+
+    private final int[] landmarks;
+    private final double[][] from;
+    private final double[][] to;
+
+    private LandmarkHeuristic(int[] landmarks, double[][] from, double[][] to) {
+        this.landmarks = landmarks;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Обирає орієнтири та обчислює відстані до них і від них
+     * @param storage сховище ребер графа з невід'ємними вагами
+     * @param n кількість вершин графа
+     * @param count кількість орієнтирів
+     * @return оцінка за орієнтирами
+     * @throws IllegalArgumentException якщо кількість орієнтирів не додатна
+     */
+
+    public static LandmarkHeuristic compute(GraphStorage storage, int n, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Кількість орієнтирів повинна бути додатною: " + count);
+        }
+        count = Math.min(count, n);
+        int[] landmarks = new int[count];
+        double[][] from = new double[count][];
+        double[][] to = new double[count][];
+        double[] nearest = new double[n];
+        Arrays.fill(nearest, INFINITY);
+        int landmark = 0;
+        for (int i = 0; i < count; i++) {
+            landmarks[i] = landmark;
+            from[i] = distances(storage, n, landmark, false);
+            to[i] = distances(storage, n, landmark, true);
+            int farthest = -1;
+            double farthestDistance = -1;
+            for (int v = 0; v < n; v++) {
+                nearest[v] = Math.min(nearest[v], Math.min(from[i][v], to[i][v]));
+                double d = nearest[v] == INFINITY ? Double.MAX_VALUE : nearest[v];
+                if (d > farthestDistance && nearest[v] != 0) {
+                    farthestDistance = d;
+                    farthest = v;
+                }
+            }
+            if (farthest == -1) return new LandmarkHeuristic(
+                    Arrays.copyOf(landmarks, i + 1), Arrays.copyOf(from, i + 1), Arrays.copyOf(to, i + 1));
+            landmark = farthest;
+        }
+
+        return new LandmarkHeuristic(landmarks, from, to);
+    }
+
+    /**
+     * Повертає номери вершин-орієнтирів
+     * @return номери орієнтирів
+     */
+
+    public int[] getLandmarks() {
+        return landmarks.clone();
+    }
+
+    @Override
+    public double estimate(int v, int target) {
+        double best = 0;
+        for (int i = 0; i < landmarks.length; i++) {
+            double[] f = from[i];
+            double[] t = to[i];
+            if (f[v] != INFINITY && f[target] != INFINITY) best = Math.max(best, f[target] - f[v]);
+            if (t[v] != INFINITY && t[target] != INFINITY) best = Math.max(best, t[v] - t[target]);
+        }
+
+        return best;
+    }
+
+    /**
+     * Знаходить відстані від вершини до всіх вершин алгоритмом Дейкстри,
+     * або від усіх вершин до неї, якщо ребра проходяться у зворотному напрямку
+     */
+
+    private static double[] distances(GraphStorage storage, int n, int source, boolean reverse) {
+        double[] d = new double[n];
+        Arrays.fill(d, INFINITY);
+        IndexedDaryHeap heap = new IndexedDaryHeap(n);
+        d[source] = 0;
+        heap.insertOrDecrease(source, 0);
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            if (reverse) {
+                for (int e = storage.firstInEdge(u); e != GraphStorage.NO_EDGE; e = storage.nextInEdge(u, e)) {
+                    relax(heap, d, u, storage.inEdgeSource(u, e), storage.inEdgeWeight(u, e));
+                }
+            } else {
+                for (int e = storage.firstEdge(u); e != GraphStorage.NO_EDGE; e = storage.nextEdge(u, e)) {
+                    relax(heap, d, u, storage.edgeTarget(u, e), storage.edgeWeight(u, e));
+                }
+            }
+        }
+
+        return d;
+    }
+
+    private static void relax(IndexedDaryHeap heap, double[] d, int u, int v, double w) {
+        double alt = d[u] + w;
+        if (alt < d[v]) {
+            d[v] = alt;
+            heap.insertOrDecrease(v, alt);
+        }
+    }
+}
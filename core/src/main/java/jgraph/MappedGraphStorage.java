@@ -0,0 +1,202 @@
+package jgraph;
+
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * Сховище ребер тільки для читання у форматі CSR поверх буферів,
+ * відображених з файлу знімка {@link GraphSnapshot}.
+ * Дані не копіюються в купу: алгоритми читають зміщення рядків,
+ * кінцеві вершини та ваги безпосередньо з відображеної пам'яті.
+ * Рядки відсортовані за номером кінцевої вершини, тому вага ребра
+ * знаходиться двійковим пошуком. Ідентифікатором ребра є його позиція у буфері.
+ * Усі методи зміни сховища кидають {@link UnsupportedOperationException},
+ * для зміни графа слід створити копію через {@link #copy()}
+ */
+
+public final class MappedGraphStorage implements GraphStorage {
+
+    private final int verticesCount;
+    private final IntBuffer outOffsets;
+    private final IntBuffer outTargets;
+    private final DoubleBuffer outWeights;
+    private final IntBuffer inOffsets;
+    private final IntBuffer inTargets;
+    private final DoubleBuffer inWeights;
+
+    /**
+     * Створює сховище поверх відображених буферів.
+     * Зміщення містять {@code verticesCount + 1} елементів
+     * @param verticesCount кількість вершин
+     * @param outOffsets зміщення рядків вихідних ребер
+     * @param outTargets кінцеві вершини вихідних ребер
+     * @param outWeights ваги вихідних ребер
+     * @param inOffsets зміщення рядків вхідних ребер
+     * @param inTargets початкові вершини вхідних ребер
+     * @param inWeights ваги вхідних ребер
+     */
+
+    MappedGraphStorage(int verticesCount,
+                       IntBuffer outOffsets, IntBuffer outTargets, DoubleBuffer outWeights,
+                       IntBuffer inOffsets, IntBuffer inTargets, DoubleBuffer inWeights) {
+        this.verticesCount = verticesCount;
+        this.outOffsets = outOffsets;
+        this.outTargets = outTargets;
+        this.outWeights = outWeights;
+        this.inOffsets = inOffsets;
+        this.inTargets = inTargets;
+        this.inWeights = inWeights;
+    }
+
+    @Override
+    public int capacity() {
+        return verticesCount;
+    }
+
+    @Override
+    public int verticesCount() {
+        return verticesCount;
+    }
+
+    @Override
+    public void addVertex() {
+        throw readOnly();
+    }
+
+    @Override
+    public void deleteVertex(int index) {
+        throw readOnly();
+    }
+
+    @Override
+    public void compact() {
+    }
+
+    @Override
+    public double getWeight(int start, int end) {
+        int lo = outOffsets.get(start);
+        int hi = outOffsets.get(start + 1) - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int target = outTargets.get(mid);
+            if (target < end) {
+                lo = mid + 1;
+            } else if (target > end) {
+                hi = mid - 1;
+            } else {
+                return outWeights.get(mid);
+            }
+        }
+
+        return 0;
+    }
+
+    @Override
+    public void setWeight(int start, int end, double weight) {
+        throw readOnly();
+    }
+
+    @Override
+    public int outDegree(int v) {
+        return outOffsets.get(v + 1) - outOffsets.get(v);
+    }
+
+    @Override
+    public int inDegree(int v) {
+        return inOffsets.get(v + 1) - inOffsets.get(v);
+    }
+
+    @Override
+    public int firstEdge(int v) {
+        int start = outOffsets.get(v);
+        return start < outOffsets.get(v + 1) ? start : NO_EDGE;
+    }
+
+    @Override
+    public int nextEdge(int v, int edge) {
+        return edge + 1 < outOffsets.get(v + 1) ? edge + 1 : NO_EDGE;
+    }
+
+    @Override
+    public int edgeTarget(int v, int edge) {
+        return outTargets.get(edge);
+    }
+
+    @Override
+    public double edgeWeight(int v, int edge) {
+        return outWeights.get(edge);
+    }
+
+    @Override
+    public int firstInEdge(int v) {
+        int start = inOffsets.get(v);
+        return start < inOffsets.get(v + 1) ? start : NO_EDGE;
+    }
+
+    @Override
+    public int nextInEdge(int v, int edge) {
+        return edge + 1 < inOffsets.get(v + 1) ? edge + 1 : NO_EDGE;
+    }
+
+    @Override
+    public int inEdgeSource(int v, int edge) {
+        return inTargets.get(edge);
+    }
+
+    @Override
+    public double inEdgeWeight(int v, int edge) {
+        return inWeights.get(edge);
+    }
+
+    /**
+     * Створює порожнє змінюване сховище {@link CsrGraphStorage} тієї ж місткості
+     * @return нове порожнє сховище
+     */
+
+    @Override
+    public GraphStorage createEmpty() {
+        return new CsrGraphStorage(verticesCount);
+    }
+
+    /**
+     * Копіює відображені рядки в змінюване сховище {@link CsrGraphStorage}
+     * @return змінювана копія сховища
+     */
+
+    @Override
+    public GraphStorage copy() {
+        return new CsrGraphStorage(verticesCount,
+                rows(outOffsets, outTargets, outWeights),
+                rows(inOffsets, inTargets, inWeights));
+    }
+
+    /**
+     * Відображене сховище незмінне, тому воно саме є своїм знімком
+     * @return це сховище
+     */
+
+    @Override
+    public GraphStorage snapshot() {
+        return this;
+    }
+
+    private CsrGraphStorage.Rows rows(IntBuffer offsets, IntBuffer targets, DoubleBuffer weights) {
+        int[] starts = new int[verticesCount];
+        int[] counts = new int[verticesCount];
+        for (int v = 0; v < verticesCount; v++) {
+            starts[v] = offsets.get(v);
+            counts[v] = offsets.get(v + 1) - starts[v];
+        }
+        int edges = offsets.get(verticesCount);
+        int[] targetsCopy = new int[edges];
+        double[] weightsCopy = new double[edges];
+        targets.get(0, targetsCopy);
+        weights.get(0, weightsCopy);
+
+        return new CsrGraphStorage.Rows(starts, counts, counts.clone(), targetsCopy, weightsCopy);
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Сховище відображене з файлу і доступне тільки для читання");
+    }
+}
@@ -0,0 +1,288 @@
+package jgraph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Алгоритми побудови мінімального остовного лісу неорієнтованого графа.
+ * Алгоритм Прима з індексованою купою підходить для щільних графів,
+ * алгоритм Крускала з системою неперетинних множин - для розріджених,
+ * паралельний алгоритм Борувки - для дуже великих графів
+ */
+
+public final class MinimumSpanningTree {
+
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    private static final int VERTICES_PER_TASK = 4096;
+    private static final int BORUVKA_THRESHOLD = 1 << 20;
+
+    private MinimumSpanningTree() {
+    }
+
+    /**
+     * Будує мінімальний остовний ліс, обираючи алгоритм за щільністю та розміром графа
+     * @param storage симетричне сховище ребер неорієнтованого графа
+     * @param n кількість вершин графа
+     * @return ребра мінімального остовного лісу
+     */
+
+    public static SpanningTree compute(GraphStorage storage, int n) {
+        long edges = 0;
+        for (int v = 0; v < n; v++) {
+            edges += storage.outDegree(v);
+        }
+        if (n >= BORUVKA_THRESHOLD) return boruvka(storage, n, ForkJoinPool.commonPool());
+        if (edges > (long) n * n / 4) return prim(storage, n);
+
+        return kruskal(storage, n);
+    }
+
+    /**
+     * Будує мінімальний остовний ліс алгоритмом Прима з індексованою купою за O(E log V)
+     * @param storage симетричне сховище ребер неорієнтованого графа
+     * @param n кількість вершин графа
+     * @return ребра мінімального остовного лісу
+     */
+
+    public static SpanningTree prim(GraphStorage storage, int n) {
+        int[] starts = new int[Math.max(n - 1, 0)];
+        int[] ends = new int[starts.length];
+        double[] weights = new double[starts.length];
+        int count = 0;
+
+        int[] parent = new int[n];
+        boolean[] inTree = new boolean[n];
+        IndexedDaryHeap heap = new IndexedDaryHeap(n);
+        for (int root = 0; root < n; root++) {
+            if (inTree[root]) continue;
+            parent[root] = -1;
+            heap.insertOrDecrease(root, 0);
+            while (!heap.isEmpty()) {
+                double key = heap.getKey(heap.peek());
+                int u = heap.poll();
+                inTree[u] = true;
+                if (parent[u] != -1) {
+                    starts[count] = parent[u];
+                    ends[count] = u;
+                    weights[count] = key;
+                    count++;
+                }
+                for (int e = storage.firstEdge(u); e != GraphStorage.NO_EDGE; e = storage.nextEdge(u, e)) {
+                    int v = storage.edgeTarget(u, e);
+                    if (inTree[v]) continue;
+                    if (heap.insertOrDecrease(v, storage.edgeWeight(u, e))) {
+                        parent[v] = u;
+                    }
+                }
+            }
+        }
+
+        return new SpanningTree(starts, ends, weights, count);
+    }
+
+    /**
+     * Будує мінімальний остовний ліс алгоритмом Крускала за O(E log E):
+     * ребра збираються в масиви примітивних типів, сортуються за вагою
+     * і додаються, якщо з'єднують різні множини
+     * @param storage симетричне сховище ребер неорієнтованого графа
+     * @param n кількість вершин графа
+     * @return ребра мінімального остовного лісу
+     */
+
+    public static SpanningTree kruskal(GraphStorage storage, int n) {
+        int m = 0;
+        for (int u = 0; u < n; u++) {
+            for (int e = storage.firstEdge(u); e != GraphStorage.NO_EDGE; e = storage.nextEdge(u, e)) {
+                if (u < storage.edgeTarget(u, e)) m++;
+            }
+        }
+        int[] edgeStarts = new int[m];
+        int[] edgeEnds = new int[m];
+        double[] edgeWeights = new double[m];
+        int i = 0;
+        for (int u = 0; u < n; u++) {
+            for (int e = storage.firstEdge(u); e != GraphStorage.NO_EDGE; e = storage.nextEdge(u, e)) {
+                int v = storage.edgeTarget(u, e);
+                if (u < v) {
+                    edgeStarts[i] = u;
+                    edgeEnds[i] = v;
+                    edgeWeights[i] = storage.edgeWeight(u, e);
+                    i++;
+                }
+            }
+        }
+        sortByWeight(edgeWeights, edgeStarts, edgeEnds, 0, m - 1);
+
+        int[] starts = new int[Math.max(n - 1, 0)];
+        int[] ends = new int[starts.length];
+        double[] weights = new double[starts.length];
+        int count = 0;
+        DisjointSet set = new DisjointSet(n);
+        for (int k = 0; k < m && count < starts.length; k++) {
+            if (set.union(edgeStarts[k], edgeEnds[k])) {
+                starts[count] = edgeStarts[k];
+                ends[count] = edgeEnds[k];
+                weights[count] = edgeWeights[k];
+                count++;
+            }
+        }
+
+        return new SpanningTree(starts, ends, weights, count);
+    }
+
+    /**
+     * Будує мінімальний остовний ліс паралельним алгоритмом Борувки.
+     * На кожному раунді кожна компонента паралельно знаходить найлегше ребро,
+     * що виходить з неї, після чого всі знайдені ребра додаються до лісу.
+     * Кількість компонент щонайменше вдвічі зменшується за раунд, тому раундів O(log V)
+     * @param storage симетричне сховище ребер неорієнтованого графа
+     * @param n кількість вершин графа
+     * @param pool пул потоків для пошуку найлегших ребер
+     * @return ребра мінімального остовного лісу
+     */
+
+    public static SpanningTree boruvka(GraphStorage storage, int n, ForkJoinPool pool) {
+        int[] starts = new int[Math.max(n - 1, 0)];
+        int[] ends = new int[starts.length];
+        double[] weights = new double[starts.length];
+        int count = 0;
+
+        DisjointSet set = new DisjointSet(n);
+        int[] components = new int[n];
+        int[] bestTarget = new int[n];
+        double[] bestWeight = new double[n];
+        int[] componentBest = new int[n];
+        boolean merged = true;
+        while (merged && count < starts.length) {
+            merged = false;
+            for (int v = 0; v < n; v++) {
+                components[v] = set.find(v);
+            }
+            pool.invoke(new CheapestEdgeTask(storage, components, bestTarget, bestWeight, 0, n));
+
+            Arrays.fill(componentBest, -1);
+            for (int v = 0; v < n; v++) {
+                if (bestTarget[v] == -1) continue;
+                int c = components[v];
+                int current = componentBest[c];
+                if (current == -1 || lighter(bestWeight[v], v, bestTarget[v], bestWeight[current], current, bestTarget[current])) {
+                    componentBest[c] = v;
+                }
+            }
+            for (int c = 0; c < n; c++) {
+                int v = componentBest[c];
+                if (v == -1) continue;
+                if (set.union(v, bestTarget[v])) {
+                    starts[count] = v;
+                    ends[count] = bestTarget[v];
+                    weights[count] = bestWeight[v];
+                    count++;
+                    merged = true;
+                }
+            }
+        }
+
+        return new SpanningTree(starts, ends, weights, count);
+    }
+
+    /**
+     * Порівнює ребра за вагою, а при рівних вагах - за номерами вершин,
+     * щоб усі компоненти обирали ребра в одному порядку і не утворювали циклів
+     */
+
+    private static boolean lighter(double w1, int a1, int b1, double w2, int a2, int b2) {
+        if (w1 != w2) return w1 < w2;
+        int min1 = Math.min(a1, b1), min2 = Math.min(a2, b2);
+        if (min1 != min2) return min1 < min2;
+
+        return Math.max(a1, b1) < Math.max(a2, b2);
+    }
+
+    private static final class CheapestEdgeTask extends RecursiveAction {
+        private final GraphStorage storage;
+        private final int[] components;
+        private final int[] bestTarget;
+        private final double[] bestWeight;
+        private final int from;
+        private final int to;
+
+        CheapestEdgeTask(GraphStorage storage, int[] components, int[] bestTarget, double[] bestWeight, int from, int to) {
+            this.storage = storage;
+            this.components = components;
+            this.bestTarget = bestTarget;
+            this.bestWeight = bestWeight;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > VERTICES_PER_TASK) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new CheapestEdgeTask(storage, components, bestTarget, bestWeight, from, mid),
+                        new CheapestEdgeTask(storage, components, bestTarget, bestWeight, mid, to));
+                return;
+            }
+            for (int u = from; u < to; u++) {
+                int best = -1;
+                double weight = 0;
+                for (int e = storage.firstEdge(u); e != GraphStorage.NO_EDGE; e = storage.nextEdge(u, e)) {
+                    int v = storage.edgeTarget(u, e);
+                    if (components[v] == components[u]) continue;
+                    double w = storage.edgeWeight(u, e);
+                    if (best == -1 || lighter(w, u, v, weight, u, best)) {
+                        best = v;
+                        weight = w;
+                    }
+                }
+                bestTarget[u] = best;
+                bestWeight[u] = weight;
+            }
+        }
+    }
+
+    /**
+     * Сортує ребра за зростанням ваги швидким сортуванням над паралельними масивами
+     */
+
+    private static void sortByWeight(double[] w, int[] a, int[] b, int lo, int hi) {
+        while (hi - lo > INSERTION_SORT_THRESHOLD) {
+            int mid = (lo + hi) >>> 1;
+            if (w[mid] < w[lo]) swap(w, a, b, mid, lo);
+            if (w[hi] < w[lo]) swap(w, a, b, hi, lo);
+            if (w[hi] < w[mid]) swap(w, a, b, hi, mid);
+            double pivot = w[mid];
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (w[i] < pivot) i++;
+                while (w[j] > pivot) j--;
+                if (i <= j) swap(w, a, b, i++, j--);
+            }
+            if (j - lo < hi - i) {
+                sortByWeight(w, a, b, lo, j);
+                lo = i;
+            } else {
+                sortByWeight(w, a, b, i, hi);
+                hi = j;
+            }
+        }
+        for (int i = lo + 1; i <= hi; i++) {
+            for (int j = i; j > lo && w[j] < w[j - 1]; j--) {
+                swap(w, a, b, j, j - 1);
+            }
+        }
+    }
+
+    private static void swap(double[] w, int[] a, int[] b, int i, int j) {
+        double tw = w[i];
+        w[i] = w[j];
+        w[j] = tw;
+        int ta = a[i];
+        a[i] = a[j];
+        a[j] = ta;
+        int tb = b[i];
+        b[i] = b[j];
+        b[j] = tb;
+    }
+}
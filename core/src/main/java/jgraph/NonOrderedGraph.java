@@ -0,0 +1,184 @@
+package jgraph;
+
+/**
+ * Реалізація неорієнтованого графа
+ */
+
+public class NonOrderedGraph extends Graph {
+
+    /**
+     * Створює неорієнтований граф з заданою максимальною кількістю вершин
+     * @param maxVerticesCount максимальна кількість вершин
+     */
+
+    public NonOrderedGraph(int maxVerticesCount){
+        super(maxVerticesCount);
+    }
+
+    /**
+     * Створює неорієнтований граф з заданим списком вершин, матрицею суміжності,
+     * максимальною кількістю вершин, та кількістю вершин
+     * @param vertices список вершин
+     * @param adjMatrix матриця суміжності
+     * @param maxVerticesCount максимальна кількість вершин
+     * @param nVertices кількість вершин
+     */
+
+    public NonOrderedGraph(Vertex[] vertices, double[][] adjMatrix, int maxVerticesCount, int nVertices){
+        super(vertices, adjMatrix, maxVerticesCount, nVertices);
+    }
+
+    /**
+     * Створює неорієнтований граф, ребра якого зберігаються в заданому порожньому сховищі
+     * @param storage сховище ребер
+     * @throws IllegalArgumentException якщо сховище вже містить вершини
+     */
+
+    public NonOrderedGraph(GraphStorage storage){
+        super(storage);
+    }
+
+    /**
+     * Створює неорієнтований граф з заданим списком вершин,
+     * заповненим сховищем ребер та кількістю вершин
+     * @param vertices список вершин
+     * @param storage сховище ребер, яке використовується без копіювання
+     * @param nVertices кількість вершин
+     */
+
+    protected NonOrderedGraph(Vertex[] vertices, GraphStorage storage, int nVertices){
+        super(vertices, storage, nVertices);
+    }
+
+    /**
+     * Створює незмінний знімок заданого неорієнтованого графа
+     * @param source граф, знімок якого створюється
+     */
+
+    protected NonOrderedGraph(NonOrderedGraph source){
+        super(source);
+    }
+
+    @Override
+    public NonOrderedGraph snapshot() {
+        return new NonOrderedGraph(this);
+    }
+
+    @Override
+    protected void addEdgeToList(AdjacencyList list, int start, int end) {
+        list.add(start, end);
+        list.add(end, start);
+    }
+
+    @Override
+    protected void deleteEdgeFromList(AdjacencyList list, int start, int end) {
+        list.remove(start, end);
+        list.remove(end, start);
+    }
+
+    @Override
+    public void addEdge(int start, int end, double weight) {
+        setEdgeWeight(start, end, weight);
+        setEdgeWeight(end, start, weight);
+        modified();
+    }
+
+    /**
+     * Створює остовне дерево з мінімальним добутком ваг всіх ребер.
+     * Логарифм зберігає порядок додатних ваг, тому дерево з мінімальним
+     * добутком збігається з деревом з мінімальною сумою ваг
+     * і будується без перетворення ваг графа
+     * @return граф, який являє собою остовне дерево з
+     * мінімальним добутком ваг всіх ребер
+     */
+
+    public NonOrderedGraph minimalProductTree(){
+        return minimalSpanningTree();
+    }
+
+    /**
+     * Створює остовне дерево з мінімальною сумою ваг всіх ребер.
+     * Якщо граф не зв'язний, то створюється остовний ліс.
+     * Дерево графа зі сховищем поза купою будується в {@link CsrGraphStorage},
+     * щоб результат не тримав пам'ять поза купою, яку ніхто не закриє
+     * @return граф, який являє собою остовне дерево
+     * з мінімальною сумою ваг всіх ребер
+     */
+
+    public NonOrderedGraph minimalSpanningTree(){
+        GraphStorage edges = storage instanceof OffHeapGraphStorage
+                ? new CsrGraphStorage(verticesCount) : storage.createEmpty();
+        return minimalSpanningTree(edges);
+    }
+
+    /**
+     * Створює остовне дерево з мінімальною сумою ваг всіх ребер
+     * у заданому порожньому сховищі. Сховищем поза купою володіє викликач,
+     * який закриває його разом з деревом методом {@link #close()}
+     * @param edges порожнє сховище ребер дерева
+     * @return граф, який являє собою остовне дерево
+     * з мінімальною сумою ваг всіх ребер
+     */
+
+    public NonOrderedGraph minimalSpanningTree(GraphStorage edges){
+        SpanningTree tree = minimumSpanningEdges();
+        NonOrderedGraph g = new NonOrderedGraph(edges);
+        for (int i = 0; i < verticesCount; i++) {
+            g.addVertex(vertices[i].label);
+        }
+        for (int i = 0; i < tree.getEdgesCount(); i++) {
+            g.addEdge(tree.getStart(i), tree.getEnd(i), tree.getWeight(i));
+        }
+
+        return g;
+    }
+
+    /**
+     * Знаходить ребра мінімального остовного лісу, обираючи алгоритм
+     * Прима, Крускала чи Борувки за щільністю та розміром графа
+     * @return список ребер мінімального остовного лісу
+     */
+
+    public SpanningTree minimumSpanningEdges(){
+        return MinimumSpanningTree.compute(storage, verticesCount);
+    }
+
+    /**
+     * Перевіряє чи є даний граф є зв'язним
+     * @return логічне {@code true} якщо граф зв'язний,
+     * {@code false} - інакше
+     */
+
+    public boolean isConnected(){
+        return connectedComponents().getCount() <= 1;
+    }
+
+    /**
+     * Знаходить компоненти зв'язності графа
+     * @return розбиття вершин графа на компоненти зв'язності
+     */
+
+    public Components connectedComponents(){
+        return cached("components", 0, () -> Components.weaklyConnected(storage, verticesCount),
+                components -> 8L * verticesCount);
+    }
+
+    @Override
+    public boolean isSemiEulerian() {
+        int oddDegVertices = 0;
+        for (int i = 0; i < verticesCount; i++) {
+            if(deg(i) % 2 == 1 && ++oddDegVertices > 2) return false;
+        }
+
+        return oddDegVertices != 1 && isConnected();
+    }
+
+    @Override
+    public boolean isEulerian(){
+        for (int i = 0; i < verticesCount; i++) {
+            if(deg(i) % 2 == 1) return false;
+        }
+
+        return isConnected();
+    }
+}
@@ -0,0 +1,456 @@
+package jgraph;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Сховище ребер у форматі CSR, розміщене поза купою Java.
+ * Рядки вершин, кінцеві вершини та ваги ребер зберігаються в сегментах
+ * {@link MemorySegment}, виділених через {@link Arena}, тому збирач сміття
+ * бачить лише кілька об'єктів незалежно від кількості ребер.
+ * Будова рядків така ж, як у {@link CsrGraphStorage}: рядок відсортований
+ * за номером кінцевої вершини, а рядок, якому забракло місця, переноситься
+ * в кінець сегмента з подвоєною місткістю. Зміщення рядків зберігаються як {@code long},
+ * тому кількість ребер не обмежена 2^31. Ідентифікатором ребра є його номер у рядку.
+ * Пам'ять звільняється явно методом {@link #close()}, після чого будь-яке звернення
+ * до сховища кидає {@link IllegalStateException}. Сегменти спільні для всіх потоків,
+ * тому паралельні алгоритми можуть читати сховище одночасно.
+ * Сегменти не можна розділити між сховищем і знімком по рядках, тому знімок
+ * є стиснутою копією у власних аренах, яку теж слід закрити методом {@link #close()}
+ */
+
+public final class OffHeapGraphStorage implements GraphStorage, AutoCloseable {
+
+    /**
+     * Рядки CSR у двох сегментах: опис рядків (зміщення, кількість ребер, місткість)
+     * та ребра (кінцеві вершини і ваги). При розширенні сегмент переноситься
+     * у нову арену, а стара одразу закривається
+     */
+
+    private static final class Rows implements AutoCloseable {
+        private static final int MIN_ROW_CAPACITY = 4;
+        private static final long ROW_BYTES = 16;
+        private static final long OFFSET = 0;
+        private static final long COUNT = 8;
+        private static final long CAPACITY = 12;
+        private static final long EDGE_BYTES = 12;
+
+        private Arena rowsArena;
+        private MemorySegment rows;
+        private Arena edgesArena;
+        private MemorySegment targets;
+        private MemorySegment weights;
+        private long edgesCapacity;
+        private long tail;
+
+        Rows(int verticesCapacity, long edgesCapacity) {
+            rowsArena = Arena.ofShared();
+            rows = rowsArena.allocate(Math.max(1, verticesCapacity) * ROW_BYTES, 8);
+            rows.fill((byte) 0);
+            allocateEdges(edgesCapacity);
+        }
+
+        Rows(Rows other, int verticesCount) {
+            this(verticesCount, other.usedEdges(verticesCount));
+            long pos = 0;
+            for (int v = 0; v < verticesCount; v++) {
+                int count = other.count(v);
+                MemorySegment.copy(other.targets, other.offset(v) * 4, targets, pos * 4, count * 4L);
+                MemorySegment.copy(other.weights, other.offset(v) * 8, weights, pos * 8, count * 8L);
+                setOffset(v, pos);
+                setCount(v, count);
+                setCapacity(v, count);
+                pos += count;
+            }
+            tail = pos;
+        }
+
+        long offset(int v) {
+            return rows.get(ValueLayout.JAVA_LONG, v * ROW_BYTES + OFFSET);
+        }
+
+        int count(int v) {
+            return rows.get(ValueLayout.JAVA_INT, v * ROW_BYTES + COUNT);
+        }
+
+        int capacity(int v) {
+            return rows.get(ValueLayout.JAVA_INT, v * ROW_BYTES + CAPACITY);
+        }
+
+        int target(long pos) {
+            return targets.getAtIndex(ValueLayout.JAVA_INT, pos);
+        }
+
+        double weight(long pos) {
+            return weights.getAtIndex(ValueLayout.JAVA_DOUBLE, pos);
+        }
+
+        private void setOffset(int v, long offset) {
+            rows.set(ValueLayout.JAVA_LONG, v * ROW_BYTES + OFFSET, offset);
+        }
+
+        private void setCount(int v, int count) {
+            rows.set(ValueLayout.JAVA_INT, v * ROW_BYTES + COUNT, count);
+        }
+
+        private void setCapacity(int v, int capacity) {
+            rows.set(ValueLayout.JAVA_INT, v * ROW_BYTES + CAPACITY, capacity);
+        }
+
+        /**
+         * Знаходить номер ребра в рядку двійковим пошуком
+         * @return номер ребра в рядку, або {@code -(точка вставки) - 1} якщо ребра немає
+         */
+
+        int find(int v, int target) {
+            long offset = offset(v);
+            int lo = 0;
+            int hi = count(v) - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int value = target(offset + mid);
+                if (value < target) {
+                    lo = mid + 1;
+                } else if (value > target) {
+                    hi = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+
+            return -(lo + 1);
+        }
+
+        void put(int v, int target, double weight) {
+            int index = find(v, target);
+            if (index >= 0) {
+                weights.setAtIndex(ValueLayout.JAVA_DOUBLE, offset(v) + index, weight);
+                return;
+            }
+            int insertAt = -index - 1;
+            int count = count(v);
+            if (count == capacity(v)) {
+                relocate(v, Math.max(MIN_ROW_CAPACITY, count * 2));
+            }
+            long pos = offset(v) + insertAt;
+            long moved = count - insertAt;
+            MemorySegment.copy(targets, pos * 4, targets, (pos + 1) * 4, moved * 4);
+            MemorySegment.copy(weights, pos * 8, weights, (pos + 1) * 8, moved * 8);
+            targets.setAtIndex(ValueLayout.JAVA_INT, pos, target);
+            weights.setAtIndex(ValueLayout.JAVA_DOUBLE, pos, weight);
+            setCount(v, count + 1);
+        }
+
+        void remove(int v, int target) {
+            int index = find(v, target);
+            if (index < 0) return;
+            int count = count(v);
+            long pos = offset(v) + index;
+            long moved = count - index - 1;
+            MemorySegment.copy(targets, (pos + 1) * 4, targets, pos * 4, moved * 4);
+            MemorySegment.copy(weights, (pos + 1) * 8, weights, pos * 8, moved * 8);
+            setCount(v, count - 1);
+        }
+
+        double get(int v, int target) {
+            int index = find(v, target);
+            return index >= 0 ? weight(offset(v) + index) : 0;
+        }
+
+        void replace(int v, int oldTarget, int newTarget) {
+            int index = find(v, oldTarget);
+            if (index < 0) return;
+            double weight = weight(offset(v) + index);
+            remove(v, oldTarget);
+            put(v, newTarget, weight);
+        }
+
+        void moveRow(int from, int to) {
+            MemorySegment.copy(rows, from * ROW_BYTES, rows, to * ROW_BYTES, ROW_BYTES);
+            clearRow(from);
+        }
+
+        void clearRow(int v) {
+            rows.asSlice(v * ROW_BYTES, ROW_BYTES).fill((byte) 0);
+        }
+
+        void resizeVertices(int verticesCapacity) {
+            Arena arena = Arena.ofShared();
+            MemorySegment resized = arena.allocate(Math.max(1, verticesCapacity) * ROW_BYTES, 8);
+            resized.fill((byte) 0);
+            MemorySegment.copy(rows, 0, resized, 0, Math.min(rows.byteSize(), resized.byteSize()));
+            rowsArena.close();
+            rowsArena = arena;
+            rows = resized;
+        }
+
+        long usedEdges(int verticesCount) {
+            long edges = 0;
+            for (int v = 0; v < verticesCount; v++) {
+                edges += count(v);
+            }
+
+            return edges;
+        }
+
+        private void allocateEdges(long capacity) {
+            edgesArena = Arena.ofShared();
+            edgesCapacity = Math.max(1, capacity);
+            targets = edgesArena.allocate(edgesCapacity * 4, 8);
+            weights = edgesArena.allocate(edgesCapacity * 8, 8);
+        }
+
+        private void relocate(int v, int newCapacity) {
+            if (tail + newCapacity > edgesCapacity) {
+                Arena oldArena = edgesArena;
+                MemorySegment oldTargets = targets;
+                MemorySegment oldWeights = weights;
+                allocateEdges(Math.max(tail + newCapacity, edgesCapacity * 2));
+                MemorySegment.copy(oldTargets, 0, targets, 0, tail * 4);
+                MemorySegment.copy(oldWeights, 0, weights, 0, tail * 8);
+                oldArena.close();
+            }
+            int count = count(v);
+            long offset = offset(v);
+            MemorySegment.copy(targets, offset * 4, targets, tail * 4, count * 4L);
+            MemorySegment.copy(weights, offset * 8, weights, tail * 8, count * 8L);
+            setOffset(v, tail);
+            setCapacity(v, newCapacity);
+            tail += newCapacity;
+        }
+
+        long reservedBytes() {
+            return rows.byteSize() + edgesCapacity * EDGE_BYTES;
+        }
+
+        @Override
+        public void close() {
+            rowsArena.close();
+            edgesArena.close();
+        }
+    }
+
+    private static final int MIN_CAPACITY = 4;
+
+    private int capacity;
+    private int verticesCount;
+    private Rows out;
+    private Rows in;
+    private boolean closed;
+    private boolean frozen;
+
+    /**
+     * Створює сховище з заданою початковою місткістю
+     * @param capacity початкова місткість
+     */
+
+    public OffHeapGraphStorage(int capacity) {
+        this(capacity, 0);
+    }
+
+    /**
+     * Створює сховище з заданою початковою місткістю
+     * та очікуваною кількістю ребер
+     * @param capacity початкова місткість
+     * @param expectedEdges очікувана кількість ребер
+     */
+
+    public OffHeapGraphStorage(int capacity, long expectedEdges) {
+        this.capacity = capacity;
+        this.verticesCount = 0;
+        this.out = new Rows(capacity, expectedEdges);
+        this.in = new Rows(capacity, expectedEdges);
+    }
+
+    private OffHeapGraphStorage(OffHeapGraphStorage other) {
+        this.capacity = other.verticesCount;
+        this.verticesCount = other.verticesCount;
+        this.out = new Rows(other.out, verticesCount);
+        this.in = new Rows(other.in, verticesCount);
+    }
+
+    /**
+     * Повертає кількість байт пам'яті поза купою, зарезервованих сховищем
+     * @return кількість зарезервованих байт
+     */
+
+    public long reservedBytes() {
+        return out.reservedBytes() + in.reservedBytes();
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public int verticesCount() {
+        return verticesCount;
+    }
+
+    @Override
+    public void addVertex() {
+        checkWritable();
+        if (verticesCount == capacity) {
+            capacity = Math.max(MIN_CAPACITY, capacity * 2);
+            out.resizeVertices(capacity);
+            in.resizeVertices(capacity);
+        }
+        verticesCount++;
+    }
+
+    @Override
+    public void deleteVertex(int index) {
+        checkWritable();
+        for (int e = firstEdge(index); e != NO_EDGE; e = nextEdge(index, e)) {
+            int end = edgeTarget(index, e);
+            if (end != index) in.remove(end, index);
+        }
+        for (int e = firstInEdge(index); e != NO_EDGE; e = nextInEdge(index, e)) {
+            int start = inEdgeSource(index, e);
+            if (start != index) out.remove(start, index);
+        }
+        out.clearRow(index);
+        in.clearRow(index);
+
+        int last = verticesCount - 1;
+        if (index != last) {
+            for (int e = firstEdge(last); e != NO_EDGE; e = nextEdge(last, e)) {
+                int end = edgeTarget(last, e);
+                if (end != last) in.replace(end, last, index);
+            }
+            for (int e = firstInEdge(last); e != NO_EDGE; e = nextInEdge(last, e)) {
+                int start = inEdgeSource(last, e);
+                if (start != last) out.replace(start, last, index);
+            }
+            out.moveRow(last, index);
+            in.moveRow(last, index);
+            out.replace(index, last, index);
+            in.replace(index, last, index);
+        }
+        verticesCount--;
+    }
+
+    @Override
+    public void compact() {
+        if (frozen) return;
+        Rows compactOut = new Rows(out, verticesCount);
+        Rows compactIn = new Rows(in, verticesCount);
+        out.close();
+        in.close();
+        out = compactOut;
+        in = compactIn;
+        capacity = verticesCount;
+    }
+
+    @Override
+    public double getWeight(int start, int end) {
+        return out.get(start, end);
+    }
+
+    @Override
+    public void setWeight(int start, int end, double weight) {
+        checkWritable();
+        if (weight == 0) {
+            out.remove(start, end);
+            in.remove(end, start);
+        } else {
+            out.put(start, end, weight);
+            in.put(end, start, weight);
+        }
+    }
+
+    @Override
+    public int outDegree(int v) {
+        return out.count(v);
+    }
+
+    @Override
+    public int inDegree(int v) {
+        return in.count(v);
+    }
+
+    @Override
+    public int firstEdge(int v) {
+        return out.count(v) > 0 ? 0 : NO_EDGE;
+    }
+
+    @Override
+    public int nextEdge(int v, int edge) {
+        return edge + 1 < out.count(v) ? edge + 1 : NO_EDGE;
+    }
+
+    @Override
+    public int edgeTarget(int v, int edge) {
+        return out.target(out.offset(v) + edge);
+    }
+
+    @Override
+    public double edgeWeight(int v, int edge) {
+        return out.weight(out.offset(v) + edge);
+    }
+
+    @Override
+    public int firstInEdge(int v) {
+        return in.count(v) > 0 ? 0 : NO_EDGE;
+    }
+
+    @Override
+    public int nextInEdge(int v, int edge) {
+        return edge + 1 < in.count(v) ? edge + 1 : NO_EDGE;
+    }
+
+    @Override
+    public int inEdgeSource(int v, int edge) {
+        return in.target(in.offset(v) + edge);
+    }
+
+    @Override
+    public double inEdgeWeight(int v, int edge) {
+        return in.weight(in.offset(v) + edge);
+    }
+
+    @Override
+    public GraphStorage createEmpty() {
+        return new OffHeapGraphStorage(capacity);
+    }
+
+    @Override
+    public GraphStorage copy() {
+        return new OffHeapGraphStorage(this);
+    }
+
+    /**
+     * Створює незмінну стиснуту копію сховища у власних аренах.
+     * Кожен виклик створює нову копію, тому кожен знімок має одного власника,
+     * який звільняє його пам'ять методом {@link #close()}
+     * @return знімок сховища
+     */
+
+    @Override
+    public GraphStorage snapshot() {
+        OffHeapGraphStorage snapshot = new OffHeapGraphStorage(this);
+        snapshot.frozen = true;
+
+        return snapshot;
+    }
+
+    private void checkWritable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Знімок сховища доступний тільки для читання");
+        }
+    }
+
+    /**
+     * Звільняє всю пам'ять сховища поза купою
+     */
+
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        out.close();
+        in.close();
+    }
+}
@@ -0,0 +1,272 @@
+package jgraph;
+
+import java.util.Arrays;
+
+/**
+ * Реалізація орієнтованого графа
+ */
+
+public class OrderedGraph extends Graph {
+
+    /**
+     * Створює орієнтований граф з заданою максимальною кількістю вершин
+     * @param maxVerticesCount максимальна кількість вершин
+     */
+
+    public OrderedGraph(int maxVerticesCount){
+        super(maxVerticesCount);
+    }
+
+    /**
+     * Створює орієнтований граф з заданим списком вершин, матрицею суміжності,
+     * максимальною кількістю вершин, та кількістю вершин
+     * @param vertices список вершин
+     * @param adjMatrix матриця суміжності
+     * @param maxVerticesCount максимальна кількість вершин
+     * @param nVertices кількість вершин
+     */
+
+    public OrderedGraph(Vertex[] vertices, double[][] adjMatrix, int maxVerticesCount, int nVertices){
+        super(vertices, adjMatrix, maxVerticesCount, nVertices);
+    }
+
+    /**
+     * Створює орієнтований граф, ребра якого зберігаються в заданому порожньому сховищі
+     * @param storage сховище ребер
+     * @throws IllegalArgumentException якщо сховище вже містить вершини
+     */
+
+    public OrderedGraph(GraphStorage storage){
+        super(storage);
+    }
+
+    /**
+     * Створює орієнтований граф з заданим списком вершин,
+     * заповненим сховищем ребер та кількістю вершин
+     * @param vertices список вершин
+     * @param storage сховище ребер, яке використовується без копіювання
+     * @param nVertices кількість вершин
+     */
+
+    protected OrderedGraph(Vertex[] vertices, GraphStorage storage, int nVertices){
+        super(vertices, storage, nVertices);
+    }
+
+    /**
+     * Створює незмінний знімок заданого орієнтованого графа
+     * @param source граф, знімок якого створюється
+     */
+
+    protected OrderedGraph(OrderedGraph source){
+        super(source);
+    }
+
+    @Override
+    public OrderedGraph snapshot() {
+        return new OrderedGraph(this);
+    }
+
+    @Override
+    protected void addEdgeToList(AdjacencyList list, int start, int end) {
+        list.add(start, end);
+    }
+
+    @Override
+    protected void deleteEdgeFromList(AdjacencyList list, int start, int end) {
+        list.remove(start, end);
+    }
+
+    @Override
+    public void addEdge(int start, int end, double weight) {
+        setEdgeWeight(start, end, weight);
+        modified();
+    }
+
+    /**
+     * Перевіряє чи граф містить ейлерів шлях: за один прохід по степенях вершин
+     * перевіряється, що не більше однієї вершини має на одне вихідне ребро більше,
+     * ніж вхідних, не більше однієї - навпаки, а решта вершин збалансовані.
+     * Після цього перевіряється зв'язність графа
+     */
+
+    @Override
+    public boolean isSemiEulerian() {
+        int starts = 0;
+        int ends = 0;
+        for (int i = 0; i < verticesCount; i++) {
+            int balance = storage.outDegree(i) - storage.inDegree(i);
+            if (balance == 0) continue;
+            if (balance == 1 && ++starts == 1) continue;
+            if (balance == -1 && ++ends == 1) continue;
+            return false;
+        }
+        if (starts != ends) return false;
+
+        return starts == 0 ? isStronglyConnected() : isWeaklyConnected();
+    }
+
+    /**
+     * Перевіряє чи граф містить ейлерів цикл: за один прохід перевіряється,
+     * що в кожної вершини кількість вхідних і вихідних ребер однакова,
+     * а потім - що граф сильно зв'язний
+     */
+
+    @Override
+    public boolean isEulerian() {
+        for (int i = 0; i < verticesCount; i++) {
+            if (storage.inDegree(i) != storage.outDegree(i)) return false;
+        }
+
+        return isStronglyConnected();
+    }
+
+    /**
+     * Знаходить вхідну степінь вершини за O(1)
+     * @param v номер вершини
+     * @return вхідну степінь вершини {@param v}
+     */
+
+    public int indeg(int v){
+        return storage.inDegree(v);
+    }
+
+    /**
+     * Знаходить вихідну степінь вершини за O(1)
+     * @param v номер вершини
+     * @return вихідну степінь вершини {@param v}
+     */
+
+    public int outdeg(int v){
+        return storage.outDegree(v);
+    }
+
+    /**
+     * Повертає список вершин графа у відсортованому порядку
+     * @return список вершин графа у відсортованому порядку
+     * @throws IllegalStateException якщо граф містить цикли
+     */
+
+    public Vertex[] topologicalSort(){
+        int[] order = topologicalOrder();
+        Vertex[] sortedVertices = new Vertex[verticesCount];
+        for (int i = 0; i < order.length; i++) {
+            sortedVertices[i] = vertices[order[i]];
+        }
+
+        return sortedVertices;
+    }
+
+    /**
+     * Знаходить топологічний порядок вершин алгоритмом Кана за O(V + E).
+     * Кожне ребро веде від вершини, що йде раніше, до вершини, що йде пізніше
+     * @return номери вершин у топологічному порядку
+     * @throws IllegalStateException якщо граф містить цикли
+     */
+
+    public int[] topologicalOrder(){
+        int[] order = new int[verticesCount];
+        kahn(order, null);
+
+        return order;
+    }
+
+    /**
+     * Розбиває вершини графа на топологічні шари.
+     * Шар з номером k складається з вершин, найдовший шлях до яких
+     * з вершин без вхідних ребер має k ребер. Вершини одного шару
+     * не з'єднані шляхами між собою, тому можуть оброблятися паралельно
+     * @return масив шарів, кожен з яких містить номери своїх вершин
+     * @throws IllegalStateException якщо граф містить цикли
+     */
+
+    public int[][] topologicalLayers(){
+        int[] order = new int[verticesCount];
+        int[] layerStarts = new int[verticesCount + 1];
+        int layersCount = kahn(order, layerStarts);
+        int[][] layers = new int[layersCount][];
+        for (int i = 0; i < layersCount; i++) {
+            layers[i] = Arrays.copyOfRange(order, layerStarts[i], layerStarts[i + 1]);
+        }
+
+        return layers;
+    }
+
+    /**
+     * Виконує алгоритм Кана хвилями: кожна хвиля знімає вершини,
+     * у яких не залишилося вхідних ребер
+     * @param order масив, у який записується топологічний порядок
+     * @param layerStarts масив, у який записуються початки шарів, або {@code null}
+     * @return кількість шарів
+     */
+
+    private int kahn(int[] order, int[] layerStarts){
+        int n = verticesCount;
+        int[] inDegrees = new int[n];
+        int tail = 0;
+        for (int v = 0; v < n; v++) {
+            inDegrees[v] = storage.inDegree(v);
+            if (inDegrees[v] == 0) order[tail++] = v;
+        }
+
+        int head = 0;
+        int layersCount = 0;
+        while (head < tail) {
+            if (layerStarts != null) layerStarts[layersCount] = head;
+            layersCount++;
+            int layerEnd = tail;
+            for (; head < layerEnd; head++) {
+                int u = order[head];
+                for (int e = storage.firstEdge(u); e != GraphStorage.NO_EDGE; e = storage.nextEdge(u, e)) {
+                    int v = storage.edgeTarget(u, e);
+                    if (--inDegrees[v] == 0) order[tail++] = v;
+                }
+            }
+        }
+        if (tail < n) {
+            throw new IllegalStateException("Граф має цикли");
+        }
+        if (layerStarts != null) layerStarts[layersCount] = tail;
+
+        return layersCount;
+    }
+
+    /**
+     * Перевіряє чи граф є слабо зв'язним
+     * @return {@code true} якщо граф слабо зв'язний,
+     * {@code false} - інакше
+     */
+
+    public boolean isWeaklyConnected(){
+        return weaklyConnectedComponents().getCount() <= 1;
+    }
+
+    /**
+     * Перевіряє чи граф є сильно зв'язним
+     * @return {@code true} якщо граф сильно зв'язний,
+     * {@code false} - інакше
+     */
+
+    public boolean isStronglyConnected(){
+        return stronglyConnectedComponents().getCount() <= 1;
+    }
+
+    /**
+     * Знаходить компоненти слабкої зв'язності графа
+     * @return розбиття вершин графа на компоненти слабкої зв'язності
+     */
+
+    public Components weaklyConnectedComponents(){
+        return cached("weakComponents", 0, () -> Components.weaklyConnected(storage, verticesCount),
+                components -> 8L * verticesCount);
+    }
+
+    /**
+     * Знаходить компоненти сильної зв'язності графа
+     * @return розбиття вершин графа на компоненти сильної зв'язності
+     */
+
+    public Components stronglyConnectedComponents(){
+        return cached("strongComponents", 0, () -> Components.stronglyConnected(storage, verticesCount),
+                components -> 8L * verticesCount);
+    }
+}
@@ -0,0 +1,243 @@
+package jgraph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Паралельний пошук в ширину з перемиканням напрямку (за Бімером).
+ * Обхід виконується по рівнях, а розкриття кожного рівня ділиться між потоками
+ * {@link ForkJoinPool}. Поки фронт малий, виконується крок "згори донизу":
+ * з вершин фронту перебираються вихідні ребра. Коли ребер фронту стає більше
+ * за частку ребер ще не відвіданих вершин, виконується крок "знизу догори":
+ * кожна не відвідана вершина шукає серед вхідних ребер вершину фронту
+ * і зупиняється на першій знайденій. Відвідані вершини та фронти зберігаються
+ * у бітових множинах, позначення вершини виконується атомарно.
+ * Для {@link BitMatrixGraphStorage} крок "згори донизу" розкриває вершину фронту
+ * по словах: нові вершини дорівнюють {@code рядок & ~відвідані} і позначаються
+ * одним атомарним OR на слово
+ */
+
+public final class ParallelBfs {
+
+    private static final int ALPHA = 14;
+    private static final int BETA = 24;
+    private static final int WORDS_PER_TASK = 64;
+
+    private final GraphStorage storage;
+    private final BitMatrixGraphStorage matrix;
+    private final int n;
+    private final int words;
+    private final int[] distances;
+    private final int[] parents;
+    private final AtomicLongArray visited;
+    private final AtomicLongArray next;
+    private final long[] frontier;
+    private final LongAdder nextVertices = new LongAdder();
+    private final LongAdder nextEdges = new LongAdder();
+    private int level;
+
+    private ParallelBfs(GraphStorage storage, int n) {
+        this.storage = storage;
+        this.matrix = storage instanceof BitMatrixGraphStorage ? (BitMatrixGraphStorage) storage : null;
+        this.n = n;
+        this.words = (n + 63) >>> 6;
+        this.distances = new int[n];
+        this.parents = new int[n];
+        this.visited = new AtomicLongArray(words);
+        this.next = new AtomicLongArray(words);
+        this.frontier = new long[words];
+        Arrays.fill(distances, BfsResult.UNREACHABLE);
+        Arrays.fill(parents, BfsResult.UNREACHABLE);
+    }
+
+    /**
+     * Виконує паралельний пошук в ширину
+     * @param storage сховище ребер графа
+     * @param n кількість вершин графа
+     * @param source номер початкової вершини
+     * @param pool пул потоків
+     * @return відстані в ребрах та батьківські вершини
+     */
+
+    public static BfsResult run(GraphStorage storage, int n, int source, ForkJoinPool pool) {
+        ParallelBfs bfs = new ParallelBfs(storage, n);
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                bfs.search(source);
+            }
+        });
+
+        return new BfsResult(source, bfs.distances, bfs.parents);
+    }
+
+    private void search(int source) {
+        long unexploredEdges = 0;
+        for (int v = 0; v < n; v++) {
+            unexploredEdges += storage.outDegree(v);
+        }
+        distances[source] = 0;
+        visited.set(source >>> 6, 1L << source);
+        frontier[source >>> 6] = 1L << source;
+        long frontierVertices = 1;
+        long frontierEdges = storage.outDegree(source);
+        unexploredEdges -= frontierEdges;
+        boolean bottomUp = false;
+
+        while (frontierVertices > 0) {
+            if (!bottomUp && frontierEdges > unexploredEdges / ALPHA) {
+                bottomUp = true;
+            } else if (bottomUp && frontierVertices < n / BETA) {
+                bottomUp = false;
+            }
+
+            nextVertices.reset();
+            nextEdges.reset();
+            if (bottomUp) {
+                new BottomUpStep(0, words).invoke();
+            } else {
+                new TopDownStep(0, words).invoke();
+            }
+            level++;
+
+            for (int w = 0; w < words; w++) {
+                frontier[w] = next.get(w);
+                next.set(w, 0);
+            }
+            frontierVertices = nextVertices.sum();
+            frontierEdges = nextEdges.sum();
+            unexploredEdges -= frontierEdges;
+        }
+    }
+
+    private boolean tryVisit(int v) {
+        int w = v >>> 6;
+        long bit = 1L << v;
+        long old = visited.get(w);
+        while ((old & bit) == 0) {
+            long witness = visited.compareAndExchange(w, old, old | bit);
+            if (witness == old) return true;
+            old = witness;
+        }
+
+        return false;
+    }
+
+    private void addToNext(int v, int parent, long[] counters) {
+        distances[v] = level + 1;
+        parents[v] = parent;
+        next.getAndAccumulate(v >>> 6, 1L << v, (a, b) -> a | b);
+        counters[0]++;
+        counters[1] += storage.outDegree(v);
+    }
+
+    private abstract class Step extends RecursiveAction {
+        final int from;
+        final int to;
+
+        Step(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > WORDS_PER_TASK) {
+                int mid = (from + to) >>> 1;
+                invokeAll(split(from, mid), split(mid, to));
+                return;
+            }
+            long[] counters = new long[2];
+            for (int w = from; w < to; w++) {
+                processWord(w, counters);
+            }
+            nextVertices.add(counters[0]);
+            nextEdges.add(counters[1]);
+        }
+
+        abstract Step split(int from, int to);
+
+        abstract void processWord(int w, long[] counters);
+    }
+
+    private final class TopDownStep extends Step {
+        TopDownStep(int from, int to) {
+            super(from, to);
+        }
+
+        @Override
+        Step split(int from, int to) {
+            return new TopDownStep(from, to);
+        }
+
+        @Override
+        void processWord(int w, long[] counters) {
+            for (long bits = frontier[w]; bits != 0; bits &= bits - 1) {
+                int u = (w << 6) + Long.numberOfTrailingZeros(bits);
+                if (matrix != null) {
+                    expandWords(u, counters);
+                    continue;
+                }
+                for (int e = storage.firstEdge(u); e != GraphStorage.NO_EDGE; e = storage.nextEdge(u, e)) {
+                    int v = storage.edgeTarget(u, e);
+                    if (tryVisit(v)) {
+                        addToNext(v, u, counters);
+                    }
+                }
+            }
+        }
+    }
+
+    private void expandWords(int u, long[] counters) {
+        long[] row = matrix.row(u);
+        for (int w = 0; w < words; w++) {
+            long candidates = row[w] & ~visited.get(w);
+            if (candidates == 0) continue;
+            long claimed = candidates & ~visited.getAndAccumulate(w, candidates, (a, b) -> a | b);
+            if (claimed == 0) continue;
+            next.getAndAccumulate(w, claimed, (a, b) -> a | b);
+            for (; claimed != 0; claimed &= claimed - 1) {
+                int v = (w << 6) + Long.numberOfTrailingZeros(claimed);
+                distances[v] = level + 1;
+                parents[v] = u;
+                counters[0]++;
+                counters[1] += storage.outDegree(v);
+            }
+        }
+    }
+
+    private final class BottomUpStep extends Step {
+        BottomUpStep(int from, int to) {
+            super(from, to);
+        }
+
+        @Override
+        Step split(int from, int to) {
+            return new BottomUpStep(from, to);
+        }
+
+        @Override
+        void processWord(int w, long[] counters) {
+            int base = w << 6;
+            long unvisited = ~visited.get(w);
+            if (base + 64 > n) {
+                unvisited &= (1L << (n - base)) - 1;
+            }
+            for (; unvisited != 0; unvisited &= unvisited - 1) {
+                int v = base + Long.numberOfTrailingZeros(unvisited);
+                for (int e = storage.firstInEdge(v); e != GraphStorage.NO_EDGE; e = storage.nextInEdge(v, e)) {
+                    int u = storage.inEdgeSource(v, e);
+                    if ((frontier[u >>> 6] & (1L << u)) != 0) {
+                        if (tryVisit(v)) {
+                            addToNext(v, u, counters);
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+    }
+}
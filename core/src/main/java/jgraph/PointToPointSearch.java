@@ -0,0 +1,154 @@
+package jgraph;
+
+/**
+ * Пошук найкоротшого шляху між двома вершинами.
+ * Двонапрямлений алгоритм Дейкстри одночасно шукає від початкової вершини
+ * по вихідних ребрах і від кінцевої по вхідних, завжди розширюючи пошук
+ * з меншим поточним ключем, і зупиняється, коли сума ключів обох куп
+ * не менша за найкоротший знайдений шлях. Алгоритм A* упорядковує вершини
+ * за сумою відстані від початку та допустимої оцінки відстані до кінця,
+ * а вершина з покращеною відстанню повертається в купу, тому оцінка
+ * не зобов'язана бути монотонною. Обидва алгоритми потребують невід'ємних ваг.
+ * Масиви пошуку беруться з {@link SearchSpace}, тому запит, що опрацьовує
+ * небагато вершин, не витрачає час на ініціалізацію масивів розміром з граф
+ */
+
+public final class PointToPointSearch {
+
+    private static final double INFINITY = Double.POSITIVE_INFINITY;
+
+    private PointToPointSearch() {
+    }
+
+    /**
+     * Знаходить найкоротший шлях двонапрямленим алгоритмом Дейкстри
+     * @param storage сховище ребер графа з невід'ємними вагами
+     * @param n кількість вершин графа
+     * @param source номер початкової вершини
+     * @param target номер кінцевої вершини
+     * @return номери вершин шляху, або порожній масив якщо шляху немає
+     */
+
+    public static int[] bidirectionalDijkstra(GraphStorage storage, int n, int source, int target) {
+        return bidirectionalDijkstra(storage, n, source, target, null);
+    }
+
+    /**
+     * Знаходить найкоротший шлях алгоритмом A*
+     * @param storage сховище ребер графа з невід'ємними вагами
+     * @param n кількість вершин графа
+     * @param source номер початкової вершини
+     * @param target номер кінцевої вершини
+     * @param heuristic допустима оцінка відстані до кінцевої вершини
+     * @return номери вершин шляху, або порожній масив якщо шляху немає
+     */
+
+    public static int[] aStar(GraphStorage storage, int n, int source, int target, DistanceHeuristic heuristic) {
+        return aStar(storage, n, source, target, heuristic, null);
+    }
+
+    static int[] bidirectionalDijkstra(GraphStorage storage, int n, int source, int target, AlgorithmProbe probe) {
+        if (source == target) return new int[]{source};
+        try (SearchSpace forward = SearchSpace.acquire(n);
+             SearchSpace backward = SearchSpace.acquire(n)) {
+            long settled = 0;
+            long relaxed = 0;
+            long heapOps = 2;
+            forward.reach(source, 0, source);
+            backward.reach(target, 0, target);
+            double best = INFINITY;
+            int meetFrom = -1;
+            int meetTo = -1;
+            while (!forward.heap().isEmpty() && !backward.heap().isEmpty()) {
+                double forwardKey = forward.heap().getKey(forward.heap().peek());
+                double backwardKey = backward.heap().getKey(backward.heap().peek());
+                if (forwardKey + backwardKey >= best) break;
+                settled++;
+                heapOps++;
+                if (forwardKey <= backwardKey) {
+                    int u = forward.heap().poll();
+                    double du = forward.distance(u);
+                    for (int e = storage.firstEdge(u); e != GraphStorage.NO_EDGE; e = storage.nextEdge(u, e)) {
+                        int v = storage.edgeTarget(u, e);
+                        double w = storage.edgeWeight(u, e);
+                        relaxed++;
+                        if (forward.relax(v, du + w, u)) heapOps++;
+                        double through = du + w + backward.distance(v);
+                        if (through < best) {
+                            best = through;
+                            meetFrom = u;
+                            meetTo = v;
+                        }
+                    }
+                } else {
+                    int u = backward.heap().poll();
+                    double du = backward.distance(u);
+                    for (int e = storage.firstInEdge(u); e != GraphStorage.NO_EDGE; e = storage.nextInEdge(u, e)) {
+                        int v = storage.inEdgeSource(u, e);
+                        double w = storage.inEdgeWeight(u, e);
+                        relaxed++;
+                        if (backward.relax(v, du + w, u)) heapOps++;
+                        double through = forward.distance(v) + w + du;
+                        if (through < best) {
+                            best = through;
+                            meetFrom = v;
+                            meetTo = u;
+                        }
+                    }
+                }
+            }
+            if (probe != null) probe.add(settled, relaxed, heapOps, 0, 0);
+            if (meetFrom == -1) return new int[0];
+
+            int head = forward.pathLength(meetFrom);
+            int tail = backward.pathLength(meetTo);
+            int[] path = new int[head + tail];
+            for (int v = meetFrom, i = head - 1; i >= 0; v = forward.previous(v), i--) {
+                path[i] = v;
+            }
+            for (int v = meetTo, i = head; i < path.length; v = backward.previous(v), i++) {
+                path[i] = v;
+            }
+
+            return path;
+        }
+    }
+
+    static int[] aStar(GraphStorage storage, int n, int source, int target, DistanceHeuristic heuristic,
+                       AlgorithmProbe probe) {
+        try (SearchSpace side = SearchSpace.acquire(n)) {
+            long settled = 0;
+            long relaxed = 0;
+            long heapOps = 1;
+            side.record(source, 0, source);
+            side.heap().insertOrDecrease(source, heuristic.estimate(source, target));
+            boolean found = false;
+            while (!side.heap().isEmpty()) {
+                int u = side.heap().poll();
+                settled++;
+                heapOps++;
+                if (u == target) {
+                    found = true;
+                    break;
+                }
+                double du = side.distance(u);
+                for (int e = storage.firstEdge(u); e != GraphStorage.NO_EDGE; e = storage.nextEdge(u, e)) {
+                    int v = storage.edgeTarget(u, e);
+                    double alt = du + storage.edgeWeight(u, e);
+                    relaxed++;
+                    if (alt < side.distance(v)) {
+                        double h = heuristic.estimate(v, target);
+                        if (h == INFINITY) continue;
+                        side.record(v, alt, u);
+                        side.heap().insertOrDecrease(v, alt + h);
+                        heapOps++;
+                    }
+                }
+            }
+            if (probe != null) probe.add(settled, relaxed, heapOps, 0, 0);
+            if (!found) return new int[0];
+
+            return side.path(target);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package jgraph;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * Робочі масиви одного пошуку шляхів: відстані, попередні вершини, купа та черга.
+ * Відстань вершини дійсна, лише якщо її мітка дорівнює поточному поколінню,
+ * тому очищення перед новим пошуком займає O(1), а не O(V).
+ * Масиви повторно використовуються через пул, окремий для кожного потоку.
+ * Простір слід повертати в пул методом {@link #close()}
+ */
+
+final class SearchSpace implements AutoCloseable {
+
+    private static final double INFINITY = Double.POSITIVE_INFINITY;
+    private static final ThreadLocal<ArrayDeque<SearchSpace>> POOL = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final int[] stamps;
+    private final double[] distances;
+    private final int[] previous;
+    private final IndexedDaryHeap heap;
+    private int[] queue;
+    private int generation;
+
+    private SearchSpace(int capacity) {
+        stamps = new int[capacity];
+        distances = new double[capacity];
+        previous = new int[capacity];
+        heap = new IndexedDaryHeap(capacity);
+        generation = 1;
+    }
+
+    /**
+     * Отримує з пулу поточного потоку порожній простір пошуку
+     * @param capacity кількість вершин графа
+     * @return порожній простір пошуку
+     */
+
+    static SearchSpace acquire(int capacity) {
+        SearchSpace space = POOL.get().poll();
+        if (space == null || space.stamps.length < capacity) {
+            return new SearchSpace(capacity);
+        }
+        space.heap.clear();
+        if (++space.generation == 0) {
+            Arrays.fill(space.stamps, 0);
+            space.generation = 1;
+        }
+
+        return space;
+    }
+
+    /**
+     * Повертає простір у пул поточного потоку
+     */
+
+    @Override
+    public void close() {
+        POOL.get().push(this);
+    }
+
+    IndexedDaryHeap heap() {
+        return heap;
+    }
+
+    /**
+     * Повертає чергу для обходу в ширину розміром з граф
+     */
+
+    int[] queue() {
+        if (queue == null) queue = new int[stamps.length];
+        return queue;
+    }
+
+    boolean isReached(int v) {
+        return stamps[v] == generation;
+    }
+
+    double distance(int v) {
+        return stamps[v] == generation ? distances[v] : INFINITY;
+    }
+
+    int previous(int v) {
+        return previous[v];
+    }
+
+    /**
+     * Записує відстань до вершини та попередню вершину.
+     * Початкова вершина пошуку записується з попередньою вершиною, що дорівнює їй самій
+     */
+
+    void record(int v, double distance, int from) {
+        stamps[v] = generation;
+        distances[v] = distance;
+        previous[v] = from;
+    }
+
+    void reach(int v, double distance, int from) {
+        record(v, distance, from);
+        heap.insertOrDecrease(v, distance);
+    }
+
+    /**
+     * Релаксує вершину новою відстанню
+     * @return {@code true} якщо відстань зменшилась і вершину додано в купу
+     */
+
+    boolean relax(int v, double distance, int from) {
+        if (distance >= distance(v)) return false;
+        reach(v, distance, from);
+        return true;
+    }
+
+    /**
+     * Повертає кількість вершин на шляху від початкової вершини до заданої
+     */
+
+    int pathLength(int v) {
+        int length = 1;
+        for (; previous[v] != v; v = previous[v]) {
+            length++;
+        }
+
+        return length;
+    }
+
+    /**
+     * Відновлює шлях від початкової вершини до заданої
+     * @param v номер досягнутої вершини
+     * @return номери вершин шляху
+     */
+
+    int[] path(int v) {
+        int[] path = new int[pathLength(v)];
+        for (int i = path.length - 1; i >= 0; v = previous[v], i--) {
+            path[i] = v;
+        }
+
+        return path;
+    }
+}
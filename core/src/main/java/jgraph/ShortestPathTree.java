@@ -0,0 +1,92 @@
+package jgraph;
+
+import java.util.LinkedList;
+
+/**
+ * Дерево найкоротших шляхів з однієї початкової вершини.
+ * Для кожної вершини зберігає довжину найкоротшого шляху
+ * та попередню вершину на цьому шляху
+ */
+
+public class ShortestPathTree {
+
+    /**
+     * Позначка відсутності попередньої вершини
+     */
+
+    public static final int NO_VERTEX = -1;
+
+    private final int source;
+    private final double[] distances;
+    private final int[] previous;
+
+    /**
+     * Створює дерево найкоротших шляхів
+     * @param source номер початкової вершини
+     * @param distances довжини найкоротших шляхів до кожної вершини
+     * @param previous попередні вершини на найкоротших шляхах
+     */
+
+    public ShortestPathTree(int source, double[] distances, int[] previous) {
+        this.source = source;
+        this.distances = distances;
+        this.previous = previous;
+    }
+
+    /**
+     * Повертає номер початкової вершини
+     * @return номер початкової вершини
+     */
+
+    public int getSource() {
+        return source;
+    }
+
+    /**
+     * Повертає довжину найкоротшого шляху до вершини
+     * @param v номер вершини
+     * @return довжина шляху, або {@link Double#POSITIVE_INFINITY}
+     * якщо вершина недосяжна чи не була оброблена
+     */
+
+    public double getDistance(int v) {
+        return distances[v];
+    }
+
+    /**
+     * Повертає попередню вершину на найкоротшому шляху
+     * @param v номер вершини
+     * @return номер попередньої вершини, або {@link #NO_VERTEX}
+     */
+
+    public int getPrevious(int v) {
+        return previous[v];
+    }
+
+    /**
+     * Перевіряє чи знайдено шлях до вершини
+     * @param v номер вершини
+     * @return {@code true} якщо шлях знайдено, {@code false} - інакше
+     */
+
+    public boolean hasPathTo(int v) {
+        return v == source || previous[v] != NO_VERTEX;
+    }
+
+    /**
+     * Повертає найкоротший шлях до вершини
+     * @param target номер кінцевої вершини
+     * @return список всіх вершин шляху, або порожній список якщо шляху не знайдено
+     */
+
+    public LinkedList<Integer> getPath(int target) {
+        LinkedList<Integer> result = new LinkedList<>();
+        if (!hasPathTo(target)) return result;
+        for (int v = target; v != source; v = previous[v]) {
+            result.push(v);
+        }
+        result.push(source);
+
+        return result;
+    }
+}
@@ -0,0 +1,81 @@
+package jgraph;
+
+/**
+ * Остовне дерево (або ліс, якщо граф не зв'язний) у вигляді компактного списку ребер
+ */
+
+public class SpanningTree {
+
+    private final int[] starts;
+    private final int[] ends;
+    private final double[] weights;
+    private final int edgesCount;
+
+    /**
+     * Створює остовне дерево з заданих ребер
+     * @param starts перші вершини ребер
+     * @param ends другі вершини ребер
+     * @param weights ваги ребер
+     * @param edgesCount кількість ребер
+     */
+
+    public SpanningTree(int[] starts, int[] ends, double[] weights, int edgesCount) {
+        this.starts = starts;
+        this.ends = ends;
+        this.weights = weights;
+        this.edgesCount = edgesCount;
+    }
+
+    /**
+     * Повертає кількість ребер дерева
+     * @return кількість ребер
+     */
+
+    public int getEdgesCount() {
+        return edgesCount;
+    }
+
+    /**
+     * Повертає першу вершину ребра
+     * @param i номер ребра
+     * @return номер вершини
+     */
+
+    public int getStart(int i) {
+        return starts[i];
+    }
+
+    /**
+     * Повертає другу вершину ребра
+     * @param i номер ребра
+     * @return номер вершини
+     */
+
+    public int getEnd(int i) {
+        return ends[i];
+    }
+
+    /**
+     * Повертає вагу ребра
+     * @param i номер ребра
+     * @return вага ребра
+     */
+
+    public double getWeight(int i) {
+        return weights[i];
+    }
+
+    /**
+     * Повертає суму ваг всіх ребер дерева
+     * @return сума ваг
+     */
+
+    public double getTotalWeight() {
+        double sum = 0;
+        for (int i = 0; i < edgesCount; i++) {
+            sum += weights[i];
+        }
+
+        return sum;
+    }
+}
@@ -0,0 +1,96 @@
+package jgraph;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * Множина відвіданих вершин для одного обходу графа.
+ * Вершина вважається відвіданою, якщо її мітка дорівнює поколінню множини,
+ * тому очищення множини перед новим обходом займає O(1).
+ * Множини повторно використовуються через пул, окремий для кожного потоку,
+ * тому обходи одного графа з різних потоків не впливають один на одного.
+ * Множину слід повертати в пул методом {@link #close()}
+ */
+
+public final class VisitedSet implements AutoCloseable {
+
+    private static final ThreadLocal<ArrayDeque<VisitedSet>> POOL = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private int[] stamps;
+    private int generation;
+
+    private VisitedSet(int capacity) {
+        this.stamps = new int[capacity];
+        this.generation = 0;
+    }
+
+    /**
+     * Отримує з пулу поточного потоку порожню множину
+     * @param capacity кількість вершин графа
+     * @return порожня множина відвіданих вершин
+     */
+
+    public static VisitedSet acquire(int capacity) {
+        VisitedSet set = POOL.get().poll();
+        if (set == null) {
+            set = new VisitedSet(capacity);
+        } else if (set.stamps.length < capacity) {
+            set.stamps = new int[capacity];
+            set.generation = 0;
+        }
+        set.clear();
+
+        return set;
+    }
+
+    /**
+     * Позначає всі вершини як не відвідані
+     */
+
+    public void clear() {
+        if (++generation == 0) {
+            Arrays.fill(stamps, 0);
+            generation = 1;
+        }
+    }
+
+    /**
+     * Перевіряє чи вершина відвідана
+     * @param v номер вершини
+     * @return {@code true} якщо вершина відвідана, {@code false} - інакше
+     */
+
+    public boolean isVisited(int v) {
+        return stamps[v] == generation;
+    }
+
+    /**
+     * Позначає вершину як відвідану
+     * @param v номер вершини
+     */
+
+    public void visit(int v) {
+        stamps[v] = generation;
+    }
+
+    /**
+     * Позначає вершину як відвідану, якщо вона ще не була відвіданою
+     * @param v номер вершини
+     * @return {@code true} якщо вершину щойно відвідано, {@code false} - якщо вона вже була відвіданою
+     */
+
+    public boolean tryVisit(int v) {
+        if (stamps[v] == generation) return false;
+        stamps[v] = generation;
+        return true;
+    }
+
+    /**
+     * Повертає множину в пул поточного потоку
+     */
+
+    @Override
+    public void close() {
+        POOL.get().push(this);
+    }
+}
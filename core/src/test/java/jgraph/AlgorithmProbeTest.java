@@ -0,0 +1,67 @@
+package jgraph;
+
+import jdk.jfr.EventType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static jgraph.GraphFixtures.quadraticDijkstra;
+import static jgraph.GraphFixtures.randomGraph;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Перевірка показників алгоритмів: слухач отримує по одному набору показників
+ * на кожен виклик, а без слухача і з вимкненою подією проба не створюється
+ */
+
+class AlgorithmProbeTest {
+
+    @Test
+    void listenerReceivesMetrics() {
+        int n = 60;
+        Graph graph = randomGraph(new SplittableRandom(71), true, n, 200, 20);
+        graph.getCache().setBudget(0);
+        List<AlgorithmMetrics> received = new ArrayList<>();
+        graph.setAlgorithmListener(received::add);
+
+        graph.dijkstra(0);
+        assertEquals(1, received.size(), "слухач отримує показники один раз");
+        AlgorithmMetrics dijkstra = received.get(0);
+        int reachable = 0;
+        for (double d : quadraticDijkstra(graph.getStorage(), n, 0)) {
+            if (d != Double.POSITIVE_INFINITY) reachable++;
+        }
+        assertEquals("dijkstra", dijkstra.getAlgorithm());
+        assertEquals(n, dijkstra.getVerticesCount());
+        assertEquals(reachable, dijkstra.getVerticesSettled(), "кількість вершин зі встановленою відстанню");
+        assertTrue(dijkstra.getEdgesRelaxed() > 0, "кількість релаксованих ребер");
+        assertTrue(dijkstra.getHeapOperations() > dijkstra.getVerticesSettled(), "кількість операцій з купою");
+        assertTrue(dijkstra.getWallTimeNanos() >= 0, "час виконання");
+
+        graph.floydWarshall(false);
+        assertEquals(2, received.size(), "слухач отримує показники один раз");
+        AlgorithmMetrics floydWarshall = received.get(1);
+        assertEquals("floydWarshall", floydWarshall.getAlgorithm());
+        assertEquals(n, floydWarshall.getVerticesCount());
+        assertEquals(n, floydWarshall.getVerticesSettled());
+        assertEquals((long) n * n * n, floydWarshall.getEdgesRelaxed());
+
+        graph.setAlgorithmListener(null);
+        graph.dijkstra(0);
+        graph.floydWarshall(false);
+        assertEquals(2, received.size(), "знятий слухач не отримує показники");
+    }
+
+    @Test
+    void probeIsNotCreatedWithoutListenerAndEvent() {
+        assertFalse(EventType.getEventType(AlgorithmEvent.class).isEnabled(), "подія вимкнена без запису");
+        assertNull(AlgorithmProbe.start("dijkstra", 10, null), "проба без слухача і події");
+        assertNotNull(AlgorithmProbe.start("dijkstra", 10, metrics -> { }), "проба зі слухачем");
+    }
+}
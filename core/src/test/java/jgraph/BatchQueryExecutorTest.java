@@ -0,0 +1,103 @@
+package jgraph;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static jgraph.GraphFixtures.quadraticDijkstra;
+import static jgraph.GraphFixtures.queueBfs;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Перехресна перевірка пакетів запитів з окремими запитами, виконаними простим
+ * алгоритмом Дейкстри та обходом у ширину, зокрема після змін графа,
+ * які не повинні впливати на вже створеного виконавця
+ */
+
+class BatchQueryExecutorTest {
+
+    private static final double EPSILON = 1e-9;
+    private static final int QUERIES = 2000;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void batchesMatchSingleQueries(boolean directed) {
+        SplittableRandom random = new SplittableRandom(directed ? 101 : 102);
+        int n = 120;
+        Graph graph = directed ? new OrderedGraph(n) : new NonOrderedGraph(n);
+        for (int v = 0; v < n; v++) {
+            graph.addVertex((char) v);
+        }
+        for (int e = 0; e < 250; e++) {
+            graph.addEdge(random.nextInt(n), random.nextInt(n), 1 + random.nextInt(20));
+        }
+        DenseGraphStorage frozen = StorageAssertions.copyToDense(graph.getStorage());
+        int[] sources = new int[QUERIES];
+        int[] targets = new int[QUERIES];
+        for (int q = 0; q < QUERIES; q++) {
+            sources[q] = random.nextInt(n / 4);
+            targets[q] = q % 17 == 0 ? sources[q] : random.nextInt(n);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try (BatchQueryExecutor executor = graph.batchQueries(pool)) {
+            for (int e = 0; e < 200; e++) {
+                graph.addEdge(random.nextInt(n), random.nextInt(n), 1);
+            }
+            assertEquals(n, executor.getVerticesCount());
+            double[] distances = executor.distances(sources, targets);
+            int[][] paths = executor.paths(sources, targets);
+            int[] hops = executor.hops(sources, targets);
+            boolean[] reachable = executor.reachable(sources, targets);
+            ShortestPathTree[] trees = executor.shortestPathTrees(sources);
+            double[][] expectedDistances = new double[n][];
+            int[][] expectedHops = new int[n][];
+            for (int q = 0; q < QUERIES; q++) {
+                int s = sources[q];
+                int t = targets[q];
+                if (expectedDistances[s] == null) {
+                    expectedDistances[s] = quadraticDijkstra(frozen, n, s);
+                    expectedHops[s] = queueBfs(frozen, n, s, null);
+                }
+                double expected = expectedDistances[s][t];
+                String query = "запит " + s + " -> " + t;
+                assertEquals(expected, distances[q], EPSILON, query);
+                assertEquals(expectedHops[s][t], hops[q], query);
+                assertEquals(expected != Double.POSITIVE_INFINITY, reachable[q], query);
+                assertPathLength(frozen, s, t, expected, paths[q]);
+                double treeDistance = trees[q].hasPathTo(t) ? trees[q].getDistance(t) : Double.POSITIVE_INFINITY;
+                assertEquals(expected, treeDistance, EPSILON, query);
+                for (int p = 0; p < q; p++) {
+                    if (sources[p] == s) {
+                        assertSame(trees[p], trees[q], "дерево вершини " + s);
+                        break;
+                    }
+                }
+            }
+            assertThrows(IllegalArgumentException.class, () -> executor.distances(new int[2], new int[1]));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void assertPathLength(GraphStorage storage, int source, int target, double expected, int[] path) {
+        if (expected == Double.POSITIVE_INFINITY) {
+            assertEquals(0, path.length, "шлях " + source + " -> " + target + " має бути порожнім");
+            return;
+        }
+        assertEquals(source, path[0]);
+        assertEquals(target, path[path.length - 1]);
+        double length = 0;
+        for (int i = 1; i < path.length; i++) {
+            double weight = storage.getWeight(path[i - 1], path[i]);
+            assertTrue(weight != 0, "у шляху немає ребра " + path[i - 1] + " -> " + path[i]);
+            length += weight;
+        }
+        assertEquals(expected, length, EPSILON, "довжина шляху " + source + " -> " + target);
+    }
+}
@@ -0,0 +1,88 @@
+package jgraph;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Перехресна перевірка компонент зв'язності з наївним розбиттям
+ * через взаємну досяжність, знайдену обходом з кожної вершини
+ */
+
+class ComponentsTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 50, 150, 400})
+    void componentsMatchReachability(int edges) {
+        SplittableRandom random = new SplittableRandom(edges);
+        int n = 200;
+        OrderedGraph directed = new OrderedGraph(n);
+        NonOrderedGraph undirected = new NonOrderedGraph(n);
+        for (int v = 0; v < n; v++) {
+            directed.addVertex((char) v);
+            undirected.addVertex((char) v);
+        }
+        for (int e = 0; e < edges; e++) {
+            int start = random.nextInt(n);
+            int end = random.nextInt(n);
+            directed.addEdge(start, end, 1);
+            undirected.addEdge(start, end, 1);
+        }
+        boolean[][] reach = reachability(directed.getStorage(), n);
+        boolean[][] undirectedReach = reachability(undirected.getStorage(), n);
+
+        Components strong = directed.stronglyConnectedComponents();
+        Components weak = directed.weaklyConnectedComponents();
+        Components connected = undirected.connectedComponents();
+        for (int a = 0; a < n; a++) {
+            for (int b = 0; b < n; b++) {
+                assertEquals(reach[a][b] && reach[b][a], strong.isSameComponent(a, b),
+                        "сильна компонента " + a + ", " + b);
+                assertEquals(undirectedReach[a][b], weak.isSameComponent(a, b),
+                        "слабка компонента " + a + ", " + b);
+                assertEquals(undirectedReach[a][b], connected.isSameComponent(a, b),
+                        "компонента " + a + ", " + b);
+            }
+        }
+        assertPartition(strong, n);
+        assertPartition(weak, n);
+        assertPartition(connected, n);
+        assertEquals(strong.getCount() <= 1, directed.isStronglyConnected());
+        assertEquals(weak.getCount() <= 1, directed.isWeaklyConnected());
+    }
+
+    private static boolean[][] reachability(GraphStorage storage, int n) {
+        boolean[][] reach = new boolean[n][n];
+        int[] stack = new int[n];
+        for (int s = 0; s < n; s++) {
+            int size = 0;
+            reach[s][s] = true;
+            stack[size++] = s;
+            while (size > 0) {
+                int u = stack[--size];
+                for (int e = storage.firstEdge(u); e != GraphStorage.NO_EDGE; e = storage.nextEdge(u, e)) {
+                    int v = storage.edgeTarget(u, e);
+                    if (!reach[s][v]) {
+                        reach[s][v] = true;
+                        stack[size++] = v;
+                    }
+                }
+            }
+        }
+
+        return reach;
+    }
+
+    private static void assertPartition(Components components, int n) {
+        int[] sizes = new int[components.getCount()];
+        for (int v = 0; v < n; v++) {
+            sizes[components.getComponent(v)]++;
+        }
+        for (int c = 0; c < sizes.length; c++) {
+            assertEquals(sizes[c], components.getSize(c), "розмір компоненти " + c);
+        }
+    }
+}
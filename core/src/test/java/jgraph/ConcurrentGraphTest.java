@@ -0,0 +1,181 @@
+package jgraph;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static jgraph.StorageAssertions.assertSameEdges;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Перевірка конкурентних графів: одночасне додавання ребер з кількох потоків
+ * дає ті самі ребра, що й послідовне, а знімки, зроблені під час запису,
+ * містять лише вже додані ребра. Вершини, які додаються під час запису ребер,
+ * не губляться, а неорієнтовані ребра записуються в обох напрямках одночасно
+ */
+
+class ConcurrentGraphTest {
+
+    private static final int VERTICES = 512;
+    private static final int EDGES = 20000;
+    private static final int WRITERS = 4;
+    private static final int STEPS = 2000;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void concurrentIngestMatchesSequential(boolean directed) throws Exception {
+        SplittableRandom random = new SplittableRandom(directed ? 41 : 42);
+        int[] starts = new int[EDGES];
+        int[] ends = new int[EDGES];
+        for (int e = 0; e < EDGES; e++) {
+            starts[e] = random.nextInt(VERTICES);
+            ends[e] = random.nextInt(VERTICES);
+        }
+        Graph sequential = directed ? new OrderedGraph(VERTICES) : new NonOrderedGraph(VERTICES);
+        Graph concurrent = directed ? new ConcurrentOrderedGraph(VERTICES) : new ConcurrentNonOrderedGraph(VERTICES);
+        for (int v = 0; v < VERTICES; v++) {
+            sequential.addVertex((char) v);
+            concurrent.addVertex((char) v);
+        }
+        for (int e = 0; e < EDGES; e++) {
+            sequential.addEdge(starts[e], ends[e], weight(starts[e], ends[e]));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(WRITERS + 1);
+        try {
+            AtomicBoolean writing = new AtomicBoolean(true);
+            List<Callable<Void>> writers = new ArrayList<>();
+            for (int t = 0; t < WRITERS; t++) {
+                int first = t;
+                writers.add(() -> {
+                    for (int e = first; e < EDGES; e += WRITERS) {
+                        concurrent.addEdge(starts[e], ends[e], weight(starts[e], ends[e]));
+                    }
+                    return null;
+                });
+            }
+            Future<Integer> reader = pool.submit(() -> {
+                int snapshots = 0;
+                do {
+                    assertSubsetOf(sequential.getStorage(), concurrent.snapshot().getStorage());
+                    snapshots++;
+                } while (writing.get());
+                return snapshots;
+            });
+            List<Future<Void>> results = pool.invokeAll(writers);
+            writing.set(false);
+            for (Future<Void> result : results) {
+                result.get();
+            }
+            assertTrue(reader.get() > 0);
+        } finally {
+            pool.shutdownNow();
+        }
+        assertSameEdges(sequential.getStorage(), concurrent.getStorage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void verticesAddedDuringIngestAreKept(boolean directed) throws Exception {
+        Graph concurrent = directed ? new ConcurrentOrderedGraph(4) : new ConcurrentNonOrderedGraph(4);
+        for (int v = 0; v < VERTICES; v++) {
+            concurrent.addVertex((char) v);
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Callable<Void>> writers = new ArrayList<>();
+            for (int t = 0; t < WRITERS; t++) {
+                int first = t;
+                writers.add(() -> {
+                    for (int e = first; e < EDGES; e += WRITERS) {
+                        if (e % 8 == 0) concurrent.addVertex('v');
+                        concurrent.addEdge(e % VERTICES, (e * 7) % VERTICES, 1);
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> result : pool.invokeAll(writers)) {
+                result.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        int expected = VERTICES + (EDGES + 7) / 8;
+        Graph snapshot = concurrent.snapshot();
+        assertEquals(expected, concurrent.getVerticesCount());
+        assertEquals(expected, concurrent.getStorage().verticesCount());
+        assertEquals(expected, snapshot.getVerticesCount());
+        for (int v = VERTICES; v < expected; v++) {
+            assertEquals('v', snapshot.getVertices()[v].getLabel(), "позначка вершини " + v);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void incrementalAllPairsRequireSnapshot(boolean directed) {
+        Graph concurrent = directed ? new ConcurrentOrderedGraph(4) : new ConcurrentNonOrderedGraph(4);
+        for (int v = 0; v < 3; v++) {
+            concurrent.addVertex((char) ('a' + v));
+        }
+        concurrent.addEdge(0, 1, 2);
+        concurrent.addEdge(1, 2, 3);
+        assertThrows(UnsupportedOperationException.class, concurrent::incrementalAllPairs);
+        assertEquals(5, concurrent.snapshot().incrementalAllPairs().getDistance(0, 2));
+    }
+
+    @Test
+    void symmetricWeightsMatchDenseStorage() {
+        SplittableRandom random = new SplittableRandom(7);
+        ConcurrentGraphStorage actual = new ConcurrentGraphStorage(4);
+        DenseGraphStorage expected = new DenseGraphStorage(4);
+        for (int step = 0; step < STEPS; step++) {
+            int n = expected.verticesCount();
+            double r = random.nextDouble();
+            if (n < 2 || r < 0.1) {
+                actual.addVertex();
+                expected.addVertex();
+            } else if (r < 0.15) {
+                int index = random.nextInt(n);
+                actual.deleteVertex(index);
+                expected.deleteVertex(index);
+            } else if (r < 0.17) {
+                actual.compact();
+                expected.compact();
+            } else {
+                int start = random.nextInt(n);
+                int end = random.nextInt(n);
+                double weight = r < 0.3 ? 0 : 1 + random.nextInt(9);
+                actual.setSymmetricWeight(start, end, weight);
+                expected.setWeight(start, end, weight);
+                expected.setWeight(end, start, weight);
+            }
+            if (step % 100 == 0) assertSameEdges(expected, actual);
+        }
+        assertSameEdges(expected, actual);
+    }
+
+    private static double weight(int start, int end) {
+        return 1 + (Math.min(start, end) * 31 + Math.max(start, end)) % 17;
+    }
+
+    private static void assertSubsetOf(GraphStorage all, GraphStorage part) {
+        assertEquals(all.verticesCount(), part.verticesCount(), "кількість вершин");
+        for (int v = 0; v < part.verticesCount(); v++) {
+            for (int e = part.firstEdge(v); e != GraphStorage.NO_EDGE; e = part.nextEdge(v, e)) {
+                int u = part.edgeTarget(v, e);
+                assertEquals(all.getWeight(v, u), part.edgeWeight(v, e), "вага ребра " + v + " -> " + u);
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package jgraph;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static jgraph.GraphFixtures.randomGraph;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Перевірка обходів одного графа з кількох потоків одночасно: стан обходу
+ * належить виклику, тому кожен потік отримує ті самі результати,
+ * що й послідовні виклики
+ */
+
+class ConcurrentTraversalTest {
+
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 4;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void parallelTraversalsMatchSequential(boolean directed) throws Exception {
+        SplittableRandom random = new SplittableRandom(directed ? 61 : 62);
+        int n = 200;
+        Graph graph = randomGraph(random, directed, n, 600, 20);
+        graph.getCache().setBudget(0);
+        List<LinkedList<Integer>> dfs = new ArrayList<>();
+        List<LinkedList<Integer>> bfs = new ArrayList<>();
+        List<double[]> distances = new ArrayList<>();
+        for (int source = 0; source < n; source++) {
+            dfs.add(graph.dfs(source));
+            bfs.add(graph.bfs(source));
+            distances.add(distances(graph.dijkstra(source), n));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Callable<Void>> readers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int first = t;
+                readers.add(() -> {
+                    for (int round = 0; round < ROUNDS; round++) {
+                        for (int source = first; source < n; source += THREADS) {
+                            assertEquals(dfs.get(source), graph.dfs(source), "обхід у глибину з " + source);
+                            assertEquals(bfs.get(source), graph.bfs(source), "обхід у ширину з " + source);
+                            assertArrayEquals(distances.get(source), distances(graph.dijkstra(source), n),
+                                    "відстані з " + source);
+                        }
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> result : pool.invokeAll(readers)) {
+                result.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static double[] distances(ShortestPathTree tree, int n) {
+        double[] d = new double[n];
+        for (int v = 0; v < n; v++) {
+            d[v] = tree.hasPathTo(v) ? tree.getDistance(v) : Double.POSITIVE_INFINITY;
+        }
+
+        return d;
+    }
+}
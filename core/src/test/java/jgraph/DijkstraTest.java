@@ -0,0 +1,87 @@
+package jgraph;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.LinkedList;
+import java.util.SplittableRandom;
+
+import static jgraph.GraphFixtures.quadraticDijkstra;
+import static jgraph.GraphFixtures.randomGraph;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Перехресна перевірка алгоритму Дейкстри на купі з простим алгоритмом за O(V^2):
+ * дерево до всіх вершин, пошук до кількох кінцевих вершин з ранньою зупинкою
+ * і шлях між двома вершинами
+ */
+
+class DijkstraTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void treesMatchQuadraticDijkstra(boolean directed) {
+        SplittableRandom random = new SplittableRandom(directed ? 51 : 52);
+        int n = 150;
+        Graph graph = randomGraph(random, directed, n, 400, 20);
+        graph.getCache().setBudget(0);
+        GraphStorage storage = graph.getStorage();
+        for (int source = 0; source < n; source += 7) {
+            double[] expected = quadraticDijkstra(storage, n, source);
+            ShortestPathTree tree = graph.dijkstra(source);
+            for (int v = 0; v < n; v++) {
+                assertTree(storage, tree, v, expected[v]);
+            }
+
+            int[] targets = new int[1 + random.nextInt(4)];
+            for (int i = 0; i < targets.length; i++) {
+                targets[i] = random.nextInt(n);
+            }
+            ShortestPathTree partial = graph.dijkstra(source, targets);
+            for (int t : targets) {
+                assertTree(storage, partial, t, expected[t]);
+            }
+
+            int target = random.nextInt(n);
+            LinkedList<Integer> path = graph.dijkstra(source, target);
+            if (expected[target] == Double.POSITIVE_INFINITY) {
+                assertTrue(path.isEmpty(), "шлях " + source + " -> " + target + " має бути порожнім");
+            } else {
+                assertEquals(source, path.getFirst());
+                assertEquals(target, path.getLast());
+                assertEquals(expected[target], pathLength(storage, path), EPSILON,
+                        "довжина шляху " + source + " -> " + target);
+            }
+        }
+    }
+
+    private static void assertTree(GraphStorage storage, ShortestPathTree tree, int v, double expected) {
+        int source = tree.getSource();
+        if (expected == Double.POSITIVE_INFINITY) {
+            assertFalse(tree.hasPathTo(v), "вершина " + v + " недосяжна з " + source);
+            return;
+        }
+        assertTrue(tree.hasPathTo(v), "шлях " + source + " -> " + v);
+        assertEquals(expected, tree.getDistance(v), EPSILON, "відстань " + source + " -> " + v);
+        assertEquals(expected, pathLength(storage, tree.getPath(v)), EPSILON, "довжина шляху " + source + " -> " + v);
+    }
+
+    private static double pathLength(GraphStorage storage, LinkedList<Integer> path) {
+        double length = 0;
+        Integer previous = null;
+        for (int v : path) {
+            if (previous != null) {
+                double weight = storage.getWeight(previous, v);
+                assertTrue(weight != 0, "у шляху немає ребра " + previous + " -> " + v);
+                length += weight;
+            }
+            previous = v;
+        }
+
+        return length;
+    }
+}
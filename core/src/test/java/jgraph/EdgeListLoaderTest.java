@@ -0,0 +1,107 @@
+package jgraph;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static jgraph.StorageAssertions.assertSameEdges;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Перехресна перевірка завантаження списку ребер з графом, побудованим
+ * послідовними викликами {@code addEdge}, для текстового і двійкового форматів
+ */
+
+class EdgeListLoaderTest {
+
+    private static final String[] SEPARATORS = {" ", "\t", ",", ";", "  \t"};
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void textFileMatchesAddEdge(boolean directed, @TempDir Path directory) throws IOException {
+        SplittableRandom random = new SplittableRandom(directed ? 81 : 82);
+        int n = 300;
+        Graph expected = directed ? new OrderedGraph(n) : new NonOrderedGraph(n);
+        for (int v = 0; v < n; v++) {
+            expected.addVertex((char) v);
+        }
+        StringBuilder text = new StringBuilder("# список ребер\n% коментар\n\n");
+        for (int e = 0; e < 5000; e++) {
+            int start = random.nextInt(n);
+            int end = e == 0 ? n - 1 : random.nextInt(n);
+            int weight = random.nextInt(10);
+            String separator = SEPARATORS[random.nextInt(SEPARATORS.length)];
+            text.append(start).append(separator).append(end);
+            if (weight == 1 && random.nextBoolean()) {
+                text.append('\n');
+            } else {
+                text.append(separator).append(weight).append(random.nextBoolean() ? ".0" : "").append('\n');
+            }
+            if (weight != 0 && weight > expected.getStorage().getWeight(start, end)) {
+                expected.addEdge(start, end, weight);
+            }
+        }
+        Path path = directory.resolve("edges.txt");
+        Files.write(path, text.toString().getBytes(StandardCharsets.UTF_8));
+
+        Graph actual = directed
+                ? EdgeListLoader.loadOrdered(path, EdgeListLoader.Format.TEXT)
+                : EdgeListLoader.loadNonOrdered(path, EdgeListLoader.Format.TEXT);
+        assertEquals(n, actual.getVerticesCount());
+        assertSameEdges(expected.getStorage(), actual.getStorage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void binaryRoundTripMatchesGraph(boolean directed, @TempDir Path directory) throws IOException {
+        SplittableRandom random = new SplittableRandom(directed ? 83 : 84);
+        int n = 500;
+        Graph expected = directed ? new OrderedGraph(n) : new NonOrderedGraph(n);
+        for (int v = 0; v < n; v++) {
+            expected.addVertex((char) v);
+        }
+        for (int e = 0; e < 4000; e++) {
+            expected.addEdge(random.nextInt(n), random.nextInt(n), 1 + random.nextInt(20) / 4.0);
+        }
+        Path path = directory.resolve("edges.bin");
+        EdgeListLoader.writeBinary(expected, path);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Graph actual = directed
+                    ? EdgeListLoader.loadOrdered(path, EdgeListLoader.Format.BINARY, pool)
+                    : EdgeListLoader.loadNonOrdered(path, EdgeListLoader.Format.BINARY, pool);
+            assertSameEdges(expected.getStorage(), actual.getStorage());
+            assertSameEdges(expected.getStorage(),
+                    EdgeListLoader.loadStorage(path, EdgeListLoader.Format.BINARY, directed, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void graphsLargerThanCharLabelsAreLoaded(@TempDir Path directory) throws IOException {
+        int last = Character.MAX_VALUE + 10;
+        Path path = directory.resolve("edges.txt");
+        Files.write(path, ("0 " + last + " 2\n" + last + " 1\n").getBytes(StandardCharsets.UTF_8));
+        Graph directed = EdgeListLoader.loadOrdered(path, EdgeListLoader.Format.TEXT);
+        Graph undirected = EdgeListLoader.loadNonOrdered(path, EdgeListLoader.Format.TEXT);
+        for (Graph graph : new Graph[]{directed, undirected}) {
+            assertEquals(last + 1, graph.getVerticesCount());
+            assertEquals(2.0, graph.getStorage().getWeight(0, last));
+            assertEquals(3.0, graph.dijkstra(0).getDistance(1));
+        }
+        assertEquals(0.0, directed.getStorage().getWeight(last, 0));
+        assertEquals(2.0, undirected.getStorage().getWeight(last, 0));
+        assertThrows(IllegalArgumentException.class, () -> new OrderedGraph(directed.getStorage()));
+    }
+}
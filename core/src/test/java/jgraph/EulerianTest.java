@@ -0,0 +1,132 @@
+package jgraph;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.SplittableRandom;
+
+import static jgraph.GraphFixtures.randomGraph;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Перевірка лічильників степенів вершин і лінійних перевірок ейлеревих графів:
+ * вхідний і вихідний степені не переплутані, баланс початку і кінця шляху,
+ * незв'язні графи зі збалансованими степенями та степені після видалення вершин
+ */
+
+class EulerianTest {
+
+    @Test
+    void inAndOutDegreesAreNotSwapped() {
+        OrderedGraph graph = orderedGraph(4, 0, 1, 0, 2, 2, 1, 3, 0);
+        assertEquals(1, graph.indeg(0), "вхідний степінь вершини 0");
+        assertEquals(2, graph.outdeg(0), "вихідний степінь вершини 0");
+        assertEquals(2, graph.indeg(1), "вхідний степінь вершини 1");
+        assertEquals(0, graph.outdeg(1), "вихідний степінь вершини 1");
+        assertEquals(1, graph.indeg(2), "вхідний степінь вершини 2");
+        assertEquals(1, graph.outdeg(2), "вихідний степінь вершини 2");
+        assertEquals(0, graph.indeg(3), "вхідний степінь вершини 3");
+        assertEquals(1, graph.outdeg(3), "вихідний степінь вершини 3");
+        assertEquals(graph.outdeg(0), graph.deg(0), "степінь орієнтованого графа - вихідний");
+    }
+
+    @Test
+    void directedEulerianGraphs() {
+        OrderedGraph cycle = orderedGraph(4, 0, 1, 1, 2, 2, 3, 3, 0, 0, 2, 2, 0);
+        assertTrue(cycle.isEulerian(), "збалансований сильно зв'язний граф");
+        assertTrue(cycle.isSemiEulerian(), "ейлерів цикл є ейлеревим шляхом");
+
+        OrderedGraph path = orderedGraph(4, 0, 1, 1, 2, 2, 3, 1, 3, 3, 1);
+        assertFalse(path.isEulerian(), "початок і кінець шляху не збалансовані");
+        assertTrue(path.isSemiEulerian(), "початок на одне ребро більше виходить, кінець - входить");
+
+        OrderedGraph reversed = orderedGraph(3, 1, 0, 2, 1);
+        assertTrue(reversed.isSemiEulerian(), "шлях 2 -> 1 -> 0");
+
+        OrderedGraph twoStarts = orderedGraph(3, 0, 1, 2, 1);
+        assertFalse(twoStarts.isSemiEulerian(), "дві вершини з надлишком вихідних ребер");
+
+        OrderedGraph doubleStart = orderedGraph(3, 0, 1, 0, 2);
+        assertFalse(doubleStart.isSemiEulerian(), "вершина з двома зайвими вихідними ребрами");
+
+        OrderedGraph twoCycles = orderedGraph(6, 0, 1, 1, 2, 2, 0, 3, 4, 4, 5, 5, 3);
+        assertFalse(twoCycles.isEulerian(), "незв'язний граф зі збалансованими степенями");
+        assertFalse(twoCycles.isSemiEulerian(), "незв'язний граф зі збалансованими степенями");
+
+        OrderedGraph pathAndCycle = orderedGraph(5, 0, 1, 2, 3, 3, 4, 4, 2);
+        assertFalse(pathAndCycle.isSemiEulerian(), "шлях і окремий цикл");
+    }
+
+    @Test
+    void undirectedEulerianGraphs() {
+        NonOrderedGraph bowtie = nonOrderedGraph(5, 0, 1, 1, 2, 2, 0, 0, 3, 3, 4, 4, 0);
+        assertTrue(bowtie.isEulerian(), "усі степені парні");
+        assertTrue(bowtie.isSemiEulerian(), "ейлерів цикл є ейлеревим шляхом");
+
+        NonOrderedGraph path = nonOrderedGraph(4, 0, 1, 1, 2, 2, 3, 1, 3);
+        assertFalse(path.isEulerian(), "дві вершини непарного степеня");
+        assertTrue(path.isSemiEulerian(), "шлях між двома вершинами непарного степеня");
+
+        NonOrderedGraph star = nonOrderedGraph(5, 0, 1, 0, 2, 0, 3, 0, 4);
+        assertFalse(star.isEulerian(), "чотири вершини непарного степеня");
+        assertFalse(star.isSemiEulerian(), "чотири вершини непарного степеня");
+
+        NonOrderedGraph twoTriangles = nonOrderedGraph(6, 0, 1, 1, 2, 2, 0, 3, 4, 4, 5, 5, 3);
+        assertFalse(twoTriangles.isEulerian(), "незв'язний граф з парними степенями");
+        assertFalse(twoTriangles.isSemiEulerian(), "незв'язний граф з парними степенями");
+
+        NonOrderedGraph pathAndTriangle = nonOrderedGraph(5, 0, 1, 2, 3, 3, 4, 4, 2);
+        assertFalse(pathAndTriangle.isSemiEulerian(), "шлях і окремий цикл");
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void degreesFollowDeletedVertices(boolean directed) {
+        SplittableRandom random = new SplittableRandom(directed ? 81 : 82);
+        Graph graph = randomGraph(random, directed, 60, 300, 5);
+        while (graph.getVerticesCount() > 1) {
+            graph.deleteVertex(random.nextInt(graph.getVerticesCount()));
+            int n = graph.getVerticesCount();
+            GraphStorage storage = graph.getStorage();
+            for (int v = 0; v < n; v++) {
+                int in = 0;
+                int out = 0;
+                for (int u = 0; u < n; u++) {
+                    if (storage.getWeight(u, v) != 0) in++;
+                    if (storage.getWeight(v, u) != 0) out++;
+                }
+                assertEquals(out, graph.deg(v), "степінь вершини " + v + " з " + n);
+                if (directed) {
+                    assertEquals(in, ((OrderedGraph) graph).indeg(v), "вхідний степінь вершини " + v + " з " + n);
+                    assertEquals(out, ((OrderedGraph) graph).outdeg(v), "вихідний степінь вершини " + v + " з " + n);
+                }
+            }
+        }
+    }
+
+    private static OrderedGraph orderedGraph(int n, int... edges) {
+        OrderedGraph graph = new OrderedGraph(n);
+        fill(graph, n, edges);
+
+        return graph;
+    }
+
+    private static NonOrderedGraph nonOrderedGraph(int n, int... edges) {
+        NonOrderedGraph graph = new NonOrderedGraph(n);
+        fill(graph, n, edges);
+
+        return graph;
+    }
+
+    private static void fill(Graph graph, int n, int[] edges) {
+        for (int v = 0; v < n; v++) {
+            graph.addVertex((char) ('a' + v));
+        }
+        for (int i = 0; i < edges.length; i += 2) {
+            graph.addEdge(edges[i], edges[i + 1], 1);
+        }
+    }
+}
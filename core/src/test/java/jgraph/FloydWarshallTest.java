@@ -0,0 +1,128 @@
+package jgraph;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Перехресна перевірка блочного алгоритму Флойда-Варшала з простим потрійним циклом
+ * на випадкових графах, розмір яких не кратний розміру блоку
+ */
+
+class FloydWarshallTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 7, 64})
+    void blockedMatchesTripleLoop(int blockSize) {
+        SplittableRandom random = new SplittableRandom(blockSize);
+        int n = 53;
+        double[] weights = randomWeights(random, n, 0.08);
+        double[] expected = weights.clone();
+        naive(expected, n);
+        double[] dist = weights.clone();
+        int[] next = initialNext(weights, n);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            BlockedFloydWarshall.compute(dist, next, n, blockSize, pool);
+        } finally {
+            pool.shutdown();
+        }
+        AllPairsShortestPaths paths = new AllPairsShortestPaths(n, dist, next);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                assertEquals(expected[i * n + j], paths.getDistance(i, j), EPSILON, "відстань " + i + " -> " + j);
+                assertPathLength(weights, n, paths.getDistance(i, j), paths.getPath(i, j), i, j);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void graphMatchesTripleLoop(boolean directed) {
+        SplittableRandom random = new SplittableRandom(directed ? 51 : 52);
+        int n = 150;
+        Graph graph = directed ? new OrderedGraph(n) : new NonOrderedGraph(n);
+        for (int v = 0; v < n; v++) {
+            graph.addVertex((char) ('a' + v % 26));
+        }
+        for (int e = 0; e < 4 * n; e++) {
+            graph.addEdge(random.nextInt(n), random.nextInt(n), 1 + random.nextInt(20));
+        }
+        double[] expected = new double[n * n];
+        Arrays.fill(expected, Double.POSITIVE_INFINITY);
+        GraphStorage storage = graph.getStorage();
+        for (int i = 0; i < n; i++) {
+            for (int e = storage.firstEdge(i); e != GraphStorage.NO_EDGE; e = storage.nextEdge(i, e)) {
+                expected[i * n + storage.edgeTarget(i, e)] = storage.edgeWeight(i, e);
+            }
+        }
+        naive(expected, n);
+        double[][] actual = graph.floydWarshall();
+        AllPairsShortestPaths paths = graph.floydWarshall(true);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                assertEquals(expected[i * n + j], actual[i][j], EPSILON, "відстань " + i + " -> " + j);
+                assertEquals(expected[i * n + j], paths.getDistance(i, j), EPSILON, "відстань " + i + " -> " + j);
+            }
+        }
+    }
+
+    private static double[] randomWeights(SplittableRandom random, int n, double density) {
+        double[] w = new double[n * n];
+        Arrays.fill(w, Double.POSITIVE_INFINITY);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (random.nextDouble() < density) w[i * n + j] = 1 + random.nextInt(20);
+            }
+        }
+
+        return w;
+    }
+
+    private static int[] initialNext(double[] w, int n) {
+        int[] next = new int[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                next[i * n + j] = w[i * n + j] == Double.POSITIVE_INFINITY ? AllPairsShortestPaths.NO_VERTEX : j;
+            }
+        }
+
+        return next;
+    }
+
+    private static void naive(double[] d, int n) {
+        for (int k = 0; k < n; k++) {
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    if (d[i * n + k] + d[k * n + j] < d[i * n + j]) d[i * n + j] = d[i * n + k] + d[k * n + j];
+                }
+            }
+        }
+    }
+
+    private static void assertPathLength(double[] w, int n, double expected, LinkedList<Integer> path,
+                                         int start, int end) {
+        if (expected == Double.POSITIVE_INFINITY) {
+            assertTrue(path.isEmpty(), "шлях " + start + " -> " + end + " має бути порожнім");
+            return;
+        }
+        assertEquals(start, path.getFirst());
+        assertEquals(end, path.getLast());
+        double length = 0;
+        Integer previous = null;
+        for (int v : path) {
+            if (previous != null) length += w[previous * n + v];
+            previous = v;
+        }
+        assertEquals(expected, length, EPSILON, "довжина шляху " + start + " -> " + end);
+    }
+}
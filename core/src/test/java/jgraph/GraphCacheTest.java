@@ -0,0 +1,104 @@
+package jgraph;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.SplittableRandom;
+
+import static jgraph.GraphFixtures.quadraticDijkstra;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Перевірка кешу похідних структур: записи відкидаються зі зміною версії графа,
+ * старіші версії не читають і не записують кеш, а бюджет витісняє давні записи.
+ * Закешовані результати запитів графа порівнюються з простим алгоритмом Дейкстри
+ * після випадкових змін графа
+ */
+
+class GraphCacheTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    void entriesFollowVersion() {
+        GraphCache cache = new GraphCache(1000);
+        Object first = new Object();
+        assertSame(first, cache.get("query", 0, 1, () -> first, value -> 10));
+        assertSame(first, cache.get("query", 0, 1, Object::new, value -> 10));
+        assertNull(cache.peek("query", 1, 1));
+        assertNull(cache.peek("query", 0, 0), "старіша версія не читає кеш");
+        Object stale = new Object();
+        assertSame(stale, cache.get("other", 0, 0, () -> stale, value -> 10));
+        assertNull(cache.peek("other", 0, 1), "старіша версія не записує кеш");
+        assertSame(first, cache.peek("query", 0, 1));
+        assertNull(cache.peek("query", 0, 2), "нова версія відкидає записи");
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getUsedBytes());
+    }
+
+    @Test
+    void budgetEvictsLeastRecentlyUsed() {
+        GraphCache cache = new GraphCache(100);
+        for (int i = 0; i < 4; i++) {
+            int value = i;
+            cache.get("query", i, 1, () -> value, v -> 30);
+        }
+        assertEquals(3, cache.size());
+        assertNull(cache.peek("query", 0, 1));
+        assertEquals(1, (int) cache.peek("query", 1, 1));
+        cache.get("query", 4, 1, () -> 4, v -> 30);
+        assertEquals(1, (int) cache.peek("query", 1, 1));
+        assertNull(cache.peek("query", 2, 1));
+        cache.get("large", 0, 1, () -> 5, v -> 101);
+        assertNull(cache.peek("large", 0, 1), "запис більший за бюджет не зберігається");
+        cache.setBudget(30);
+        assertEquals(1, cache.size());
+        assertEquals(30, cache.getUsedBytes());
+        assertThrows(IllegalArgumentException.class, () -> cache.setBudget(-1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void cachedQueriesFollowGraphChanges(boolean directed) {
+        SplittableRandom random = new SplittableRandom(directed ? 91 : 92);
+        int n = 40;
+        Graph graph = directed ? new OrderedGraph(n) : new NonOrderedGraph(n);
+        for (int v = 0; v < n; v++) {
+            graph.addVertex((char) v);
+        }
+        for (int step = 0; step < 400; step++) {
+            int size = graph.getVerticesCount();
+            double r = random.nextDouble();
+            if (r < 0.03) {
+                graph.addVertex((char) (n + step));
+            } else if (r < 0.06 && size > 2) {
+                graph.deleteVertex(random.nextInt(size));
+            } else if (r < 0.5) {
+                graph.addEdge(random.nextInt(size), random.nextInt(size), 1 + random.nextInt(20));
+            }
+            size = graph.getVerticesCount();
+            int source = random.nextInt(size);
+            ShortestPathTree tree = graph.dijkstra(source);
+            assertSame(tree, graph.dijkstra(source));
+            double[] expected = quadraticDijkstra(graph.getStorage(), size, source);
+            for (int v = 0; v < size; v++) {
+                double actual = tree.hasPathTo(v) ? tree.getDistance(v) : Double.POSITIVE_INFINITY;
+                assertEquals(expected[v], actual, EPSILON, "відстань " + source + " -> " + v);
+            }
+            double[][] matrix = graph.floydWarshall();
+            for (int v = 0; v < size; v++) {
+                if (v == source) continue;
+                assertEquals(expected[v], matrix[source][v], EPSILON, "відстань " + source + " -> " + v);
+            }
+            assertSame(graph.floydWarshall(false), graph.floydWarshall(false));
+        }
+        ShortestPathTree before = graph.dijkstra(0);
+        graph.addEdge(0, 1, 1);
+        assertNotSame(before, graph.dijkstra(0));
+    }
+}
@@ -0,0 +1,99 @@
+package jgraph;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Випадкові графи для тестів і прості еталонні алгоритми,
+ * з якими порівнюються оптимізовані реалізації
+ */
+
+final class GraphFixtures {
+
+    private GraphFixtures() {
+    }
+
+    /**
+     * Створює граф з випадковими ребрами, зокрема петлями і повторними ребрами
+     * @param random джерело випадкових чисел
+     * @param directed чи орієнтований граф
+     * @param vertices кількість вершин
+     * @param edges кількість спроб додати ребро
+     * @param maxWeight найбільша вага ребра, ваги рівномірні від 1
+     * @return випадковий граф
+     */
+
+    static Graph randomGraph(SplittableRandom random, boolean directed, int vertices, int edges, int maxWeight) {
+        Graph graph = directed ? new OrderedGraph(vertices) : new NonOrderedGraph(vertices);
+        for (int v = 0; v < vertices; v++) {
+            graph.addVertex((char) ('a' + v % 26));
+        }
+        for (int e = 0; e < edges; e++) {
+            graph.addEdge(random.nextInt(vertices), random.nextInt(vertices), 1 + random.nextInt(maxWeight));
+        }
+
+        return graph;
+    }
+
+    /**
+     * Алгоритм Дейкстри за O(V^2) без купи, який перебирає всі пари вершин
+     * @param storage сховище ребер
+     * @param n кількість вершин
+     * @param source номер початкової вершини
+     * @return відстані від початкової вершини, {@link Double#POSITIVE_INFINITY} для недосяжних
+     */
+
+    static double[] quadraticDijkstra(GraphStorage storage, int n, int source) {
+        double[] d = new double[n];
+        boolean[] done = new boolean[n];
+        Arrays.fill(d, Double.POSITIVE_INFINITY);
+        d[source] = 0;
+        for (int i = 0; i < n; i++) {
+            int u = -1;
+            for (int v = 0; v < n; v++) {
+                if (!done[v] && (u == -1 || d[v] < d[u])) u = v;
+            }
+            if (d[u] == Double.POSITIVE_INFINITY) break;
+            done[u] = true;
+            for (int v = 0; v < n; v++) {
+                double w = storage.getWeight(u, v);
+                if (w != 0 && d[u] + w < d[v]) d[v] = d[u] + w;
+            }
+        }
+
+        return d;
+    }
+
+    /**
+     * Обхід у ширину з чергою в масиві, який перебирає ребра курсором сховища
+     * @param storage сховище ребер
+     * @param n кількість вершин
+     * @param source номер початкової вершини
+     * @param order список, до якого додаються вершини в порядку обходу, або {@code null}
+     * @return кількість ребер до кожної вершини, {@link BfsResult#UNREACHABLE} для недосяжних
+     */
+
+    static int[] queueBfs(GraphStorage storage, int n, int source, List<Integer> order) {
+        int[] hops = new int[n];
+        Arrays.fill(hops, BfsResult.UNREACHABLE);
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        hops[source] = 0;
+        queue[tail++] = source;
+        while (head < tail) {
+            int u = queue[head++];
+            if (order != null) order.add(u);
+            for (int e = storage.firstEdge(u); e != GraphStorage.NO_EDGE; e = storage.nextEdge(u, e)) {
+                int v = storage.edgeTarget(u, e);
+                if (hops[v] == BfsResult.UNREACHABLE) {
+                    hops[v] = hops[u] + 1;
+                    queue[tail++] = v;
+                }
+            }
+        }
+
+        return hops;
+    }
+}
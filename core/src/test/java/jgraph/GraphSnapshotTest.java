@@ -0,0 +1,96 @@
+package jgraph;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+
+import static jgraph.StorageAssertions.assertSameEdges;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Перевірка знімків графа у файлі: відкритий знімок містить ті самі ребра,
+ * що й збережений граф, а пошкоджені секції відхиляються
+ */
+
+class GraphSnapshotTest {
+
+    private static final int STEPS = 2000;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void reopenedSnapshotFileMatchesGraph(boolean directed, @TempDir Path directory) throws IOException {
+        SplittableRandom random = new SplittableRandom(directed ? 11 : 12);
+        Graph graph = directed ? new OrderedGraph(4) : new NonOrderedGraph(4);
+        for (int step = 0; step < STEPS; step++) {
+            int n = graph.getVerticesCount();
+            double r = random.nextDouble();
+            if (n < 2 || r < 0.1) {
+                graph.addVertex((char) ('a' + n % 26));
+            } else if (r < 0.15) {
+                graph.deleteVertex(random.nextInt(n));
+            } else {
+                graph.addEdge(random.nextInt(n), random.nextInt(n), 1 + random.nextInt(9));
+            }
+        }
+        Path path = directory.resolve("graph.snapshot");
+        GraphSnapshot.save(graph, path);
+        GraphStorage mapped = GraphSnapshot.open(path).getStorage();
+        assertSameEdges(graph.getStorage(), mapped);
+        assertSameEdges(graph.getStorage(), GraphSnapshot.open(path, true).getStorage());
+        assertThrows(UnsupportedOperationException.class, () -> mapped.setWeight(0, 0, 1));
+    }
+
+    @Test
+    void corruptedTargetsAreRejectedOnlyWhenVerified(@TempDir Path directory) throws IOException {
+        Path path = saveChain(directory);
+        int n = 4;
+        long outTargets = align(align(GraphSnapshot.HEADER_SIZE + 2L * n) + 4L * (n + 1));
+        writeInt(path, outTargets, n);
+        GraphSnapshot.open(path);
+        assertThrows(IOException.class, () -> GraphSnapshot.open(path, true));
+    }
+
+    @Test
+    void corruptedOffsetsAreRejected(@TempDir Path directory) throws IOException {
+        Path path = saveChain(directory);
+        int n = 4;
+        long outOffsets = align(GraphSnapshot.HEADER_SIZE + 2L * n);
+        writeInt(path, outOffsets + 4, 3);
+        assertThrows(IOException.class, () -> GraphSnapshot.open(path));
+        assertThrows(IOException.class, () -> GraphSnapshot.open(path, true));
+    }
+
+    private static Path saveChain(Path directory) throws IOException {
+        OrderedGraph graph = new OrderedGraph(4);
+        for (int v = 0; v < 4; v++) {
+            graph.addVertex((char) ('a' + v));
+        }
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 2);
+        graph.addEdge(2, 3, 3);
+        Path path = directory.resolve("chain.snapshot");
+        GraphSnapshot.save(graph, path);
+
+        return path;
+    }
+
+    private static void writeInt(Path path, long position, int value) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            ByteBuffer buf = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(0, value);
+            channel.write(buf, position);
+        }
+    }
+
+    private static long align(long position) {
+        return (position + 7) & ~7L;
+    }
+}
@@ -0,0 +1,76 @@
+package jgraph;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+import static jgraph.StorageAssertions.assertSameEdges;
+
+/**
+ * Перехресна перевірка всіх сховищ ребер зі щільною матрицею суміжності
+ * після випадкових послідовностей додавання і видалення вершин та ребер
+ */
+
+class GraphStorageTest {
+
+    private static final int STEPS = 2000;
+
+    static Stream<Arguments> storages() {
+        return Stream.of(
+                Arguments.of("csr", (IntFunction<GraphStorage>) CsrGraphStorage::new, false),
+                Arguments.of("bitMatrix", (IntFunction<GraphStorage>) BitMatrixGraphStorage::new, true),
+                Arguments.of("offHeap", (IntFunction<GraphStorage>) OffHeapGraphStorage::new, false),
+                Arguments.of("concurrent", (IntFunction<GraphStorage>) ConcurrentGraphStorage::new, false),
+                Arguments.of("dense", (IntFunction<GraphStorage>) DenseGraphStorage::new, false));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("storages")
+    void randomOperationsMatchDenseStorage(String name, IntFunction<GraphStorage> factory, boolean unweighted) {
+        SplittableRandom random = new SplittableRandom(name.hashCode());
+        GraphStorage actual = factory.apply(4);
+        DenseGraphStorage expected = new DenseGraphStorage(4);
+        try {
+            for (int step = 0; step < STEPS; step++) {
+                randomOperation(random, unweighted, actual, expected);
+                if (step % 100 == 0) assertSameEdges(expected, actual);
+            }
+            assertSameEdges(expected, actual);
+        } finally {
+            close(actual);
+        }
+    }
+
+    static void randomOperation(SplittableRandom random, boolean unweighted,
+                                GraphStorage actual, GraphStorage expected) {
+        int n = expected.verticesCount();
+        double r = random.nextDouble();
+        if (n < 2 || r < 0.1) {
+            actual.addVertex();
+            expected.addVertex();
+        } else if (r < 0.15) {
+            int index = random.nextInt(n);
+            actual.deleteVertex(index);
+            expected.deleteVertex(index);
+        } else if (r < 0.17) {
+            actual.compact();
+            expected.compact();
+        } else {
+            int start = random.nextInt(n);
+            int end = random.nextInt(n);
+            double weight = r < 0.3 ? 0 : 1 + random.nextInt(9);
+            actual.setWeight(start, end, weight);
+            expected.setWeight(start, end, unweighted && weight != 0 ? 1 : weight);
+        }
+    }
+
+    static void close(GraphStorage storage) {
+        if (storage instanceof OffHeapGraphStorage) {
+            ((OffHeapGraphStorage) storage).close();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package jgraph;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static jgraph.GraphFixtures.randomGraph;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Перехресна перевірка пошуку гамільтонового шляху з перебором усіх перестановок
+ * на малих випадкових графах, а також методу гілок і меж на більших графах
+ * із заздалегідь закладеним шляхом
+ */
+
+class HamiltonPathTest {
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void solversMatchPermutations(boolean directed) {
+        SplittableRandom random = new SplittableRandom(directed ? 71 : 72);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int round = 0; round < 200; round++) {
+                int n = 1 + random.nextInt(8);
+                Graph graph = randomGraph(random, directed, n, random.nextInt(2 * n + 1), 1);
+                GraphStorage storage = graph.getStorage();
+                boolean expected = existsByPermutations(storage, n);
+                int[] heldKarp = HamiltonPathSolver.heldKarp(storage, n);
+                int[] branchAndBound = HamiltonPathSolver.branchAndBound(storage, n, pool);
+                assertEquals(expected, heldKarp != null, "динамічне програмування, раунд " + round);
+                assertEquals(expected, branchAndBound != null, "гілки і межі, раунд " + round);
+                if (expected) {
+                    assertHamiltonPath(storage, n, heldKarp);
+                    assertHamiltonPath(storage, n, branchAndBound);
+                    assertEquals(n, graph.getHamiltonPath(pool).size());
+                } else {
+                    assertThrows(IllegalStateException.class, () -> graph.getHamiltonPath(pool));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void branchAndBoundFindsPlantedPath(boolean directed) {
+        SplittableRandom random = new SplittableRandom(directed ? 73 : 74);
+        int n = 40;
+        Graph graph = randomGraph(random, directed, n, n, 1);
+        int[] permutation = new int[n];
+        for (int i = 0; i < n; i++) {
+            permutation[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = permutation[i];
+            permutation[i] = permutation[j];
+            permutation[j] = t;
+        }
+        for (int i = 1; i < n; i++) {
+            graph.addEdge(permutation[i - 1], permutation[i], 1);
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            int[] path = HamiltonPathSolver.solve(graph.getStorage(), n, pool);
+            assertNotNull(path);
+            assertHamiltonPath(graph.getStorage(), n, path);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void starHasNoPath() {
+        int n = 30;
+        NonOrderedGraph graph = new NonOrderedGraph(n);
+        for (int v = 0; v < n; v++) {
+            graph.addVertex((char) v);
+        }
+        for (int v = 1; v < n; v++) {
+            graph.addEdge(0, v, 1);
+        }
+        assertNull(HamiltonPathSolver.solve(graph.getStorage(), n, ForkJoinPool.commonPool()));
+    }
+
+    private static boolean existsByPermutations(GraphStorage storage, int n) {
+        int[] path = new int[n];
+        boolean[] used = new boolean[n];
+        for (int v = 0; v < n; v++) {
+            path[0] = v;
+            used[v] = true;
+            if (extend(storage, n, path, used, 1)) return true;
+            used[v] = false;
+        }
+
+        return false;
+    }
+
+    private static boolean extend(GraphStorage storage, int n, int[] path, boolean[] used, int length) {
+        if (length == n) return true;
+        for (int v = 0; v < n; v++) {
+            if (used[v] || storage.getWeight(path[length - 1], v) == 0) continue;
+            path[length] = v;
+            used[v] = true;
+            if (extend(storage, n, path, used, length + 1)) return true;
+            used[v] = false;
+        }
+
+        return false;
+    }
+
+    private static void assertHamiltonPath(GraphStorage storage, int n, int[] path) {
+        assertEquals(n, path.length, "довжина шляху");
+        boolean[] seen = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            assertTrue(!seen[path[i]], "вершина " + path[i] + " повторюється");
+            seen[path[i]] = true;
+            if (i > 0) {
+                assertTrue(storage.getWeight(path[i - 1], path[i]) != 0,
+                        "у шляху немає ребра " + path[i - 1] + " -> " + path[i]);
+            }
+        }
+    }
+}
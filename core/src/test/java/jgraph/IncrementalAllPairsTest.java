@@ -0,0 +1,48 @@
+package jgraph;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.SplittableRandom;
+
+import static jgraph.GraphFixtures.randomGraph;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Перехресна перевірка інкрементальних найкоротших шляхів між усіма парами вершин
+ * з алгоритмом Флойда-Варшала після кожної випадкової зміни графа
+ */
+
+class IncrementalAllPairsTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void incrementalAllPairsMatchFloydWarshall(boolean directed) {
+        SplittableRandom random = new SplittableRandom(directed ? 21 : 22);
+        Graph graph = randomGraph(random, directed, 12, 20, 20);
+        IncrementalAllPairsShortestPaths paths = graph.incrementalAllPairs();
+        for (int step = 0; step < 300; step++) {
+            int n = graph.getVerticesCount();
+            double r = random.nextDouble();
+            if (r < 0.05) {
+                graph.addVertex((char) ('a' + n % 26));
+            } else if (r < 0.1 && n > 2) {
+                graph.deleteVertex(random.nextInt(n));
+            } else {
+                graph.addEdge(random.nextInt(n), random.nextInt(n), 1 + random.nextInt(20));
+            }
+            assertMatrixEquals(graph.floydWarshall(), paths.toMatrix());
+        }
+    }
+
+    private static void assertMatrixEquals(double[][] expected, double[][] actual) {
+        assertEquals(expected.length, actual.length, "кількість вершин");
+        for (int i = 0; i < expected.length; i++) {
+            for (int j = 0; j < expected.length; j++) {
+                assertEquals(expected[i][j], actual[i][j], EPSILON, "відстань " + i + " -> " + j);
+            }
+        }
+    }
+}
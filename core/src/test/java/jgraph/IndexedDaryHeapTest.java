@@ -0,0 +1,74 @@
+package jgraph;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Перевірка індексованої d-арної купи з масивом пріоритетів,
+ * мінімум якого шукається перебором: вставка, зменшення пріоритету,
+ * порядок видалення та очищення купи
+ */
+
+class IndexedDaryHeapTest {
+
+    private static final int CAPACITY = 300;
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 4, 8})
+    void operationsMatchLinearScan(int arity) {
+        SplittableRandom random = new SplittableRandom(arity);
+        IndexedDaryHeap heap = new IndexedDaryHeap(CAPACITY, arity);
+        double[] keys = new double[CAPACITY];
+        Arrays.fill(keys, Double.NaN);
+        int size = 0;
+        for (int step = 0; step < 20000; step++) {
+            int v = random.nextInt(CAPACITY);
+            double r = random.nextDouble();
+            if (r < 0.6) {
+                double key = random.nextInt(1000);
+                boolean changes = Double.isNaN(keys[v]) || key < keys[v];
+                assertEquals(changes, heap.insertOrDecrease(v, key), "зміна купи для елемента " + v);
+                if (Double.isNaN(keys[v])) size++;
+                if (changes) keys[v] = key;
+            } else if (r < 0.98 && size > 0) {
+                int expected = minimum(keys);
+                assertEquals(keys[expected], heap.getKey(heap.peek()), "найменший пріоритет");
+                int polled = heap.poll();
+                assertEquals(keys[expected], keys[polled], "пріоритет видаленого елемента");
+                keys[polled] = Double.NaN;
+                size--;
+            } else if (r >= 0.98) {
+                heap.clear();
+                Arrays.fill(keys, Double.NaN);
+                size = 0;
+            }
+            assertEquals(size, heap.size(), "кількість елементів");
+            assertEquals(size == 0, heap.isEmpty());
+            assertEquals(!Double.isNaN(keys[v]), heap.contains(v), "наявність елемента " + v);
+            if (heap.contains(v)) assertEquals(keys[v], heap.getKey(v), "пріоритет елемента " + v);
+        }
+        double previous = Double.NEGATIVE_INFINITY;
+        while (!heap.isEmpty()) {
+            int v = heap.poll();
+            assertTrue(heap.getKey(v) >= previous, "елементи видаляються в порядку зростання пріоритету");
+            previous = heap.getKey(v);
+            assertFalse(heap.contains(v));
+        }
+    }
+
+    private static int minimum(double[] keys) {
+        int min = -1;
+        for (int v = 0; v < keys.length; v++) {
+            if (!Double.isNaN(keys[v]) && (min == -1 || keys[v] < keys[min])) min = v;
+        }
+
+        return min;
+    }
+}
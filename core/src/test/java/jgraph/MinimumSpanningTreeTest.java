@@ -0,0 +1,100 @@
+package jgraph;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Перехресна перевірка алгоритмів Прима, Крускала і Борувки з простим алгоритмом Прима
+ * за O(V^2) на випадкових зв'язних і незв'язних графах: вага лісу, кількість ребер
+ * і відсутність циклів
+ */
+
+class MinimumSpanningTreeTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 60, 150, 600, 5000})
+    void forestsMatchQuadraticPrim(int edges) {
+        SplittableRandom random = new SplittableRandom(edges);
+        int n = 150;
+        NonOrderedGraph graph = new NonOrderedGraph(n);
+        for (int v = 0; v < n; v++) {
+            graph.addVertex((char) v);
+        }
+        for (int e = 0; e < edges; e++) {
+            int start = random.nextInt(n);
+            int end = random.nextInt(n);
+            if (start != end) graph.addEdge(start, end, 1 + random.nextInt(50));
+        }
+        GraphStorage storage = graph.getStorage();
+        double expected = quadraticPrim(storage, n);
+        int expectedEdges = n - graph.connectedComponents().getCount();
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            SpanningTree[] trees = {
+                    MinimumSpanningTree.prim(storage, n),
+                    MinimumSpanningTree.kruskal(storage, n),
+                    MinimumSpanningTree.boruvka(storage, n, pool),
+                    MinimumSpanningTree.compute(storage, n),
+                    graph.minimumSpanningEdges()
+            };
+            for (SpanningTree tree : trees) {
+                assertEquals(expectedEdges, tree.getEdgesCount(), "кількість ребер лісу");
+                assertEquals(expected, tree.getTotalWeight(), EPSILON, "вага лісу");
+                assertForest(storage, n, tree);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        GraphStorage forest = graph.minimalSpanningTree().getStorage();
+        double total = 0;
+        for (int v = 0; v < n; v++) {
+            for (int e = forest.firstEdge(v); e != GraphStorage.NO_EDGE; e = forest.nextEdge(v, e)) {
+                total += forest.edgeWeight(v, e);
+            }
+        }
+        assertEquals(2 * expected, total, EPSILON, "вага ребер дерева в обох напрямках");
+    }
+
+    private static double quadraticPrim(GraphStorage storage, int n) {
+        boolean[] inTree = new boolean[n];
+        double[] key = new double[n];
+        Arrays.fill(key, Double.POSITIVE_INFINITY);
+        double total = 0;
+        for (int added = 0; added < n; added++) {
+            int best = -1;
+            for (int v = 0; v < n; v++) {
+                if (!inTree[v] && (best == -1 || key[v] < key[best])) best = v;
+            }
+            inTree[best] = true;
+            if (key[best] != Double.POSITIVE_INFINITY) total += key[best];
+            for (int v = 0; v < n; v++) {
+                double w = storage.getWeight(best, v);
+                if (!inTree[v] && w != 0 && w < key[v]) key[v] = w;
+            }
+        }
+
+        return total;
+    }
+
+    private static void assertForest(GraphStorage storage, int n, SpanningTree tree) {
+        DisjointSet sets = new DisjointSet(n);
+        for (int i = 0; i < tree.getEdgesCount(); i++) {
+            int a = tree.getStart(i);
+            int b = tree.getEnd(i);
+            assertNotEquals(0.0, storage.getWeight(a, b), "у графі немає ребра " + a + " - " + b);
+            assertEquals(storage.getWeight(a, b), tree.getWeight(i), "вага ребра " + a + " - " + b);
+            assertTrue(sets.union(a, b), "ребро " + a + " - " + b + " утворює цикл");
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package jgraph;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+import static jgraph.GraphFixtures.queueBfs;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Перехресна перевірка паралельного пошуку в ширину з послідовним пошуком з чергою.
+ * Густі графи змушують пошук перемикатися на крок "знизу догори",
+ * розріджені виконуються лише кроками "згори донизу"
+ */
+
+class ParallelBfsTest {
+
+    static Stream<Arguments> graphs() {
+        IntFunction<GraphStorage> csr = CsrGraphStorage::new;
+        IntFunction<GraphStorage> bitMatrix = BitMatrixGraphStorage::new;
+        IntFunction<GraphStorage> dense = DenseGraphStorage::new;
+        return Stream.of(
+                Arguments.of("csr sparse", csr, true, 3000, 3500),
+                Arguments.of("csr dense", csr, true, 3000, 60000),
+                Arguments.of("csr undirected", csr, false, 3000, 20000),
+                Arguments.of("bitMatrix", bitMatrix, true, 1500, 30000),
+                Arguments.of("bitMatrix undirected", bitMatrix, false, 1500, 2000),
+                Arguments.of("dense", dense, true, 1000, 8000));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("graphs")
+    void distancesMatchSequentialBfs(String name, IntFunction<GraphStorage> factory, boolean directed,
+                                     int vertices, int edges) {
+        SplittableRandom random = new SplittableRandom(name.hashCode());
+        GraphStorage storage = factory.apply(vertices);
+        Graph graph = directed ? new OrderedGraph(storage) : new NonOrderedGraph(storage);
+        for (int v = 0; v < vertices; v++) {
+            graph.addVertex((char) v);
+        }
+        for (int e = 0; e < edges; e++) {
+            graph.addEdge(random.nextInt(vertices), random.nextInt(vertices), 1);
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int query = 0; query < 5; query++) {
+                int source = random.nextInt(vertices);
+                int[] expected = queueBfs(storage, vertices, source, null);
+                BfsResult actual = graph.parallelBfs(source, pool);
+                assertEquals(source, actual.getSource());
+                for (int v = 0; v < vertices; v++) {
+                    assertEquals(expected[v], actual.getDistance(v), "відстань " + source + " -> " + v);
+                    if (expected[v] > 0) {
+                        int parent = actual.getParent(v);
+                        assertEquals(expected[v] - 1, expected[parent], "рівень батька вершини " + v);
+                        assertNotEquals(0.0, storage.getWeight(parent, v), "ребро " + parent + " -> " + v);
+                        assertEquals(expected[v] + 1, actual.getPath(v).size(), "шлях до вершини " + v);
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
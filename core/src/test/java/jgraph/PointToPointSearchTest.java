@@ -0,0 +1,62 @@
+package jgraph;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.LinkedList;
+import java.util.SplittableRandom;
+
+import static jgraph.GraphFixtures.randomGraph;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Перехресна перевірка двонапрямленого алгоритму Дейкстри і A*
+ * з однонапрямленим алгоритмом Дейкстри на випадкових графах
+ */
+
+class PointToPointSearchTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void pointToPointSearchesMatchDijkstra(boolean directed) {
+        SplittableRandom random = new SplittableRandom(directed ? 31 : 32);
+        Graph graph = randomGraph(random, directed, 80, 200, 20);
+        LandmarkHeuristic landmarks = graph.landmarks(4);
+        DistanceHeuristic none = (v, target) -> 0;
+        int n = graph.getVerticesCount();
+        for (int query = 0; query < 300; query++) {
+            int source = random.nextInt(n);
+            int target = query % 10 == 0 ? source : random.nextInt(n);
+            ShortestPathTree tree = graph.dijkstra(source);
+            double expected = tree.hasPathTo(target) ? tree.getDistance(target) : Double.POSITIVE_INFINITY;
+            assertPathLength(graph, source, target, expected, graph.bidirectionalDijkstra(source, target));
+            assertPathLength(graph, source, target, expected, graph.aStar(source, target, landmarks));
+            assertPathLength(graph, source, target, expected, graph.aStar(source, target, none));
+        }
+    }
+
+    private static void assertPathLength(Graph graph, int source, int target, double expected,
+                                         LinkedList<Integer> path) {
+        if (expected == Double.POSITIVE_INFINITY) {
+            assertTrue(path.isEmpty(), "шлях " + source + " -> " + target + " має бути порожнім");
+            return;
+        }
+        assertEquals(source, path.getFirst());
+        assertEquals(target, path.getLast());
+        GraphStorage storage = graph.getStorage();
+        double length = 0;
+        Integer previous = null;
+        for (int v : path) {
+            if (previous != null) {
+                double weight = storage.getWeight(previous, v);
+                assertTrue(weight != 0, "у шляху немає ребра " + previous + " -> " + v);
+                length += weight;
+            }
+            previous = v;
+        }
+        assertEquals(expected, length, EPSILON, "довжина шляху " + source + " -> " + target);
+    }
+}
@@ -0,0 +1,82 @@
+package jgraph;
+
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Порівняння сховищ ребер: ваги всіх пар вершин, степені
+ * та ребра, які повертають курсори вихідних і вхідних ребер
+ */
+
+final class StorageAssertions {
+
+    private StorageAssertions() {
+    }
+
+    /**
+     * Перевіряє, що сховище містить ті самі вершини і ребра, що й еталонне
+     * @param expected еталонне сховище
+     * @param actual сховище, що перевіряється
+     */
+
+    static void assertSameEdges(GraphStorage expected, GraphStorage actual) {
+        int n = expected.verticesCount();
+        assertEquals(n, actual.verticesCount(), "кількість вершин");
+        for (int v = 0; v < n; v++) {
+            TreeMap<Integer, Double> out = new TreeMap<>();
+            TreeMap<Integer, Double> in = new TreeMap<>();
+            for (int u = 0; u < n; u++) {
+                assertEquals(expected.getWeight(v, u), actual.getWeight(v, u), "вага ребра " + v + " -> " + u);
+                if (expected.getWeight(v, u) != 0) out.put(u, expected.getWeight(v, u));
+                if (expected.getWeight(u, v) != 0) in.put(u, expected.getWeight(u, v));
+            }
+            assertEquals(out.size(), actual.outDegree(v), "вихідний степінь вершини " + v);
+            assertEquals(in.size(), actual.inDegree(v), "вхідний степінь вершини " + v);
+            assertEquals(out, outEdges(actual, v), "вихідні ребра вершини " + v);
+            assertEquals(in, inEdges(actual, v), "вхідні ребра вершини " + v);
+        }
+    }
+
+    /**
+     * Копіює вершини і ребра сховища в щільну матрицю суміжності
+     * @param storage сховище, що копіюється
+     * @return незалежна копія сховища
+     */
+
+    static DenseGraphStorage copyToDense(GraphStorage storage) {
+        int n = storage.verticesCount();
+        DenseGraphStorage copy = new DenseGraphStorage(Math.max(1, n));
+        for (int v = 0; v < n; v++) {
+            copy.addVertex();
+        }
+        for (int v = 0; v < n; v++) {
+            for (int e = storage.firstEdge(v); e != GraphStorage.NO_EDGE; e = storage.nextEdge(v, e)) {
+                copy.setWeight(v, storage.edgeTarget(v, e), storage.edgeWeight(v, e));
+            }
+        }
+
+        return copy;
+    }
+
+    private static TreeMap<Integer, Double> outEdges(GraphStorage storage, int v) {
+        TreeMap<Integer, Double> edges = new TreeMap<>();
+        for (int e = storage.firstEdge(v); e != GraphStorage.NO_EDGE; e = storage.nextEdge(v, e)) {
+            Double previous = edges.put(storage.edgeTarget(v, e), storage.edgeWeight(v, e));
+            assertNull(previous, "повторне вихідне ребро вершини " + v);
+        }
+
+        return edges;
+    }
+
+    private static TreeMap<Integer, Double> inEdges(GraphStorage storage, int v) {
+        TreeMap<Integer, Double> edges = new TreeMap<>();
+        for (int e = storage.firstInEdge(v); e != GraphStorage.NO_EDGE; e = storage.nextInEdge(v, e)) {
+            Double previous = edges.put(storage.inEdgeSource(v, e), storage.inEdgeWeight(v, e));
+            assertNull(previous, "повторне вхідне ребро вершини " + v);
+        }
+
+        return edges;
+    }
+}
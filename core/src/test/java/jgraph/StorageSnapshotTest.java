@@ -0,0 +1,55 @@
+package jgraph;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+import static jgraph.StorageAssertions.assertSameEdges;
+import static jgraph.StorageAssertions.copyToDense;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Перевірка знімків сховищ ребер: знімок зберігає вміст сховища на момент створення
+ * після подальших випадкових змін сховища і відхиляє будь-які зміни
+ */
+
+class StorageSnapshotTest {
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("jgraph.GraphStorageTest#storages")
+    void snapshotIsUnchangedByLaterWrites(String name, IntFunction<GraphStorage> factory, boolean unweighted) {
+        SplittableRandom random = new SplittableRandom(name.hashCode() + 1);
+        GraphStorage actual = factory.apply(4);
+        DenseGraphStorage expected = new DenseGraphStorage(4);
+        try {
+            for (int round = 0; round < 10; round++) {
+                for (int step = 0; step < 200; step++) {
+                    GraphStorageTest.randomOperation(random, unweighted, actual, expected);
+                }
+                if (actual.verticesCount() == 0) {
+                    actual.addVertex();
+                    expected.addVertex();
+                }
+                GraphStorage snapshot = actual.snapshot();
+                try {
+                    DenseGraphStorage frozen = copyToDense(actual);
+                    for (int step = 0; step < 200; step++) {
+                        GraphStorageTest.randomOperation(random, unweighted, actual, expected);
+                    }
+                    assertSameEdges(frozen, snapshot);
+                    assertSameEdges(expected, actual);
+                    assertThrows(UnsupportedOperationException.class, () -> snapshot.setWeight(0, 0, 1));
+                    assertThrows(UnsupportedOperationException.class, snapshot::addVertex);
+                    assertThrows(UnsupportedOperationException.class, () -> snapshot.deleteVertex(0));
+                    assertSameEdges(frozen, snapshot);
+                } finally {
+                    GraphStorageTest.close(snapshot);
+                }
+            }
+        } finally {
+            GraphStorageTest.close(actual);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package jgraph;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Перевірка топологічного сортування алгоритмом Кана на випадкових ациклічних графах:
+ * кожне ребро веде вперед за порядком, а шари збігаються з довжинами найдовших шляхів,
+ * знайденими динамічним програмуванням за відомим порядком вершин
+ */
+
+class TopologicalSortTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 100, 500, 2000})
+    void orderAndLayersMatchLongestPaths(int edges) {
+        SplittableRandom random = new SplittableRandom(edges);
+        int n = 300;
+        int[] rank = new int[n];
+        for (int i = 0; i < n; i++) {
+            rank[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = rank[i];
+            rank[i] = rank[j];
+            rank[j] = t;
+        }
+        int[] byRank = new int[n];
+        for (int v = 0; v < n; v++) {
+            byRank[rank[v]] = v;
+        }
+        OrderedGraph graph = new OrderedGraph(n);
+        for (int v = 0; v < n; v++) {
+            graph.addVertex((char) v);
+        }
+        for (int e = 0; e < edges; e++) {
+            int a = random.nextInt(n);
+            int b = random.nextInt(n);
+            if (rank[a] == rank[b]) continue;
+            if (rank[a] > rank[b]) {
+                int t = a;
+                a = b;
+                b = t;
+            }
+            graph.addEdge(a, b, 1);
+        }
+        GraphStorage storage = graph.getStorage();
+
+        int[] order = graph.topologicalOrder();
+        int[] position = new int[n];
+        boolean[] seen = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            assertTrue(!seen[order[i]], "вершина " + order[i] + " повторюється");
+            seen[order[i]] = true;
+            position[order[i]] = i;
+        }
+        for (int u = 0; u < n; u++) {
+            for (int e = storage.firstEdge(u); e != GraphStorage.NO_EDGE; e = storage.nextEdge(u, e)) {
+                int v = storage.edgeTarget(u, e);
+                assertTrue(position[u] < position[v], "ребро " + u + " -> " + v + " веде назад");
+            }
+        }
+
+        int[] depth = new int[n];
+        int maxDepth = -1;
+        for (int r = 0; r < n; r++) {
+            int u = byRank[r];
+            maxDepth = Math.max(maxDepth, depth[u]);
+            for (int e = storage.firstEdge(u); e != GraphStorage.NO_EDGE; e = storage.nextEdge(u, e)) {
+                int v = storage.edgeTarget(u, e);
+                depth[v] = Math.max(depth[v], depth[u] + 1);
+            }
+        }
+        int[][] layers = graph.topologicalLayers();
+        assertEquals(maxDepth + 1, layers.length, "кількість шарів");
+        int total = 0;
+        for (int k = 0; k < layers.length; k++) {
+            for (int v : layers[k]) {
+                assertEquals(depth[v], k, "шар вершини " + v);
+            }
+            total += layers[k].length;
+        }
+        assertEquals(n, total);
+
+        Graph.Vertex[] sorted = graph.topologicalSort();
+        for (int i = 0; i < n; i++) {
+            assertSame(graph.getVertices()[order[i]], sorted[i]);
+        }
+    }
+
+    @Test
+    void cycleIsRejected() {
+        OrderedGraph graph = new OrderedGraph(4);
+        for (int v = 0; v < 4; v++) {
+            graph.addVertex((char) ('a' + v));
+        }
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 1, 1);
+        assertThrows(IllegalStateException.class, graph::topologicalOrder);
+        assertThrows(IllegalStateException.class, graph::topologicalLayers);
+    }
+}
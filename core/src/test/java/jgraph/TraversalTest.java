@@ -0,0 +1,82 @@
+package jgraph;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static jgraph.GraphFixtures.queueBfs;
+import static jgraph.GraphFixtures.randomGraph;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Перехресна перевірка ітеративних обходів в глибину і в ширину
+ * з рекурсивним обходом і обходом з чергою на випадкових графах,
+ * а також дострокового завершення обходу
+ */
+
+class TraversalTest {
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void traversalsMatchReference(boolean directed) {
+        SplittableRandom random = new SplittableRandom(directed ? 61 : 62);
+        Graph graph = randomGraph(random, directed, 200, 500, 9);
+        for (int start = 0; start < graph.getVerticesCount(); start += 7) {
+            List<Integer> dfs = new ArrayList<>();
+            recursiveDfs(graph.getStorage(), start, new boolean[graph.getVerticesCount()], dfs);
+            List<Integer> bfs = new ArrayList<>();
+            queueBfs(graph.getStorage(), graph.getVerticesCount(), start, bfs);
+            assertEquals(dfs, graph.dfs(start), "обхід в глибину з вершини " + start);
+            assertEquals(bfs, graph.bfs(start), "обхід в ширину з вершини " + start);
+            try (IntStream stream = graph.dfsStream(start)) {
+                assertEquals(dfs, stream.boxed().collect(Collectors.toList()));
+            }
+            try (IntStream stream = graph.bfsStream(start)) {
+                assertEquals(bfs, stream.boxed().collect(Collectors.toList()));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void closedTraversalsStopEarly(boolean directed) {
+        SplittableRandom random = new SplittableRandom(directed ? 63 : 64);
+        Graph graph = randomGraph(random, directed, 200, 800, 9);
+        List<Integer> dfs = graph.dfs(0);
+        List<Integer> bfs = graph.bfs(0);
+        for (int round = 0; round < 100; round++) {
+            int skip = round % Math.max(1, dfs.size());
+            try (IntStream stream = graph.dfsStream(0)) {
+                assertEquals(dfs.get(skip), stream.skip(skip).findFirst().getAsInt());
+            }
+            try (IntStream stream = graph.bfsStream(0)) {
+                assertEquals(bfs.get(skip % bfs.size()), stream.skip(skip % bfs.size()).findFirst().getAsInt());
+            }
+        }
+        DepthFirstIterator depth = graph.dfsIterator(0);
+        depth.nextInt();
+        depth.close();
+        assertFalse(depth.hasNext());
+        BreadthFirstIterator breadth = graph.bfsIterator(0);
+        breadth.nextInt();
+        breadth.close();
+        assertFalse(breadth.hasNext());
+        assertEquals(dfs, graph.dfs(0));
+        assertEquals(bfs, graph.bfs(0));
+    }
+
+    private static void recursiveDfs(GraphStorage storage, int v, boolean[] visited, List<Integer> order) {
+        visited[v] = true;
+        order.add(v);
+        for (int e = storage.firstEdge(v); e != GraphStorage.NO_EDGE; e = storage.nextEdge(v, e)) {
+            int u = storage.edgeTarget(v, e);
+            if (!visited[u]) recursiveDfs(storage, u, visited, order);
+        }
+    }
+}